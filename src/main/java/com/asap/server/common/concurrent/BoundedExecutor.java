@@ -0,0 +1,94 @@
+package com.asap.server.common.concurrent;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * 고정 크기 스레드 풀과 제한된 대기열로 작업을 실행하고, 제한 시간까지만 결과를 기다린다.
+ * 대기열이 가득 찼을 때의 처리(거절, 호출 스레드에서 실행)는 사용하는 쪽에서 정한다.
+ */
+public class BoundedExecutor {
+    private final ThreadPoolExecutor executor;
+    private final TaskDecorator taskDecorator;
+
+    public BoundedExecutor(
+            final String threadNamePrefix,
+            final int poolSize,
+            final int queueCapacity,
+            final TaskDecorator taskDecorator
+    ) {
+        this.taskDecorator = taskDecorator;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                createThreadFactory(threadNamePrefix),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * @throws RejectedExecutionException 대기열이 가득 찬 경우
+     */
+    public <T> Future<T> submit(final Callable<T> task) {
+        final FutureTask<T> futureTask = new FutureTask<>(task);
+        executor.execute(taskDecorator.decorate(futureTask));
+        return futureTask;
+    }
+
+    /**
+     * 제한 시간 안에 결과를 받지 못하거나 기다리는 중 인터럽트되면 작업을 취소하고 timeoutException 을 던진다.
+     * 작업에서 발생한 RuntimeException 은 그대로 다시 던진다.
+     */
+    public static <T> T await(
+            final Future<T> future,
+            final long timeoutNanos,
+            final Supplier<? extends RuntimeException> timeoutException
+    ) {
+        try {
+            return future.get(Math.max(0, timeoutNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw timeoutException.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw timeoutException.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static CustomizableThreadFactory createThreadFactory(final String threadNamePrefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
@@ -0,0 +1,104 @@
+package com.asap.server.common.crypto;
+
+import com.asap.server.common.concurrent.BoundedExecutor;
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.ServiceUnavailableException;
+import com.asap.server.common.exception.model.TooManyRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * bcrypt 연산을 요청 스레드가 아닌 코어 수 크기의 전용 스레드 풀에서 수행한다.
+ * 대기열이 가득 차면 429, 제한 시간 안에 결과를 받지 못하면 503 을 반환한다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+    private static final String THREAD_NAME_PREFIX = "password-hashing-";
+    private static final String LATENCY_METRIC = "asap.password.hashing";
+    private static final String QUEUE_METRIC = "asap.password.hashing.queue";
+    private static final String ACTIVE_METRIC = "asap.password.hashing.active";
+    private static final String REJECTED_METRIC = "asap.password.hashing.rejected";
+    private static final String OPERATION_TAG = "operation";
+
+    private final PasswordEncoder delegate;
+    private final BoundedExecutor executor;
+    private final long timeoutNanos;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(
+            final PasswordEncoder delegate,
+            final int poolSize,
+            final int queueCapacity,
+            final long timeoutMillis,
+            final TaskDecorator taskDecorator,
+            final MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        this.executor = new BoundedExecutor(THREAD_NAME_PREFIX, poolSize, queueCapacity, taskDecorator);
+
+        this.encodeTimer = Timer.builder(LATENCY_METRIC)
+                .tag(OPERATION_TAG, "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder(LATENCY_METRIC)
+                .tag(OPERATION_TAG, "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(REJECTED_METRIC)
+                .register(meterRegistry);
+        Gauge.builder(QUEUE_METRIC, executor, BoundedExecutor::getQueueSize)
+                .register(meterRegistry);
+        Gauge.builder(ACTIVE_METRIC, executor, BoundedExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(final Callable<T> task, final Timer timer) {
+        final long startedAt = System.nanoTime();
+        final Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new TooManyRequestException(Error.PASSWORD_HASHING_BUSY_EXCEPTION);
+        }
+
+        try {
+            return BoundedExecutor.await(
+                    future,
+                    timeoutNanos,
+                    () -> new ServiceUnavailableException(Error.PASSWORD_HASHING_TIMEOUT_EXCEPTION)
+            );
+        } finally {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
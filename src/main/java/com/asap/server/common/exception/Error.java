@@ -59,14 +59,29 @@ public enum Error {
      */
     MEETING_VALIDATION_FAILED_EXCEPTION(HttpStatus.CONFLICT, "이미 확정된 회의입니다."),
     HOST_TIME_EXIST_EXCEPTION(HttpStatus.CONFLICT, "이미 가능 시간 입력을 마쳤습니다."),
+    IDEMPOTENCY_KEY_REUSED_EXCEPTION(HttpStatus.CONFLICT, "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."),
+    USER_TIME_SUBMISSION_PENDING_EXCEPTION(HttpStatus.CONFLICT, "가능 시간을 저장하는 중입니다. 잠시 후 다시 시도해주세요."),
+    /**
+     * 413 PAYLOAD TOO LARGE
+     */
+    REQUEST_BODY_TOO_LARGE_EXCEPTION(HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문의 크기가 너무 큽니다."),
     /*
     * 429 TOO MANY REQUEST
      */
     TOO_MANY_REQUEST_EXCEPTION(HttpStatus.TOO_MANY_REQUESTS, "중복된 요청입니다."),
+    LOGIN_ATTEMPT_EXCEEDED_EXCEPTION(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    RATE_LIMIT_EXCEEDED_EXCEPTION(HttpStatus.TOO_MANY_REQUESTS, "요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    PASSWORD_HASHING_BUSY_EXCEPTION(HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     /**
      * 500 INTERNAL SERVER ERROR
      */
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류"),
+    /**
+     * 503 SERVICE UNAVAILABLE
+     */
+    PASSWORD_HASHING_TIMEOUT_EXCEPTION(HttpStatus.SERVICE_UNAVAILABLE, "비밀번호 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+    RETRIEVE_TIMEOUT_EXCEPTION(HttpStatus.SERVICE_UNAVAILABLE, "조회 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+    TIMETABLE_STREAM_LIMIT_EXCEPTION(HttpStatus.SERVICE_UNAVAILABLE, "실시간 시간표 연결이 많습니다. 잠시 후 다시 시도해주세요."),
     ;
 
     private final HttpStatus httpStatus;
@@ -20,6 +20,9 @@ public enum Success {
     LOGIN_SUCCESS(HttpStatus.OK, "로그인 성공입니다"),
     BEST_MEETING_SUCCESS(HttpStatus.OK, "최적의 회의시간 조회 성공입니다."),
     GET_METRICS_SUCCESS(HttpStatus.OK, "메트릭 정보 조회 성공입니다."),
+    FIND_DASHBOARD_SUCCESS(HttpStatus.OK, "방장 대시보드 조회 성공입니다."),
+    FIND_HEATMAP_SUCCESS(HttpStatus.OK, "시간대별 참여 현황 조회 성공입니다."),
+    UPDATE_MEETING_TIME_SUCCESS(HttpStatus.OK, "회의 가능 시간 수정을 성공하였습니다."),
     /**
      * 201 CREATED SUCCESS
      */
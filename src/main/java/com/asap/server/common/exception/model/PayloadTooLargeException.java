@@ -0,0 +1,9 @@
+package com.asap.server.common.exception.model;
+
+import com.asap.server.common.exception.Error;
+
+public class PayloadTooLargeException extends AsapException {
+    public PayloadTooLargeException(final Error error) {
+        super(error);
+    }
+}
@@ -0,0 +1,14 @@
+package com.asap.server.common.exception.model;
+
+import com.asap.server.common.exception.Error;
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends TooManyRequestException {
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(final Error error, final long retryAfterSeconds) {
+        super(error);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
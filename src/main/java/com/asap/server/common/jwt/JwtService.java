@@ -18,6 +18,8 @@ import java.util.Date;
 
 @Service
 public class JwtService {
+    private static final String USER_ID_CLAIM = "userId";
+    private static final String SUBMISSION_ID_CLAIM = "submissionId";
 
     @Value("${jwt.secret}")
     private String jwtSecret;
@@ -29,6 +31,15 @@ public class JwtService {
     }
 
     public String issuedToken(String userId) {
+        return issuedToken(USER_ID_CLAIM, userId);
+    }
+
+    // 비동기로 접수해 참여자 id 가 아직 없는 경우 접수 id 로 토큰을 발급한다.
+    public String issuedSubmissionToken(String submissionId) {
+        return issuedToken(SUBMISSION_ID_CLAIM, submissionId);
+    }
+
+    private String issuedToken(String claimName, String value) {
         final Date now = new Date();
 
         final Claims claims = Jwts.claims()
@@ -36,7 +47,7 @@ public class JwtService {
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + 24 * 60 * 60 * 1000L));
 
-        claims.put("userId",userId);
+        claims.put(claimName, value);
         claims.put("role", "HOST");
 
         return Jwts.builder()
@@ -73,6 +84,11 @@ public class JwtService {
     // JWT 토큰 내용 확인
     public String getJwtContents(String token) {
         final Claims claims = getBody(token);
-        return (String) claims.get("userId");
+        return (String) claims.get(USER_ID_CLAIM);
+    }
+
+    public String getSubmissionId(String token) {
+        final Claims claims = getBody(token);
+        return (String) claims.get(SUBMISSION_ID_CLAIM);
     }
 }
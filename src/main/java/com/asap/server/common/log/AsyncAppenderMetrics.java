@@ -0,0 +1,42 @@
+package com.asap.server.common.log;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Iterator;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 루트 로거에 붙은 MeteredAsyncAppender 의 큐 적재량과 버린 이벤트 수를 노출한다.
+ */
+@Component
+public class AsyncAppenderMetrics implements MeterBinder {
+    private static final String QUEUE_METRIC = "asap.logging.async.queue";
+    private static final String DROPPED_METRIC = "asap.logging.async.dropped";
+    private static final String APPENDER_TAG = "appender";
+
+    @Override
+    public void bindTo(final MeterRegistry meterRegistry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+            return;
+        }
+
+        Iterator<Appender<ILoggingEvent>> appenders = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof MeteredAsyncAppender appender) {
+                Gauge.builder(QUEUE_METRIC, appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                        .tag(APPENDER_TAG, appender.getName())
+                        .register(meterRegistry);
+                FunctionCounter.builder(DROPPED_METRIC, appender, MeteredAsyncAppender::getDroppedCount)
+                        .tag(APPENDER_TAG, appender.getName())
+                        .register(meterRegistry);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.asap.server.common.log;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 버린 이벤트 수를 세는 AsyncAppender.
+ * 큐 여유가 discardingThreshold 아래로 내려가면 INFO 이하 이벤트를 버리고,
+ * neverBlock 이면 큐가 가득 찼을 때 요청 스레드를 막지 않고 이벤트를 버린다.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /**
+     * AsyncAppenderBase 는 offer 결과를 버리므로, offer 하기 전에 큐가 가득 찼는지 보고 직접 버리면서 센다.
+     * 요청 스레드끼리 잠그지 않기 때문에 확인한 뒤 offer 하기 전에 다른 스레드가 큐를 채우면 그 이벤트는 세지 못한다.
+     * 따라서 버린 수는 실제보다 작을 수 있는 근사치다.
+     */
+    @Override
+    protected void append(final ILoggingEvent eventObject) {
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        super.append(eventObject);
+    }
+
+    @Override
+    protected boolean isDiscardable(final ILoggingEvent event) {
+        final boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            droppedCount.incrementAndGet();
+        }
+        return discardable;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+}
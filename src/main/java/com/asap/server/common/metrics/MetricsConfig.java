@@ -0,0 +1,33 @@
+package com.asap.server.common.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+    private static final String HISTOGRAM_PREFIX = "asap.recommend";
+
+    /**
+     * 추천 단계와 리포지토리 호출은 Prometheus 에서 분위수를 계산할 수 있도록 히스토그램 버킷을 함께 내보낸다.
+     */
+    @Bean
+    public MeterFilter histogramMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(final Meter.Id id, final DistributionStatisticConfig config) {
+                if (id.getType() != Meter.Type.TIMER
+                        || (!id.getName().startsWith(HISTOGRAM_PREFIX)
+                        && !id.getName().equals(RecommendationMetricsAspect.REPOSITORY_METRIC))) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package com.asap.server.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회의 시간 추천의 단계별 수행 시간과 단계마다 다루는 데이터 수를 기록한다.
+ * 느린 요청이 DB 조회와 추천 알고리즘 중 어디에서 시간을 쓰는지 구분하기 위해 사용한다.
+ */
+@Aspect
+@Component
+public class RecommendationMetricsAspect {
+    public static final String STAGE_METRIC = "asap.recommend.stage";
+    public static final String SIZE_METRIC = "asap.recommend.size";
+    public static final String REPOSITORY_METRIC = "spring.data.repository.invocations";
+    private static final String STAGE_TAG = "stage";
+
+    private final MeterRegistry meterRegistry;
+
+    public RecommendationMetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.asap.server.service.time.UserMeetingScheduleService.getTimeBlocks(..))")
+    public Object timeBlocks(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "time-blocks");
+    }
+
+    @Around("execution(* com.asap.server.service.time.MeetingTimeRecommendService.getBestMeetingTime(..))")
+    public Object bestMeetingTime(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "recommend");
+    }
+
+    @Around("execution(* com.asap.server.service.time.strategy.MeetingTimeCasesStrategy+.find(..))")
+    public Object timeCases(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "cases");
+    }
+
+    @Around("execution(* com.asap.server.service.time.strategy.ContinuousMeetingTimeStrategy+.find(..))")
+    public Object candidates(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "candidates");
+    }
+
+    @Around("execution(* com.asap.server.service.time.strategy.BestMeetingTimeStrategy+.find(..))")
+    public Object bestMeetingTimes(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "best-times");
+    }
+
+    /**
+     * Spring Data 리포지토리는 actuator 가 spring.data.repository.invocations 로 측정하므로,
+     * QueryDSL 로 직접 구현한 MetricsRepository 만 같은 이름과 태그로 측정한다.
+     */
+    @Around("execution(public * com.asap.server.persistence.repository.internal.MetricsRepository.*(..))")
+    public Object metricsRepository(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String state = "SUCCESS";
+        String exception = "None";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            state = "ERROR";
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(REPOSITORY_METRIC)
+                    .tag("repository", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("state", state)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    private Object record(final ProceedingJoinPoint joinPoint, final String stage) throws Throwable {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            final Object result = joinPoint.proceed();
+            if (result instanceof Collection<?> collection) {
+                DistributionSummary.builder(SIZE_METRIC)
+                        .tag(STAGE_TAG, stage)
+                        .register(meterRegistry)
+                        .record(collection.size());
+            }
+            return result;
+        } finally {
+            sample.stop(Timer.builder(STAGE_METRIC)
+                    .tag(STAGE_TAG, stage)
+                    .register(meterRegistry));
+        }
+    }
+}
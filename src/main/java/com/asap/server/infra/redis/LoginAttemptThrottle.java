@@ -0,0 +1,115 @@
+package com.asap.server.infra.redis;
+
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.TooManyRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScoredSortedSetAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방장 로그인 실패를 IP 별, 회의별 슬라이딩 윈도우로 집계한다.
+ * 비밀번호가 틀린 시도만 기록하고, 제한을 넘긴 시도는 bcrypt 검증 전에 기록 없이 거절한다.
+ * IP 제한을 먼저 확인해 한 IP 에서 몰아치는 시도가 회의 단위 윈도우까지 채우지 못하게 한다.
+ */
+@Slf4j
+@Component
+public class LoginAttemptThrottle {
+    private static final String MEETING_KEY_FORMAT = "ASAP_LOGIN_ATTEMPT:MEETING:%d";
+    private static final String IP_KEY_FORMAT = "ASAP_LOGIN_ATTEMPT:IP:%s";
+    private static final String REJECTED_METRIC = "asap.login.throttled";
+    private static final String SCOPE_TAG = "scope";
+
+    private final RedissonClient redissonClient;
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int meetingLimit;
+    private final int ipLimit;
+    private final Counter meetingRejectedCounter;
+    private final Counter ipRejectedCounter;
+
+    public LoginAttemptThrottle(
+            final RedissonClient redissonClient,
+            final MeterRegistry meterRegistry,
+            @Value("${asap.login-throttle.enabled:true}") final boolean enabled,
+            @Value("${asap.login-throttle.window-seconds:600}") final long windowSeconds,
+            @Value("${asap.login-throttle.meeting-limit:10}") final int meetingLimit,
+            @Value("${asap.login-throttle.ip-limit:30}") final int ipLimit
+    ) {
+        this.redissonClient = redissonClient;
+        this.enabled = enabled;
+        this.windowMillis = Duration.ofSeconds(windowSeconds).toMillis();
+        this.meetingLimit = meetingLimit;
+        this.ipLimit = ipLimit;
+        this.meetingRejectedCounter = Counter.builder(REJECTED_METRIC)
+                .tag(SCOPE_TAG, "meeting")
+                .register(meterRegistry);
+        this.ipRejectedCounter = Counter.builder(REJECTED_METRIC)
+                .tag(SCOPE_TAG, "ip")
+                .register(meterRegistry);
+    }
+
+    public void check(final Long meetingId, final String clientIp) {
+        if (!enabled) {
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        if (clientIp != null && isExceeded(String.format(IP_KEY_FORMAT, clientIp), ipLimit, now)) {
+            ipRejectedCounter.increment();
+            throw new TooManyRequestException(Error.LOGIN_ATTEMPT_EXCEEDED_EXCEPTION);
+        }
+        if (isExceeded(String.format(MEETING_KEY_FORMAT, meetingId), meetingLimit, now)) {
+            meetingRejectedCounter.increment();
+            throw new TooManyRequestException(Error.LOGIN_ATTEMPT_EXCEEDED_EXCEPTION);
+        }
+    }
+
+    /**
+     * 비밀번호 검증에 실패한 시도만 기록한다.
+     */
+    public void recordFailure(final Long meetingId, final String clientIp) {
+        if (!enabled) {
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        try {
+            RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+            if (clientIp != null) {
+                record(batch, String.format(IP_KEY_FORMAT, clientIp), now);
+            }
+            record(batch, String.format(MEETING_KEY_FORMAT, meetingId), now);
+            batch.execute();
+        } catch (RuntimeException e) {
+            log.warn("login failure not recorded : {}", e.getMessage());
+        }
+    }
+
+    private void record(final RBatch batch, final String key, final long now) {
+        RScoredSortedSetAsync<String> failures = batch.getScoredSortedSet(key, StringCodec.INSTANCE);
+        failures.removeRangeByScoreAsync(0, true, now - windowMillis, false);
+        failures.addAsync(now, UUID.randomUUID().toString());
+        failures.expireAsync(Duration.ofMillis(windowMillis));
+    }
+
+    private boolean isExceeded(final String key, final int limit, final long now) {
+        try {
+            RScoredSortedSet<String> failures = redissonClient.getScoredSortedSet(key, StringCodec.INSTANCE);
+            return failures.count(now - windowMillis, false, Double.POSITIVE_INFINITY, true) >= limit;
+        } catch (RuntimeException e) {
+            // Redis 장애로 로그인 자체가 막히지 않도록 제한 없이 통과시킨다.
+            log.warn("login attempt throttle skipped : {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.asap.server.infra.redis;
+
+import com.asap.server.service.time.dto.stream.TimeTableChangeDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시간표 변경분을 Redis pub/sub 으로 모든 노드에 전달한다.
+ * 구독 중인 노드가 없을 때 발행된 메시지는 저장하지 않고 버린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimeTableChangeTopic {
+    private static final String TOPIC_KEY = "ASAP_TIMETABLE:CHANGES";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+
+    public void publish(final TimeTableChangeDto change) {
+        try {
+            getTopic().publishAsync(objectMapper.writeValueAsString(change));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public int subscribe(final Consumer<TimeTableChangeDto> listener) {
+        return getTopic().addListener(String.class, (channel, message) -> {
+            try {
+                listener.accept(objectMapper.readValue(message, TimeTableChangeDto.class));
+            } catch (JsonProcessingException e) {
+                log.error("invalid time table change : {}", e.getMessage());
+            }
+        });
+    }
+
+    public void unsubscribe(final int listenerId) {
+        getTopic().removeListener(listenerId);
+    }
+
+    private RTopic getTopic() {
+        return redissonClient.getTopic(TOPIC_KEY, StringCodec.INSTANCE);
+    }
+}
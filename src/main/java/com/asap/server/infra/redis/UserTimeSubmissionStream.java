@@ -0,0 +1,158 @@
+package com.asap.server.infra.redis;
+
+import com.asap.server.service.time.dto.register.UserTimeSubmissionDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.api.stream.StreamCreateGroupArgs;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+/**
+ * 참여자 가능 시간 제출을 Redis Stream 에 쌓고, 소비자 그룹으로 나누어 읽는다.
+ * ack 하기 전에 소비자가 죽으면 다른 소비자가 autoClaim 으로 이어받는다.
+ * 계속 실패하는 메시지는 dead letter 스트림으로 옮겨 운영자가 확인할 수 있게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserTimeSubmissionStream {
+    private static final String STREAM_KEY = "ASAP_INGESTION:USER_TIME";
+    private static final String GROUP_NAME = "asap-user-time-writer";
+    private static final String DEAD_LETTER_KEY = "ASAP_INGESTION:USER_TIME:DEAD";
+    private static final String PAYLOAD_FIELD = "payload";
+    private static final String ORIGINAL_ID_FIELD = "original-id";
+    private static final Comparator<StreamMessageId> ID_ORDER = Comparator
+            .comparingLong(StreamMessageId::getId0)
+            .thenComparingLong(StreamMessageId::getId1);
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+
+    public void append(final UserTimeSubmissionDto submission) {
+        try {
+            getStream().add(StreamAddArgs.entry(PAYLOAD_FIELD, objectMapper.writeValueAsString(submission)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void createGroupIfAbsent() {
+        try {
+            getStream().createGroup(StreamCreateGroupArgs.name(GROUP_NAME).id(StreamMessageId.ALL).makeStream());
+        } catch (RedisException e) {
+            // 이미 그룹이 있으면 BUSYGROUP 오류가 발생한다.
+            log.debug("user time stream group already exists : {}", e.getMessage());
+        }
+    }
+
+    public Map<StreamMessageId, UserTimeSubmissionDto> read(
+            final String consumerName,
+            final int count,
+            final Duration timeout
+    ) {
+        return deserialize(getStream().readGroup(
+                GROUP_NAME,
+                consumerName,
+                StreamReadGroupArgs.neverDelivered().count(count).timeout(timeout)
+        ));
+    }
+
+    public Map<StreamMessageId, UserTimeSubmissionDto> claimStale(
+            final String consumerName,
+            final int count,
+            final Duration idleTime
+    ) {
+        return deserialize(getStream().autoClaim(
+                GROUP_NAME,
+                consumerName,
+                idleTime.toMillis(),
+                TimeUnit.MILLISECONDS,
+                StreamMessageId.ALL,
+                count
+        ).getMessages());
+    }
+
+    /**
+     * 이 소비자가 가지고 있는 메시지가 지금까지 몇 번 전달되었는지 조회한다.
+     */
+    public Map<StreamMessageId, Long> deliveryCounts(
+            final String consumerName,
+            final Collection<StreamMessageId> ids
+    ) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<StreamMessageId, Long> counts = new HashMap<>();
+        getStream().listPending(
+                GROUP_NAME,
+                consumerName,
+                Collections.min(ids, ID_ORDER),
+                Collections.max(ids, ID_ORDER),
+                ids.size()
+        ).forEach(entry -> counts.put(entry.getId(), entry.getLastTimeDelivered()));
+        return counts;
+    }
+
+    public void deadLetter(final StreamMessageId id, final UserTimeSubmissionDto submission) {
+        try {
+            deadLetter(id, objectMapper.writeValueAsString(submission));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void deadLetter(final StreamMessageId id, final String payload) {
+        redissonClient.<String, String>getStream(DEAD_LETTER_KEY, StringCodec.INSTANCE)
+                .add(StreamAddArgs.entries(Map.of(PAYLOAD_FIELD, payload, ORIGINAL_ID_FIELD, id.toString())));
+        acknowledge(id);
+    }
+
+    public void acknowledge(final StreamMessageId... ids) {
+        if (ids.length == 0) {
+            return;
+        }
+        RStream<String, String> stream = getStream();
+        stream.ack(GROUP_NAME, ids);
+        stream.remove(ids);
+    }
+
+    public long size() {
+        return getStream().size();
+    }
+
+    private Map<StreamMessageId, UserTimeSubmissionDto> deserialize(
+            final Map<StreamMessageId, Map<String, String>> messages
+    ) {
+        Map<StreamMessageId, UserTimeSubmissionDto> submissions = new LinkedHashMap<>();
+        messages.forEach((id, fields) -> {
+            try {
+                submissions.put(id, objectMapper.readValue(fields.get(PAYLOAD_FIELD), UserTimeSubmissionDto.class));
+            } catch (JsonProcessingException e) {
+                // 읽을 수 없는 메시지는 다시 시도해도 실패하므로 바로 dead letter 로 옮긴다.
+                log.error("invalid user time submission {} : {}", id, e.getMessage());
+                deadLetter(id, String.valueOf(fields.get(PAYLOAD_FIELD)));
+            }
+        });
+        return submissions;
+    }
+
+    private RStream<String, String> getStream() {
+        return redissonClient.getStream(STREAM_KEY, StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,38 @@
+package com.asap.server.infra.slack;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Instant;
+
+/**
+ * 알림에 필요한 정보를 요청 스레드에서 미리 꺼내 둔 값.
+ * 요청 객체는 응답이 끝나면 재사용되므로 알림 스레드로 넘기지 않는다.
+ */
+public record ErrorAlert(
+        String exceptionType,
+        String exception,
+        String origin,
+        String requestMethod,
+        String requestUrl,
+        Instant occurredAt
+) {
+    private static final String UNKNOWN_ORIGIN = "unknown";
+
+    public static ErrorAlert of(final Exception error, final HttpServletRequest request) {
+        final StackTraceElement[] stackTrace = error.getStackTrace();
+        return new ErrorAlert(
+                error.getClass().getName(),
+                error.toString(),
+                stackTrace.length == 0 ? UNKNOWN_ORIGIN : stackTrace[0].toString(),
+                request.getMethod(),
+                request.getRequestURL().toString(),
+                Instant.now()
+        );
+    }
+
+    /**
+     * 메시지에 id 같은 값이 섞여도 같은 곳에서 난 같은 예외는 하나로 묶는다.
+     */
+    public String fingerprint() {
+        return exceptionType + "@" + origin;
+    }
+}
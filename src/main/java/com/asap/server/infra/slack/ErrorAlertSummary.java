@@ -0,0 +1,6 @@
+package com.asap.server.infra.slack;
+
+import java.time.Instant;
+
+public record ErrorAlertSummary(ErrorAlert sample, int count, Instant lastOccurredAt) {
+}
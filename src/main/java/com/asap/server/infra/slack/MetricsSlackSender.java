@@ -2,31 +2,55 @@ package com.asap.server.infra.slack;
 
 import static com.slack.api.model.block.composition.BlockCompositions.plainText;
 
+import com.asap.server.persistence.domain.enums.OutboxEventType;
+import com.asap.server.service.outbox.OutboxEventHandler;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.slack.api.Slack;
 import com.slack.api.model.block.Blocks;
 import com.slack.api.model.block.LayoutBlock;
 import com.slack.api.model.block.composition.BlockCompositions;
 import com.slack.api.webhook.WebhookPayloads;
+import com.slack.api.webhook.WebhookResponse;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+/**
+ * 아웃박스에 저장된 지표 이벤트를 슬랙으로 보낸다.
+ */
 @Component
-public class MetricsSlackEventListener {
-    @Value("${slack.webhook.metrics-url}")
-    private String webhookUrl;
+public class MetricsSlackSender implements OutboxEventHandler {
+    private static final TypeReference<Map<String, String>> METRICS_TYPE = new TypeReference<>() {
+    };
 
-    @Async
-    @EventListener
-    public void sendMetrics(final MetricsEvent metricsEvent) throws IOException {
-        List<LayoutBlock> layoutBlocks = generateLayoutBlock(metricsEvent.metrics());
+    private final ObjectMapper objectMapper;
+    private final String webhookUrl;
 
-        Slack.getInstance().send(webhookUrl, WebhookPayloads
+    public MetricsSlackSender(
+            final ObjectMapper objectMapper,
+            @Value("${slack.webhook.metrics-url}") final String webhookUrl
+    ) {
+        this.objectMapper = objectMapper;
+        this.webhookUrl = webhookUrl;
+    }
+
+    @Override
+    public OutboxEventType getType() {
+        return OutboxEventType.METRICS;
+    }
+
+    @Override
+    public void handle(final String payload) throws IOException {
+        List<LayoutBlock> layoutBlocks = generateLayoutBlock(objectMapper.readValue(payload, METRICS_TYPE));
+
+        WebhookResponse response = Slack.getInstance().send(webhookUrl, WebhookPayloads
                 .payload(p -> p.blocks(layoutBlocks)));
+        if (response.getCode() >= 300) {
+            throw new IOException("slack webhook responded " + response.getCode());
+        }
     }
 
     private List<LayoutBlock> generateLayoutBlock(final Map<String, String> metrics) {
@@ -0,0 +1,216 @@
+package com.asap.server.infra.slack;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 500 에러 알림을 요청 스레드에서 바로 보내지 않고 모아 두었다가 일정 주기마다 한 번에 보낸다.
+ * 같은 곳에서 난 같은 예외는 횟수만 세고, 전송에 실패하면 간격을 늘려가며 다시 시도한다.
+ * 모아 둔 종류가 상한을 넘으면 새 종류의 알림은 버린다.
+ */
+@Slf4j
+@Component
+public class SlackAlertDispatcher implements SmartLifecycle {
+    private static final String THREAD_NAME_PREFIX = "slack-alert-";
+    private static final String PENDING_METRIC = "asap.slack.alert.pending";
+    private static final String RESULT_METRIC = "asap.slack.alert";
+    private static final String RESULT_TAG = "result";
+    // 슬랙 메시지 하나에 담을 수 있는 블록 수(50) 안에서 알림을 나눠 보낸다.
+    private static final int MAX_ALERTS_PER_MESSAGE = 10;
+
+    private final SlackUtil slackUtil;
+    private final long windowMillis;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final int maxPendingAlerts;
+    private final Map<String, AlertGroup> pending = new ConcurrentHashMap<>();
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public SlackAlertDispatcher(
+            final SlackUtil slackUtil,
+            final MeterRegistry meterRegistry,
+            @Value("${asap.slack.alert.window-millis:10000}") final long windowMillis,
+            @Value("${asap.slack.alert.max-attempts:3}") final int maxAttempts,
+            @Value("${asap.slack.alert.initial-backoff-millis:500}") final long initialBackoffMillis,
+            @Value("${asap.slack.alert.max-pending:100}") final int maxPendingAlerts
+    ) {
+        this.slackUtil = slackUtil;
+        this.windowMillis = windowMillis;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxPendingAlerts = maxPendingAlerts;
+        this.sentCounter = Counter.builder(RESULT_METRIC)
+                .tag(RESULT_TAG, "sent")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(RESULT_METRIC)
+                .tag(RESULT_TAG, "failed")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder(RESULT_METRIC)
+                .tag(RESULT_TAG, "dropped")
+                .register(meterRegistry);
+        Gauge.builder(PENDING_METRIC, pending, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 스레드에서 호출한다. 네트워크 호출 없이 알림을 모아 두기만 한다.
+     */
+    public void enqueue(final Exception error, final HttpServletRequest request) {
+        final ErrorAlert alert = ErrorAlert.of(error, request);
+        final String fingerprint = alert.fingerprint();
+        while (true) {
+            if (!pending.containsKey(fingerprint) && pending.size() >= maxPendingAlerts) {
+                droppedCounter.increment();
+                return;
+            }
+            final AlertGroup group = pending.computeIfAbsent(fingerprint, key -> new AlertGroup(alert));
+            if (group.add(alert.occurredAt())) {
+                return;
+            }
+            // 전송하려고 꺼낸 묶음이면 새 묶음을 만든다.
+            pending.remove(fingerprint, group);
+        }
+    }
+
+    /**
+     * 모아 둔 알림을 보낸다. 스케줄러 스레드에서 주기적으로 호출된다.
+     */
+    public void flush() {
+        final List<ErrorAlertSummary> summaries = new ArrayList<>();
+        for (String fingerprint : pending.keySet()) {
+            final AlertGroup group = pending.remove(fingerprint);
+            if (group == null) {
+                continue;
+            }
+            final ErrorAlertSummary summary = group.close();
+            if (summary.count() > 0) {
+                summaries.add(summary);
+            }
+        }
+
+        for (int from = 0; from < summaries.size(); from += MAX_ALERTS_PER_MESSAGE) {
+            send(summaries.subList(from, Math.min(from + MAX_ALERTS_PER_MESSAGE, summaries.size())));
+        }
+    }
+
+    private void send(final List<ErrorAlertSummary> summaries) {
+        long backoffMillis = initialBackoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                final int code = slackUtil.sendAlerts(summaries);
+                if (!isRetryable(code)) {
+                    if (code >= 400) {
+                        log.warn("slack alert rejected : {}", code);
+                    }
+                    sentCounter.increment();
+                    return;
+                }
+                log.warn("slack alert failed : {} (attempt {})", code, attempt);
+            } catch (IOException | RuntimeException e) {
+                log.warn("slack alert failed : {} (attempt {})", e.getMessage(), attempt);
+            }
+
+            if (attempt >= maxAttempts || !sleep(backoffMillis)) {
+                failedCounter.increment();
+                log.error("slack alert dropped after {} attempts", attempt);
+                return;
+            }
+            backoffMillis *= 2;
+        }
+    }
+
+    private boolean isRetryable(final int code) {
+        return code == 429 || code >= 500;
+    }
+
+    private boolean sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+        scheduler.scheduleWithFixedDelay(this::flushSafely, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(windowMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 직전까지 모인 알림도 보낸다.
+        flushSafely();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("slack alert flush failed : {}", e.getMessage(), e);
+        }
+    }
+
+    private static class AlertGroup {
+        private final ErrorAlert sample;
+        private int count;
+        private Instant lastOccurredAt;
+        private boolean closed;
+
+        private AlertGroup(final ErrorAlert sample) {
+            this.sample = sample;
+            this.lastOccurredAt = sample.occurredAt();
+        }
+
+        private synchronized boolean add(final Instant occurredAt) {
+            if (closed) {
+                return false;
+            }
+            count++;
+            if (occurredAt.isAfter(lastOccurredAt)) {
+                lastOccurredAt = occurredAt;
+            }
+            return true;
+        }
+
+        private synchronized ErrorAlertSummary close() {
+            closed = true;
+            return new ErrorAlertSummary(sample, count, lastOccurredAt);
+        }
+    }
+}
@@ -1,86 +1,83 @@
 package com.asap.server.infra.slack;
 
+import static com.slack.api.model.block.composition.BlockCompositions.plainText;
+
 import com.slack.api.Slack;
 import com.slack.api.model.block.Blocks;
 import com.slack.api.model.block.LayoutBlock;
 import com.slack.api.model.block.composition.BlockCompositions;
-import com.slack.api.webhook.Payload;
 import com.slack.api.webhook.WebhookPayloads;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-
+import com.slack.api.webhook.WebhookResponse;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import jakarta.servlet.http.HttpServletRequest;
-import java.io.IOException;
-
-import static com.slack.api.model.block.composition.BlockCompositions.plainText;
-
 @Component
-@RequiredArgsConstructor
-@Slf4j
 public class SlackUtil {
+    private static final String NEW_LINE = "\n";
+    private static final String DOUBLE_NEW_LINE = "\n\n";
 
-    @Value("${slack.webhook.url}")
-    private String webhookUrl;
-    private final StringBuilder sb= new StringBuilder();
+    private final String webhookUrl;
 
-    private final String NEW_LINE = "\n";
-    private final String DOUBLE_NEW_LINE = "\n\n";
+    public SlackUtil(@Value("${slack.webhook.url}") final String webhookUrl) {
+        this.webhookUrl = webhookUrl;
+    }
 
-    public void sendAlert(Exception error, HttpServletRequest request) throws IOException{
-        List<LayoutBlock> layoutBlocks= generateLayoutBlock(error,request);
+    /**
+     * 같은 예외끼리 묶은 알림을 하나의 메시지로 보내고 웹훅의 응답 코드를 돌려준다.
+     */
+    public int sendAlerts(final List<ErrorAlertSummary> summaries) throws IOException {
+        List<LayoutBlock> layoutBlocks = generateLayoutBlock(summaries);
 
-        Slack.getInstance().send(webhookUrl, WebhookPayloads
+        WebhookResponse response = Slack.getInstance().send(webhookUrl, WebhookPayloads
                 .payload(p -> p.blocks(layoutBlocks)));
+        return response.getCode();
     }
 
-    private List<LayoutBlock> generateLayoutBlock(Exception error, HttpServletRequest request) {
-        return Blocks.asBlocks(
-                getHeader("Internal Server Error Detected"),
-                Blocks.divider(),
-                getSection(generateErrorMessage(error)),
-                Blocks.divider(),
-                getSection(generateErrorPointMessage(request)),
-                Blocks.divider(),
-                getSection("<https://github.com/ASAP-as-soon-as-posiible/ASAP_Server/issues | Go To Make Issue >")
-        );
+    private List<LayoutBlock> generateLayoutBlock(final List<ErrorAlertSummary> summaries) {
+        List<LayoutBlock> layoutBlocks = new ArrayList<>();
+        layoutBlocks.add(getHeader("Internal Server Error Detected"));
+        for (ErrorAlertSummary summary : summaries) {
+            layoutBlocks.add(Blocks.divider());
+            layoutBlocks.add(getSection(generateErrorMessage(summary)));
+            layoutBlocks.add(getSection(generateErrorPointMessage(summary)));
+        }
+        layoutBlocks.add(Blocks.divider());
+        layoutBlocks.add(getSection("<https://github.com/ASAP-as-soon-as-posiible/ASAP_Server/issues | Go To Make Issue >"));
+        return layoutBlocks;
     }
 
-
-    private String generateErrorMessage(Exception error) {
-        sb.setLength(0);
-        sb.append("*[Exception]*").append(NEW_LINE).append(error.toString()).append(DOUBLE_NEW_LINE);
-        sb.append("*[From]*").append(NEW_LINE).append(readRootStackTrace(error)).append(DOUBLE_NEW_LINE);
+    private String generateErrorMessage(final ErrorAlertSummary summary) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("*[Exception]*").append(NEW_LINE).append(summary.sample().exception()).append(DOUBLE_NEW_LINE);
+        sb.append("*[From]*").append(NEW_LINE).append(summary.sample().origin()).append(DOUBLE_NEW_LINE);
+        sb.append("*[Count]*").append(NEW_LINE).append(summary.count()).append(DOUBLE_NEW_LINE);
 
         return sb.toString();
     }
 
-    private String generateErrorPointMessage(HttpServletRequest request) {
-        sb.setLength(0);
+    private String generateErrorPointMessage(final ErrorAlertSummary summary) {
+        StringBuilder sb = new StringBuilder();
         sb.append("*[Details]*").append(NEW_LINE);
-        sb.append("Request URL : ").append(request.getRequestURL().toString()).append(NEW_LINE);
-        sb.append("Request Method : ").append(request.getMethod()).append(NEW_LINE);
-        sb.append("Request Time : ").append(new Date()).append(NEW_LINE);
+        sb.append("Request URL : ").append(summary.sample().requestUrl()).append(NEW_LINE);
+        sb.append("Request Method : ").append(summary.sample().requestMethod()).append(NEW_LINE);
+        sb.append("First Occurred : ").append(Date.from(summary.sample().occurredAt())).append(NEW_LINE);
+        sb.append("Last Occurred : ").append(Date.from(summary.lastOccurredAt())).append(NEW_LINE);
 
         return sb.toString();
     }
 
-    private String readRootStackTrace(Exception error) {
-        return error.getStackTrace()[0].toString();
-    }
-
-    private LayoutBlock getHeader(String text) {
-        return Blocks.header(h->h.text(
-                plainText(pt->pt.emoji(true)
+    private LayoutBlock getHeader(final String text) {
+        return Blocks.header(h -> h.text(
+                plainText(pt -> pt.emoji(true)
                         .text(text))));
     }
 
-    private LayoutBlock getSection(String message) {
-        return Blocks.section(s->
+    private LayoutBlock getSection(final String message) {
+        return Blocks.section(s ->
                 s.text(BlockCompositions.markdownText(message)));
     }
 }
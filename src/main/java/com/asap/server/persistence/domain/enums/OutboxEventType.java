@@ -0,0 +1,5 @@
+package com.asap.server.persistence.domain.enums;
+
+public enum OutboxEventType {
+    METRICS
+}
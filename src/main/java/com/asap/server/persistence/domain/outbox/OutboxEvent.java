@@ -0,0 +1,74 @@
+package com.asap.server.persistence.domain.outbox;
+
+import com.asap.server.persistence.domain.AuditingTimeEntity;
+import com.asap.server.persistence.domain.enums.OutboxEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 트랜잭션 안에서 함께 저장하고, 커밋된 뒤 OutboxDispatcher 가 꺼내 외부로 보내는 이벤트.
+ * availableAt 이전에는 다른 노드가 가져가지 않으므로 선점 기간과 재시도 대기 시간을 함께 표현한다.
+ * 재시도 횟수를 다 쓴 이벤트는 failedAt 을 남기고 더 이상 보내지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_outbox_event_publishable", columnList = "published_at, failed_at, available_at"))
+public class OutboxEvent extends AuditingTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private OutboxEventType type;
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+    @ColumnDefault(value = "0")
+    private int attempts;
+    private LocalDateTime publishedAt;
+    private LocalDateTime failedAt;
+
+    @Builder
+    private OutboxEvent(
+            final OutboxEventType type,
+            final String payload,
+            final LocalDateTime availableAt
+    ) {
+        this.type = type;
+        this.payload = payload;
+        this.availableAt = availableAt;
+    }
+
+    public void lease(final LocalDateTime until) {
+        this.availableAt = until;
+    }
+
+    public void publish(final LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+
+    public void retryAt(final LocalDateTime availableAt) {
+        this.attempts++;
+        this.availableAt = availableAt;
+    }
+
+    public void fail(final LocalDateTime failedAt) {
+        this.attempts++;
+        this.failedAt = failedAt;
+    }
+}
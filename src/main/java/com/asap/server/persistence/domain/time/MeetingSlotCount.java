@@ -0,0 +1,65 @@
+package com.asap.server.persistence.domain.time;
+
+import com.asap.server.persistence.domain.enums.TimeSlot;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회의의 날짜, 시간대별로 가능하다고 입력한 참여자 수와 우선순위 합계.
+ * 가능 시간을 저장할 때 같은 트랜잭션에서 증감한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_meeting_slot_count",
+        columnNames = {"meeting_id", "available_date", "time_slot"}
+))
+public class MeetingSlotCount {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private Long meetingId;
+    @Column(nullable = false)
+    private LocalDate availableDate;
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private TimeSlot timeSlot;
+    @Column(nullable = false)
+    private int userCount;
+    @Column(nullable = false)
+    private int weight;
+    // 인원을 마지막으로 바꾼 시간표 버전
+    @Column(nullable = false)
+    private long version;
+
+    @Builder
+    private MeetingSlotCount(
+            final Long meetingId,
+            final LocalDate availableDate,
+            final TimeSlot timeSlot,
+            final int userCount,
+            final int weight,
+            final long version
+    ) {
+        this.meetingId = meetingId;
+        this.availableDate = availableDate;
+        this.timeSlot = timeSlot;
+        this.userCount = userCount;
+        this.weight = weight;
+        this.version = version;
+    }
+}
@@ -0,0 +1,44 @@
+package com.asap.server.persistence.domain.time;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회의 시간표의 변경 이력. 시간대별 인원이 바뀔 때마다 회의별로 1씩 증가하는 버전을 하나 남긴다.
+ * 버전마다 바뀐 시간대는 MeetingSlotCount.version 에 마지막으로 바꾼 버전만 남긴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_meeting_time_table_change",
+        columnNames = {"meeting_id", "version"}
+))
+public class MeetingTimeTableChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private Long meetingId;
+    @Column(nullable = false)
+    private long version;
+    // 이 버전 시점의 참여자 수. 참여자 수가 바뀌면 바뀌지 않은 시간대의 colorLevel 도 달라진다.
+    @Column(nullable = false)
+    private int memberCount;
+
+    @Builder
+    private MeetingTimeTableChange(final Long meetingId, final long version, final int memberCount) {
+        this.meetingId = meetingId;
+        this.version = version;
+        this.memberCount = memberCount;
+    }
+}
@@ -14,6 +14,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -27,6 +29,10 @@ import org.hibernate.annotations.ColumnDefault;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_user_submission_id",
+        columnNames = {"submission_id"}
+))
 public class User extends AuditingTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -46,6 +52,10 @@ public class User extends AuditingTimeEntity {
     @Enumerated(value = EnumType.STRING)
     private Role role;
 
+    // 비동기 제출로 저장된 참여자의 제출 id. 같은 메시지가 다시 전달되어도 참여자는 한 번만 저장된다.
+    @Column(length = 36)
+    private String submissionId;
+
     public String getName() {
         return this.name.getValue();
     }
@@ -13,5 +13,7 @@ public interface AvailableDateRepository extends Repository<AvailableDate, Long>
 
     List<AvailableDate> findByMeeting(final Meeting meeting);
 
+    List<AvailableDate> findAllByMeetingId(final Long meetingId);
+
     Optional<AvailableDate> findByMeetingAndDate(final Meeting meeting, final LocalDate date);
 }
@@ -1,13 +1,35 @@
 package com.asap.server.persistence.repository;
 
 import com.asap.server.persistence.domain.time.UserMeetingSchedule;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
 public interface UserMeetingScheduleRepository extends Repository<UserMeetingSchedule, Long> {
-    void save(final UserMeetingSchedule userMeetingSchedule);
+    <S extends UserMeetingSchedule> List<S> saveAll(final Iterable<S> userMeetingSchedules);
 
     List<UserMeetingSchedule> findAllByMeetingId(final long meetingId);
 
+    List<UserMeetingSchedule> findAllByMeetingIdAndUserId(final long meetingId, final long userId);
+
+    List<UserMeetingSchedule> findAllByUserIdIn(final Collection<Long> userIds);
+
+    List<UserMeetingSchedule> findAllByMeetingIdAndAvailableDateIn(final long meetingId, final Collection<LocalDate> availableDates);
+
     int countAllByUserId(final long hostId);
+
+    @Query("select distinct s.userId from UserMeetingSchedule s where s.userId > :after order by s.userId")
+    List<Long> findUserIdsAfter(@Param("after") final long after, final Pageable pageable);
+
+    @Query("select distinct s.meetingId from UserMeetingSchedule s where s.meetingId > :after order by s.meetingId")
+    List<Long> findMeetingIdsAfter(@Param("after") final long after, final Pageable pageable);
+
+    @Modifying
+    @Query("delete from UserMeetingSchedule s where s.id in :ids")
+    int deleteAllByIdIn(@Param("ids") final Collection<Long> ids);
 }
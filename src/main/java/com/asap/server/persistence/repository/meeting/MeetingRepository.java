@@ -1,12 +1,28 @@
 package com.asap.server.persistence.repository.meeting;
 
 import com.asap.server.persistence.domain.Meeting;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MeetingRepository extends Repository<Meeting, Long>, MeetingRepositoryCustom {
     Optional<Meeting> findById(final Long id);
 
+    // 같은 회의의 시간표 버전을 차례로 올린다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from Meeting m where m.id = :id")
+    Optional<Meeting> findByIdForUpdate(@Param("id") final Long id);
+
+    // 여러 회의를 잠글 때는 id 순서로 잠가 트랜잭션끼리 잠금 순서가 엇갈리지 않게 한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from Meeting m where m.id in :ids order by m.id")
+    List<Meeting> findAllByIdInForUpdate(@Param("ids") final Collection<Long> ids);
+
     Meeting save(final Meeting meeting);
 }
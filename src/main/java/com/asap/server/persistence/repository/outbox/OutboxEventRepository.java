@@ -0,0 +1,36 @@
+package com.asap.server.persistence.repository.outbox;
+
+import com.asap.server.persistence.domain.outbox.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends Repository<OutboxEvent, Long> {
+    OutboxEvent save(final OutboxEvent outboxEvent);
+
+    // 다른 노드가 잠근 행은 기다리지 않고 건너뛴다. (SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.publishedAt is null and e.failedAt is null and e.availableAt <= :now order by e.id")
+    List<OutboxEvent> findPublishable(@Param("now") final LocalDateTime now, final Pageable pageable);
+
+    List<OutboxEvent> findAllByIdIn(final Collection<Long> ids);
+
+    long countByPublishedAtIsNullAndFailedAtIsNull();
+
+    Optional<OutboxEvent> findFirstByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc();
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") final LocalDateTime before);
+}
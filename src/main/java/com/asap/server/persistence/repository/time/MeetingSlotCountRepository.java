@@ -0,0 +1,18 @@
+package com.asap.server.persistence.repository.time;
+
+import com.asap.server.persistence.domain.time.MeetingSlotCount;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+public interface MeetingSlotCountRepository extends Repository<MeetingSlotCount, Long>, MeetingSlotCountRepositoryCustom {
+    List<MeetingSlotCount> findAllByMeetingId(final long meetingId);
+
+    List<MeetingSlotCount> findAllByMeetingIdAndVersionGreaterThan(final long meetingId, final long version);
+
+    @Modifying
+    @Query("delete from MeetingSlotCount c where c.meetingId = :meetingId")
+    int deleteAllByMeetingId(@Param("meetingId") final long meetingId);
+}
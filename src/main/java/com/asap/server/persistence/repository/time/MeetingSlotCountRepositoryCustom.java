@@ -0,0 +1,7 @@
+package com.asap.server.persistence.repository.time;
+
+import java.util.Collection;
+
+public interface MeetingSlotCountRepositoryCustom {
+    void applyDeltas(final long meetingId, final long version, final Collection<SlotCountDelta> deltas);
+}
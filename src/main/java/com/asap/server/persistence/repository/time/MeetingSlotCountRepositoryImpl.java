@@ -0,0 +1,66 @@
+package com.asap.server.persistence.repository.time;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class MeetingSlotCountRepositoryImpl implements MeetingSlotCountRepositoryCustom {
+    private static final int CHUNK_SIZE = 200;
+    private static final String UPSERT_PREFIX =
+            "insert into meeting_slot_count (meeting_id, available_date, time_slot, user_count, weight, version) values ";
+    // 인원이 바뀌지 않은 시간대는 버전을 올리지 않는다. version 은 user_count 를 더하기 전에 계산해야 한다.
+    private static final String UPSERT_SUFFIX = " as new on duplicate key update"
+            + " version = if(new.user_count = 0, version, new.version),"
+            + " user_count = user_count + new.user_count,"
+            + " weight = weight + new.weight";
+    private static final int COLUMN_COUNT = 6;
+
+    private final EntityManager entityManager;
+
+    /**
+     * 행이 없으면 만들고 있으면 값을 더한다. 한 문장에 여러 행을 담아 행 잠금 안에서 원자적으로 증감한다.
+     * 인원이 바뀐 행에는 version 을 기록한다.
+     */
+    @Override
+    public void applyDeltas(final long meetingId, final long version, final Collection<SlotCountDelta> deltas) {
+        final List<SlotCountDelta> rows = new ArrayList<>(deltas);
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            upsert(meetingId, version, rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size())));
+        }
+    }
+
+    private void upsert(final long meetingId, final long version, final List<SlotCountDelta> rows) {
+        final StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            final int base = i * COLUMN_COUNT;
+            sql.append("(?").append(base + 1)
+                    .append(", ?").append(base + 2)
+                    .append(", ?").append(base + 3)
+                    .append(", ?").append(base + 4)
+                    .append(", ?").append(base + 5)
+                    .append(", ?").append(base + 6)
+                    .append(')');
+        }
+        sql.append(UPSERT_SUFFIX);
+
+        final Query query = entityManager.createNativeQuery(sql.toString());
+        for (int i = 0; i < rows.size(); i++) {
+            final SlotCountDelta row = rows.get(i);
+            final int base = i * COLUMN_COUNT;
+            query.setParameter(base + 1, meetingId);
+            query.setParameter(base + 2, row.availableDate());
+            query.setParameter(base + 3, row.timeSlot().name());
+            query.setParameter(base + 4, row.userCount());
+            query.setParameter(base + 5, row.weight());
+            query.setParameter(base + 6, version);
+        }
+        query.executeUpdate();
+    }
+}
@@ -0,0 +1,16 @@
+package com.asap.server.persistence.repository.time;
+
+import com.asap.server.persistence.domain.time.MeetingTimeTableChange;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+public interface MeetingTimeTableChangeRepository extends Repository<MeetingTimeTableChange, Long> {
+    MeetingTimeTableChange save(final MeetingTimeTableChange change);
+
+    @Query("select max(c.version) from MeetingTimeTableChange c where c.meetingId = :meetingId")
+    Optional<Long> findLatestVersion(@Param("meetingId") final long meetingId);
+
+    Optional<MeetingTimeTableChange> findByMeetingIdAndVersion(final long meetingId, final long version);
+}
@@ -0,0 +1,15 @@
+package com.asap.server.persistence.repository.time;
+
+import com.asap.server.persistence.domain.enums.TimeSlot;
+import java.time.LocalDate;
+
+public record SlotCountDelta(
+        LocalDate availableDate,
+        TimeSlot timeSlot,
+        int userCount,
+        int weight
+) {
+    public SlotCountDelta add(final SlotCountDelta other) {
+        return new SlotCountDelta(availableDate, timeSlot, userCount + other.userCount, weight + other.weight);
+    }
+}
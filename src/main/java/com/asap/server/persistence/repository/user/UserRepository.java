@@ -2,8 +2,13 @@ package com.asap.server.persistence.repository.user;
 
 import com.asap.server.persistence.domain.Meeting;
 import com.asap.server.persistence.domain.user.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +19,24 @@ public interface UserRepository extends Repository<User, Long>, UserRepositoryCu
 
     Optional<User> findById(final Long id);
 
+    // 같은 참여자의 수정 요청이 동시에 들어오면 차례로 처리한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") final Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id in :ids")
+    List<User> findAllByIdInForUpdate(@Param("ids") final Collection<Long> ids);
+
     List<User> findByMeeting(final Meeting meeting);
 
     int countByMeeting(final Meeting meeting);
 
+    int countByMeetingId(final long meetingId);
+
     List<User> findAllByMeetingId(final long meetingId);
+
+    boolean existsBySubmissionId(final String submissionId);
+
+    Optional<User> findBySubmissionId(final String submissionId);
 }
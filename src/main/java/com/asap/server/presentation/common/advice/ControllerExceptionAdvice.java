@@ -10,19 +10,23 @@ import com.asap.server.common.exception.model.ForbiddenException;
 import com.asap.server.common.exception.model.HostTimeForbiddenException;
 import com.asap.server.common.exception.model.InternalErrorException;
 import com.asap.server.common.exception.model.NotFoundException;
+import com.asap.server.common.exception.model.PayloadTooLargeException;
+import com.asap.server.common.exception.model.RateLimitExceededException;
+import com.asap.server.common.exception.model.ServiceUnavailableException;
 import com.asap.server.common.exception.model.TooManyRequestException;
 import com.asap.server.common.exception.model.UnauthorizedException;
-import com.asap.server.infra.slack.SlackUtil;
+import com.asap.server.infra.slack.SlackAlertDispatcher;
 import com.asap.server.presentation.common.dto.ErrorDataResponse;
 import com.asap.server.presentation.common.dto.ErrorResponse;
 import com.asap.server.presentation.controller.dto.response.HostLoginResponseDto;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.ValidationException;
-import java.io.IOException;
 import java.time.DateTimeException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -38,7 +42,7 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 @RequiredArgsConstructor
 public class ControllerExceptionAdvice {
 
-    private final SlackUtil slackUtil;
+    private final SlackAlertDispatcher slackAlertDispatcher;
 
     /**
      * 400 Bad Request
@@ -148,6 +152,15 @@ public class ControllerExceptionAdvice {
         return ErrorResponse.error(e.getError());
     }
 
+    /**
+     * 413 Payload Too Large
+     */
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    @ExceptionHandler(PayloadTooLargeException.class)
+    protected ErrorResponse handlePayloadTooLargeException(final PayloadTooLargeException e) {
+        return ErrorResponse.error(e.getError());
+    }
+
     /*
      * 429 Too Many Requests
      */
@@ -157,6 +170,25 @@ public class ControllerExceptionAdvice {
         return ErrorResponse.error(e.getError());
     }
 
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    @ExceptionHandler(RateLimitExceededException.class)
+    protected ErrorResponse handleRateLimitExceededException(
+            final RateLimitExceededException e,
+            final HttpServletResponse response
+    ) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        return ErrorResponse.error(e.getError());
+    }
+
+    /**
+     * 503 Service Unavailable
+     */
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(ServiceUnavailableException.class)
+    protected ErrorResponse handleServiceUnavailableException(final ServiceUnavailableException e) {
+        return ErrorResponse.error(e.getError());
+    }
+
     /**
      * 500 Internal Server
      */
@@ -169,9 +201,9 @@ public class ControllerExceptionAdvice {
 
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler(Exception.class)
-    protected ErrorResponse handleException(final Exception error, final HttpServletRequest request) throws IOException {
+    protected ErrorResponse handleException(final Exception error, final HttpServletRequest request) {
         log.error(error.getMessage(), error);
-        slackUtil.sendAlert(error, request);
+        slackAlertDispatcher.enqueue(error, request);
         return ErrorResponse.error(Error.INTERNAL_SERVER_ERROR);
     }
 
@@ -1,18 +1,31 @@
 package com.asap.server.presentation.common.log;
 
+import com.asap.server.presentation.common.log.PayloadRenderer.Payload;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
 
+/**
+ * 컨트롤러 요청과 응답을 기록한다.
+ * 값은 로그를 실제로 남길 때만 직렬화하고, 제한 길이를 넘으면 잘라내거나 메타데이터만 남긴다.
+ * 엔드포인트별 샘플링 비율은 asap.logging.sample-rates.[경로 패턴] 으로 지정한다.
+ */
 @Aspect
 @Component
 @Slf4j
@@ -20,6 +33,34 @@ public class LoggingAspect {
 
     private static final String REQUEST_FORMAT = "URI : %s | Request : %s";
     private static final String RESPONSE_FORMAT = "URI : %s | Response : %s";
+    private static final String METADATA_FORMAT = "%s (%d chars 이상, 메타데이터만 기록)";
+    private static final String TRUNCATED_SUFFIX = "...(truncated)";
+    private static final String STRUCTURED_MODE = "structured";
+
+    private final PayloadRenderer payloadRenderer;
+    private final boolean structured;
+    private final int maxPayloadLength;
+    private final int metadataOnlyThreshold;
+    private final double defaultSampleRate;
+    private final Map<String, Double> sampleRates;
+
+    public LoggingAspect(
+            final ObjectMapper objectMapper,
+            final Environment environment,
+            @Value("${asap.logging.mode:text}") final String mode,
+            @Value("${asap.logging.max-payload-length:2000}") final int maxPayloadLength,
+            @Value("${asap.logging.metadata-only-threshold:0}") final int metadataOnlyThreshold,
+            @Value("${asap.logging.default-sample-rate:1.0}") final double defaultSampleRate
+    ) {
+        this.payloadRenderer = new PayloadRenderer(objectMapper);
+        this.structured = STRUCTURED_MODE.equalsIgnoreCase(mode);
+        this.maxPayloadLength = maxPayloadLength;
+        this.metadataOnlyThreshold = metadataOnlyThreshold;
+        this.defaultSampleRate = defaultSampleRate;
+        this.sampleRates = Binder.get(environment)
+                .bind("asap.logging.sample-rates", Bindable.mapOf(String.class, Double.class))
+                .orElse(Map.of());
+    }
 
     @Pointcut("execution(* com.asap.server.presentation.controller..*(..))")
     public void serviceLoggingExecute() {
@@ -32,12 +73,13 @@ public class LoggingAspect {
     @Around("com.asap.server.presentation.common.log.LoggingAspect.serviceLoggingExecute()")
     public Object logging(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
         final HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-        final String uri = request.getRequestURI();
-        final String args = getParameterNameAndArgs(proceedingJoinPoint);
+        if (!log.isInfoEnabled() || !isSampled(request)) {
+            return proceedingJoinPoint.proceed(proceedingJoinPoint.getArgs());
+        }
 
-        log.info(String.format(REQUEST_FORMAT, uri, args));
+        logPayload(REQUEST_FORMAT, "request", request, getParameterNameAndArgs(proceedingJoinPoint));
         final Object returnValue = proceedingJoinPoint.proceed(proceedingJoinPoint.getArgs());
-        log.info(String.format(RESPONSE_FORMAT, uri, returnValue));
+        logPayload(RESPONSE_FORMAT, "response", request, returnValue);
 
         return returnValue;
     }
@@ -47,22 +89,74 @@ public class LoggingAspect {
         final Object returnValue = proceedingJoinPoint.proceed(proceedingJoinPoint.getArgs());
 
         final HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-        final String uri = request.getRequestURI();
-        log.info(String.format(RESPONSE_FORMAT, uri, returnValue));
+        if (log.isInfoEnabled()) {
+            logPayload(RESPONSE_FORMAT, "response", request, returnValue);
+        }
         return returnValue;
     }
 
-    private String getParameterNameAndArgs(final ProceedingJoinPoint proceedingJoinPoint) {
+    private boolean isSampled(final HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        final double sampleRate = pattern == null
+                ? defaultSampleRate
+                : sampleRates.getOrDefault(pattern.toString(), defaultSampleRate);
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private void logPayload(final String format, final String phase, final HttpServletRequest request, final Object value) {
+        final String uri = request.getRequestURI();
+        final Payload payload = render(value);
+        final boolean metadataOnly = payload.truncated() && metadataOnlyThreshold > 0;
+        final String text = metadataOnly ? null : truncate(payload);
+
+        if (structured) {
+            var event = log.atInfo()
+                    .addKeyValue("phase", phase)
+                    .addKeyValue("method", request.getMethod())
+                    .addKeyValue("uri", uri)
+                    .addKeyValue("truncated", payload.truncated());
+            if (metadataOnly) {
+                event = event.addKeyValue("payloadType", value == null ? "null" : value.getClass().getSimpleName());
+            } else {
+                event = event.addKeyValue("payload", text);
+            }
+            // 키-값 쌍을 출력하지 않는 패턴에서도 어떤 요청인지 알 수 있도록 메시지에 남긴다.
+            event.log("{} {} {}", phase, request.getMethod(), uri);
+            return;
+        }
+
+        log.info(String.format(format, uri, metadataOnly
+                ? String.format(METADATA_FORMAT, value == null ? "null" : value.getClass().getSimpleName(), renderLimit())
+                : text));
+    }
+
+    private Payload render(final Object value) {
+        return payloadRenderer.render(value, renderLimit());
+    }
+
+    private int renderLimit() {
+        return metadataOnlyThreshold > 0 ? metadataOnlyThreshold : maxPayloadLength;
+    }
+
+    private String truncate(final Payload payload) {
+        if (!payload.truncated() && payload.text().length() <= maxPayloadLength) {
+            return payload.text();
+        }
+        return payload.text().substring(0, Math.min(payload.text().length(), maxPayloadLength)) + TRUNCATED_SUFFIX;
+    }
+
+    private Map<String, Object> getParameterNameAndArgs(final ProceedingJoinPoint proceedingJoinPoint) {
         final MethodSignature methodSignature = (MethodSignature) proceedingJoinPoint.getSignature();
         final String[] parameterNames = methodSignature.getParameterNames();
         final Object[] args = proceedingJoinPoint.getArgs();
 
+        final Map<String, Object> parameters = new LinkedHashMap<>();
         if (parameterNames == null || args == null || parameterNames.length != args.length) {
-            return "[]";
+            return parameters;
         }
-
-        return IntStream.range(0, parameterNames.length)
-                .mapToObj(i -> parameterNames[i] + " : " + args[i])
-                .collect(Collectors.joining(", ", "[", "]"));
+        for (int i = 0; i < parameterNames.length; i++) {
+            parameters.put(parameterNames[i], args[i]);
+        }
+        return parameters;
     }
 }
@@ -11,14 +11,20 @@ public class MDCContextTaskDecorator implements TaskDecorator {
     public Runnable decorate(Runnable runnable) {
         final Map<String, String> mdc = MDC.getCopyOfContextMap();
         return () -> {
+            // 풀 스레드는 재사용되므로 실행이 끝나면 원래 MDC 로 되돌린다.
+            final Map<String, String> previous = MDC.getCopyOfContextMap();
             try {
                 if (mdc != null) {
                     MDC.setContextMap(mdc);
+                } else {
+                    MDC.clear();
                 }
                 runnable.run();
             } finally {
-                if (mdc != null) {
-                    mdc.clear();
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
                 }
             }
         };
@@ -0,0 +1,75 @@
+package com.asap.server.presentation.common.log;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 로그에 남길 값을 JSON 으로 직렬화하되, 제한 길이에 도달하면 직렬화를 중단한다.
+ * 큰 응답 DTO 를 끝까지 문자열로 만들지 않기 위해 사용한다.
+ */
+class PayloadRenderer {
+    private final ObjectMapper objectMapper;
+
+    PayloadRenderer(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    Payload render(final Object value, final int limit) {
+        final LimitedWriter writer = new LimitedWriter(limit);
+        try {
+            objectMapper.writeValue(writer, value);
+        } catch (IOException | RuntimeException e) {
+            if (!writer.isExceeded()) {
+                // JSON 으로 직렬화할 수 없는 값은 toString 결과를 잘라서 사용한다.
+                final String text = String.valueOf(value);
+                return text.length() > limit
+                        ? new Payload(text.substring(0, limit), true)
+                        : new Payload(text, false);
+            }
+        }
+        return new Payload(writer.toString(), writer.isExceeded());
+    }
+
+    record Payload(String text, boolean truncated) {
+    }
+
+    private static class LimitedWriter extends Writer {
+        private final StringBuilder buffer;
+        private final int limit;
+        private boolean exceeded;
+
+        private LimitedWriter(final int limit) {
+            this.buffer = new StringBuilder(Math.min(limit, 256));
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(final char[] chars, final int offset, final int length) throws IOException {
+            final int remaining = limit - buffer.length();
+            if (length > remaining) {
+                buffer.append(chars, offset, remaining);
+                exceeded = true;
+                throw new IOException("payload exceeds " + limit + " chars");
+            }
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private boolean isExceeded() {
+            return exceeded;
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+}
@@ -1,11 +1,23 @@
 package com.asap.server.presentation.config;
 
+import com.asap.server.common.crypto.BoundedPasswordEncoder;
 import com.asap.server.presentation.config.duplicate.DuplicatedInterceptor;
+import com.asap.server.presentation.config.duplicate.IdempotentResponseStore;
+import com.asap.server.presentation.config.ratelimit.RateLimitInterceptor;
+import com.asap.server.presentation.config.resolver.ip.ClientIpResolver;
 import com.asap.server.presentation.config.resolver.meeting.MeetingPathVariableResolver;
 import com.asap.server.presentation.config.resolver.user.UserIdResolver;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -20,30 +32,77 @@ import java.util.List;
 public class WebConfig implements WebMvcConfigurer {
     private final UserIdResolver userIdResolver;
     private final MeetingPathVariableResolver meetingPathVariableResolver;
+    private final ClientIpResolver clientIpResolver;
+    private final RateLimitInterceptor rateLimitInterceptor;
     private final DuplicatedInterceptor duplicatedInterceptor;
+    private final Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder;
 
     @Bean
-    public PasswordEncoder getPasswordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder getPasswordEncoder(
+            @Value("${asap.password-hashing.pool-size:0}") final int poolSize,
+            @Value("${asap.password-hashing.queue-capacity:64}") final int queueCapacity,
+            @Value("${asap.password-hashing.timeout-millis:3000}") final long timeoutMillis,
+            final TaskDecorator taskDecorator,
+            final MeterRegistry meterRegistry
+    ) {
+        return new BoundedPasswordEncoder(
+                PasswordEncoderFactories.createDelegatingPasswordEncoder(),
+                poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors(),
+                queueCapacity,
+                timeoutMillis,
+                taskDecorator,
+                meterRegistry
+        );
     }
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
                 .allowedOrigins("*")
-                .allowedMethods("GET", "POST")
+                .allowedMethods("GET", "POST", "PUT")
+                .exposedHeaders(IdempotentResponseStore.REPLAYED_HEADER, HttpHeaders.RETRY_AFTER)
                 .maxAge(3000);
     }
 
+    /**
+     * Accept: application/cbor 로 요청하면 같은 DTO 를 CBOR 로 응답한다.
+     * 기본 CBOR 컨버터는 애플리케이션 Jackson 설정을 쓰지 않으므로 같은 자리에서 교체한다.
+     * 기본 컨버터는 JSON 컨버터 뒤에 있으므로 Accept 가 없거나 와일드카드인 요청은 그대로 JSON 으로 응답한다.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        final MappingJackson2CborHttpMessageConverter cborConverter = new MappingJackson2CborHttpMessageConverter(
+                jackson2ObjectMapperBuilder.factory(new CBORFactory()).build()
+        );
+        final int index = indexOfCborConverter(converters);
+        if (index < 0) {
+            converters.add(cborConverter);
+            return;
+        }
+        converters.set(index, cborConverter);
+    }
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(userIdResolver);
         resolvers.add(meetingPathVariableResolver);
+        resolvers.add(clientIpResolver);
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry interceptorRegistry) {
+        interceptorRegistry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns(rateLimitInterceptor.getPathPatterns());
         interceptorRegistry.addInterceptor(duplicatedInterceptor)
-                .addPathPatterns("/meeting", "/user/{meetingId}/time", "/user/host/{meetingId}/time");
+                .addPathPatterns(DuplicatedInterceptor.PATH_PATTERNS);
+    }
+
+    private static int indexOfCborConverter(final List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2CborHttpMessageConverter) {
+                return i;
+            }
+        }
+        return -1;
     }
 }
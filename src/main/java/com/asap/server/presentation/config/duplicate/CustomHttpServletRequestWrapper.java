@@ -1,60 +1,119 @@
 package com.asap.server.presentation.config.duplicate;
 
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.PayloadTooLargeException;
 import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import lombok.Getter;
 
-@Getter
+/**
+ * 요청 본문을 최대 크기까지 바이트 배열로 한 번만 읽어 두고, 이후 스트림은 이 배열에서 읽는다.
+ * 본문은 처음 필요할 때 읽으므로 크기 초과 예외는 인터셉터에서 발생해 ControllerAdvice 가 처리한다.
+ */
 public class CustomHttpServletRequestWrapper extends HttpServletRequestWrapper {
-    private final String body;
+    private final int maxBodyBytes;
+    private byte[] body;
 
-    public CustomHttpServletRequestWrapper(HttpServletRequest request) throws IOException {
+    public CustomHttpServletRequestWrapper(final HttpServletRequest request, final int maxBodyBytes) {
         super(request);
-        this.body = readBody(request);
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    public byte[] getBody() throws IOException {
+        if (body == null) {
+            body = readBody();
+        }
+        return body;
     }
 
     @Override
-    public ServletInputStream getInputStream() {
-        ByteArrayInputStream byteInputStream = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
-        return new ServletInputStream() {
-            @Override
-            public boolean isFinished() {
-                return false;
-            }
+    public ServletInputStream getInputStream() throws IOException {
+        return new CachedBodyInputStream(getBody());
+    }
 
-            @Override
-            public boolean isReady() {
-                return false;
-            }
+    @Override
+    public BufferedReader getReader() throws IOException {
+        return new BufferedReader(new InputStreamReader(getInputStream(), getCharset()));
+    }
 
-            @Override
-            public void setReadListener(ReadListener readListener) {
+    private byte[] readBody() throws IOException {
+        if (getRequest().getContentLengthLong() > maxBodyBytes) {
+            throw new PayloadTooLargeException(Error.REQUEST_BODY_TOO_LARGE_EXCEPTION);
+        }
+        // Content-Length 가 없는 chunked 요청도 있으므로 한 바이트 더 읽어 초과 여부를 확인한다.
+        byte[] bytes = getRequest().getInputStream().readNBytes(maxBodyBytes + 1);
+        if (bytes.length > maxBodyBytes) {
+            throw new PayloadTooLargeException(Error.REQUEST_BODY_TOO_LARGE_EXCEPTION);
+        }
+        return bytes;
+    }
 
-            }
+    private Charset getCharset() {
+        final String encoding = getCharacterEncoding();
+        return encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+    }
+
+    private static class CachedBodyInputStream extends ServletInputStream {
+        private final byte[] buffer;
+        private int position;
 
-            @Override
-            public int read() throws IOException {
-                return byteInputStream.read();
+        private CachedBodyInputStream(final byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return position >= buffer.length;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        // 본문이 이미 메모리에 있으므로 기다리지 않고 바로 읽을 수 있다고 알린다.
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            try {
+                if (!isFinished()) {
+                    readListener.onDataAvailable();
+                }
+                if (isFinished()) {
+                    readListener.onAllDataRead();
+                }
+            } catch (IOException e) {
+                readListener.onError(e);
             }
-        };
-    }
+        }
+
+        @Override
+        public int read() {
+            return isFinished() ? -1 : buffer[position++] & 0xff;
+        }
 
-    private String readBody(HttpServletRequest request) throws IOException {
-        BufferedReader input = new BufferedReader(new InputStreamReader(request.getInputStream()));
-        StringBuilder sb = new StringBuilder();
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (isFinished()) {
+                return -1;
+            }
+            final int count = Math.min(len, buffer.length - position);
+            System.arraycopy(buffer, position, b, off, count);
+            position += count;
+            return count;
+        }
 
-        var line = input.readLine();
-        while (line != null) {
-            sb.append(line.trim());
-            line = input.readLine();
+        @Override
+        public int available() {
+            return buffer.length - position;
         }
-        return sb.toString();
     }
 }
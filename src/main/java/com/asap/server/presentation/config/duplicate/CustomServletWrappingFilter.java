@@ -6,18 +6,59 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.server.PathContainer;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
+/**
+ * 중복 요청 인터셉터가 본문을 읽어야 하는 경로의 요청만 감싼다.
+ */
 @Order(2)
 @Component
 public class CustomServletWrappingFilter implements Filter {
+    private final List<PathPattern> pathPatterns = DuplicatedInterceptor.PATH_PATTERNS.stream()
+            .map(PathPatternParser.defaultInstance::parse)
+            .toList();
+    private final int maxBodyBytes;
+
+    public CustomServletWrappingFilter(@Value("${asap.duplicate.max-body-bytes:65536}") final int maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
 
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
             throws IOException, ServletException {
-        HttpServletRequest request = new CustomHttpServletRequestWrapper((HttpServletRequest) servletRequest);
-        filterChain.doFilter(request, servletResponse);
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        if (!isTarget(request)) {
+            filterChain.doFilter(request, servletResponse);
+            return;
+        }
+
+        request = new CustomHttpServletRequestWrapper(request, maxBodyBytes);
+        if (request.getHeader(IdempotentResponseStore.IDEMPOTENCY_KEY_HEADER) == null) {
+            filterChain.doFilter(request, servletResponse);
+            return;
+        }
+
+        // 재시도 때 돌려줄 응답을 저장할 수 있도록 Idempotency-Key 요청만 응답 본문을 버퍼링한다.
+        ContentCachingResponseWrapper response = new ContentCachingResponseWrapper((HttpServletResponse) servletResponse);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            response.copyBodyToResponse();
+        }
+    }
+
+    private boolean isTarget(final HttpServletRequest request) {
+        final PathContainer path = PathContainer.parsePath(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+        return pathPatterns.stream().anyMatch(pattern -> pattern.matches(path));
     }
 }
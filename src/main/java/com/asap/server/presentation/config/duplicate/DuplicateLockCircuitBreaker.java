@@ -0,0 +1,128 @@
+package com.asap.server.presentation.config.duplicate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 중복 요청 락과 요청 수 제한의 Redis 호출을 짧은 제한 시간으로 감싼다.
+ * 연속 실패가 임계치를 넘으면 일정 시간 동안 Redis 를 호출하지 않고 fallback 을 반환하며,
+ * 이후 한 번의 시험 호출이 성공하면 다시 닫힌다.
+ */
+@Slf4j
+@Component
+public class DuplicateLockCircuitBreaker implements HealthIndicator {
+    private static final String STATE_METRIC = "asap.duplicate.breaker.state";
+    private static final String FALLBACK_METRIC = "asap.duplicate.breaker.fallback";
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final long callTimeoutMillis;
+    private final int failureThreshold;
+    private final long openNanos;
+    private final Counter fallbackCounter;
+    private volatile long openedAt;
+
+    public DuplicateLockCircuitBreaker(
+            final MeterRegistry meterRegistry,
+            @Value("${asap.duplicate.breaker.call-timeout-millis:100}") final long callTimeoutMillis,
+            @Value("${asap.duplicate.breaker.failure-threshold:5}") final int failureThreshold,
+            @Value("${asap.duplicate.breaker.open-millis:10000}") final long openMillis
+    ) {
+        this.callTimeoutMillis = callTimeoutMillis;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.fallbackCounter = Counter.builder(FALLBACK_METRIC)
+                .register(meterRegistry);
+        Gauge.builder(STATE_METRIC, state, s -> s.get().ordinal())
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(final Supplier<? extends CompletionStage<T>> call, final Supplier<T> fallback) {
+        if (!allowRequest()) {
+            fallbackCounter.increment();
+            return fallback.get();
+        }
+
+        CompletableFuture<T> future = null;
+        try {
+            future = call.get().toCompletableFuture();
+            final T result = future.get(callTimeoutMillis, TimeUnit.MILLISECONDS);
+            onSuccess();
+            return result;
+        } catch (TimeoutException | ExecutionException | RuntimeException e) {
+            log.warn("duplicate lock redis call failed : {}", e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (future != null) {
+            future.cancel(false);
+        }
+        onFailure();
+        fallbackCounter.increment();
+        return fallback.get();
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    @Override
+    public Health health() {
+        // 차단 상태에서도 로컬 필터로 요청을 처리하므로 서비스 상태는 UP 으로 두고 상세 정보로만 노출한다.
+        return Health.up()
+                .withDetail("state", state.get())
+                .withDetail("consecutiveFailures", consecutiveFailures.get())
+                .build();
+    }
+
+    private boolean allowRequest() {
+        final State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        // OPEN 상태에서 대기 시간이 지나면 한 요청만 시험 호출로 통과시킨다.
+        return current == State.OPEN
+                && System.nanoTime() - openedAt >= openNanos
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            log.info("duplicate lock circuit breaker closed");
+        }
+    }
+
+    private void onFailure() {
+        final int failures = consecutiveFailures.incrementAndGet();
+        if (state.get() == State.HALF_OPEN || failures >= failureThreshold) {
+            open();
+        }
+    }
+
+    private void open() {
+        openedAt = System.nanoTime();
+        if (state.getAndSet(State.OPEN) != State.OPEN) {
+            log.warn("duplicate lock circuit breaker opened");
+        }
+    }
+}
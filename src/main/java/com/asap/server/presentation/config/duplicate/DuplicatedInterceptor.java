@@ -3,57 +3,172 @@ package com.asap.server.presentation.config.duplicate;
 
 import com.asap.server.common.exception.Error;
 import com.asap.server.common.exception.model.TooManyRequestException;
+import com.asap.server.presentation.config.resolver.ip.ClientIpResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
-import org.redisson.api.RMap;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.redisson.api.RBucket;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
-import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
 
+/**
+ * 요청마다 (ip, 본문) 다이제스트로 만든 키를 TTL 과 함께 SET NX 로 잡는다.
+ * 노드가 unlock 전에 죽더라도 키는 TTL 이 지나면 사라진다.
+ * 같은 노드로 들어온 중복 요청은 로컬 필터에서 먼저 걸러 Redis 를 거치지 않는다.
+ * Redis 가 느리거나 장애일 때는 서킷 브레이커가 열리고 로컬 필터만으로 판단한다.
+ * Idempotency-Key 헤더가 있으면 저장된 첫 응답을 다시 돌려주고 핸들러는 실행하지 않는다.
+ */
 @Component
-@RequiredArgsConstructor
 public class DuplicatedInterceptor implements HandlerInterceptor {
-    private static final String REDIS_KEY = "ASAP_REDIS";
-    private static final String RMAP_VALUE = "ASAP";
-    private static final String RMAP_KEY_FORMAT = "LOCK [ ip : %s , body : %s ]";
-    private static final String USER_IP_HEADER = "x-real-ip";
+    public static final List<String> PATH_PATTERNS = List.of("/meeting", "/user/{meetingId}/time", "/user/host/{meetingId}/time");
+    private static final String LOCK_KEY_PREFIX = "ASAP_REDIS:LOCK:";
+    private static final String LOCK_KEY_ATTRIBUTE = DuplicatedInterceptor.class.getName() + ".LOCK_KEY";
+    private static final String LOCK_TOKEN_ATTRIBUTE = DuplicatedInterceptor.class.getName() + ".LOCK_TOKEN";
+    private static final String IDEMPOTENCY_KEY_ATTRIBUTE = DuplicatedInterceptor.class.getName() + ".IDEMPOTENCY_KEY";
+    private static final String REQUEST_DIGEST_ATTRIBUTE = DuplicatedInterceptor.class.getName() + ".REQUEST_DIGEST";
+    private static final String LOCK_LATENCY_METRIC = "asap.duplicate.lock";
+    private static final String COLLISION_METRIC = "asap.duplicate.collision";
+    private static final String LOCAL_KEYS_METRIC = "asap.duplicate.local.keys";
+    private static final String OPERATION_TAG = "operation";
+    private static final String LAYER_TAG = "layer";
+
     private final RedissonClient redissonClient;
+    private final DuplicateLockCircuitBreaker circuitBreaker;
+    private final IdempotentResponseStore idempotentResponseStore;
+    private final Duration lockTtl;
+    private final LocalDuplicateFilter localDuplicateFilter;
+    private final Timer lockTimer;
+    private final Timer unlockTimer;
+    private final Counter localCollisionCounter;
+    private final Counter redisCollisionCounter;
 
-    @Override
-    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (lock(request)) return true;
-        throw new TooManyRequestException(Error.TOO_MANY_REQUEST_EXCEPTION);
+    public DuplicatedInterceptor(
+            final RedissonClient redissonClient,
+            final DuplicateLockCircuitBreaker circuitBreaker,
+            final IdempotentResponseStore idempotentResponseStore,
+            final MeterRegistry meterRegistry,
+            @Value("${asap.duplicate.lock-ttl-millis:10000}") final long lockTtlMillis
+    ) {
+        this.redissonClient = redissonClient;
+        this.circuitBreaker = circuitBreaker;
+        this.idempotentResponseStore = idempotentResponseStore;
+        this.lockTtl = Duration.ofMillis(lockTtlMillis);
+        this.localDuplicateFilter = new LocalDuplicateFilter(lockTtl);
+        this.lockTimer = Timer.builder(LOCK_LATENCY_METRIC)
+                .tag(OPERATION_TAG, "lock")
+                .register(meterRegistry);
+        this.unlockTimer = Timer.builder(LOCK_LATENCY_METRIC)
+                .tag(OPERATION_TAG, "unlock")
+                .register(meterRegistry);
+        this.localCollisionCounter = Counter.builder(COLLISION_METRIC)
+                .tag(LAYER_TAG, "local")
+                .register(meterRegistry);
+        this.redisCollisionCounter = Counter.builder(COLLISION_METRIC)
+                .tag(LAYER_TAG, "redis")
+                .register(meterRegistry);
+        Gauge.builder(LOCAL_KEYS_METRIC, localDuplicateFilter, LocalDuplicateFilter::size)
+                .register(meterRegistry);
     }
 
     @Override
-    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
-        unLock(request);
-        HandlerInterceptor.super.postHandle(request, response, handler, modelAndView);
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        final CustomHttpServletRequestWrapper wrapper =
+                WebUtils.getNativeRequest(request, CustomHttpServletRequestWrapper.class);
+        if (wrapper == null) {
+            return true;
+        }
+
+        final String idempotencyKey = idempotentResponseStore.getKey(request);
+        final String requestDigest = idempotencyKey == null
+                ? null
+                : idempotentResponseStore.getRequestDigest(request, wrapper.getBody());
+        if (idempotencyKey != null && idempotentResponseStore.replay(idempotencyKey, requestDigest, response)) {
+            return false;
+        }
+
+        // 재시도하는 동안 ip 가 바뀔 수 있으므로 Idempotency-Key 가 있으면 그 키로 잡는다.
+        final String lockKey = idempotencyKey == null ? getLockKey(wrapper) : LOCK_KEY_PREFIX + idempotencyKey;
+        if (!localDuplicateFilter.tryAcquire(lockKey)) {
+            localCollisionCounter.increment();
+            throw new TooManyRequestException(Error.TOO_MANY_REQUEST_EXCEPTION);
+        }
+
+        final String token = UUID.randomUUID().toString();
+        final LockResult lockResult = lockTimer.record(() -> lock(lockKey, token));
+        if (lockResult != LockResult.DUPLICATED) {
+            request.setAttribute(LOCK_KEY_ATTRIBUTE, lockKey);
+            request.setAttribute(IDEMPOTENCY_KEY_ATTRIBUTE, idempotencyKey);
+            request.setAttribute(REQUEST_DIGEST_ATTRIBUTE, requestDigest);
+            if (lockResult == LockResult.ACQUIRED) {
+                request.setAttribute(LOCK_TOKEN_ATTRIBUTE, token);
+            }
+            return true;
+        }
+        localDuplicateFilter.release(lockKey);
+        redisCollisionCounter.increment();
+        throw new TooManyRequestException(Error.TOO_MANY_REQUEST_EXCEPTION);
     }
 
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
-        unLock(request);
+        final String lockKey = (String) request.getAttribute(LOCK_KEY_ATTRIBUTE);
+        final String token = (String) request.getAttribute(LOCK_TOKEN_ATTRIBUTE);
+        final String idempotencyKey = (String) request.getAttribute(IDEMPOTENCY_KEY_ATTRIBUTE);
+        if (idempotencyKey != null && ex == null) {
+            saveResponse(idempotencyKey, (String) request.getAttribute(REQUEST_DIGEST_ATTRIBUTE), response);
+        }
+        // 응답을 저장한 뒤에 락을 풀어야 재시도 요청이 핸들러를 다시 실행하지 않는다.
+        if (token != null) {
+            unlockTimer.record(() -> unLock(lockKey, token));
+        }
+        if (lockKey != null) {
+            localDuplicateFilter.release(lockKey);
+        }
         HandlerInterceptor.super.afterCompletion(request, response, handler, ex);
     }
 
-    private String getRmapKey(HttpServletRequest request) {
-        final String body = ((CustomHttpServletRequestWrapper) request).getBody();
-        final String userIp = request.getHeader(USER_IP_HEADER);
-        return String.format(RMAP_KEY_FORMAT, userIp, body);
+    private void saveResponse(final String idempotencyKey, final String requestDigest, final HttpServletResponse response) {
+        final ContentCachingResponseWrapper cachingResponse =
+                WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (cachingResponse != null && HttpStatus.valueOf(cachingResponse.getStatus()).is2xxSuccessful()) {
+            idempotentResponseStore.save(idempotencyKey, requestDigest, cachingResponse);
+        }
+    }
+
+    private String getLockKey(CustomHttpServletRequestWrapper request) throws IOException {
+        final String userIp = ClientIpResolver.resolve(request);
+        return LOCK_KEY_PREFIX + RequestDigest.of(userIp, request.getBody());
+    }
+
+    private LockResult lock(final String lockKey, final String token) {
+        RBucket<String> bucket = redissonClient.getBucket(lockKey, StringCodec.INSTANCE);
+        return circuitBreaker.execute(
+                () -> bucket.setIfAbsentAsync(token, lockTtl)
+                        .thenApply(acquired -> acquired ? LockResult.ACQUIRED : LockResult.DUPLICATED),
+                () -> LockResult.DEGRADED
+        );
     }
 
-    private boolean lock(HttpServletRequest request) {
-        final String rmapKey = getRmapKey(request);
-        RMap<String, String> redissonClientMap = redissonClient.getMap(REDIS_KEY);
-        return redissonClientMap.putIfAbsent(rmapKey, RMAP_VALUE) == null;
+    private void unLock(final String lockKey, final String token) {
+        // TTL 만료 후 다른 요청이 잡은 키를 지우지 않도록 자신의 토큰일 때만 삭제한다.
+        RBucket<String> bucket = redissonClient.getBucket(lockKey, StringCodec.INSTANCE);
+        circuitBreaker.execute(() -> bucket.compareAndSetAsync(token, null), () -> false);
     }
 
-    private void unLock(HttpServletRequest request) {
-        final String rmapKey = getRmapKey(request);
-        RMap<String, String> redissonClientMap = redissonClient.getMap(REDIS_KEY);
-        redissonClientMap.remove(rmapKey);
+    private enum LockResult {
+        ACQUIRED, DUPLICATED, DEGRADED
     }
 }
@@ -0,0 +1,124 @@
+package com.asap.server.presentation.config.duplicate;
+
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.ConflictException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Idempotency-Key 헤더가 있는 요청의 첫 성공 응답을 잠시 저장해 두고, 같은 키로 재시도하면 저장한 응답을 그대로 돌려준다.
+ * CBOR 처럼 UTF-8 이 아닌 응답도 있으므로 본문은 바이트 그대로(JSON 안에서는 base64) 저장하고 Content-Type 과 함께 돌려준다.
+ * 같은 키를 다른 본문으로 다시 쓰면 저장한 응답을 돌려주지 않고 409 를 반환한다.
+ */
+@Slf4j
+@Component
+public class IdempotentResponseStore {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String KEY_PREFIX = "ASAP_REDIS:IDEMPOTENCY:";
+    private static final String REPLAY_METRIC = "asap.idempotency.replayed";
+
+    private final RedissonClient redissonClient;
+    private final DuplicateLockCircuitBreaker circuitBreaker;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Counter replayCounter;
+
+    public IdempotentResponseStore(
+            final RedissonClient redissonClient,
+            final DuplicateLockCircuitBreaker circuitBreaker,
+            final ObjectMapper objectMapper,
+            final MeterRegistry meterRegistry,
+            @Value("${asap.idempotency.ttl-seconds:60}") final long ttlSeconds
+    ) {
+        this.redissonClient = redissonClient;
+        this.circuitBreaker = circuitBreaker;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.replayCounter = Counter.builder(REPLAY_METRIC)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다른 API 의 키와 섞이지 않도록 메서드와 경로를 함께 다이제스트한다.
+     * 모바일 클라이언트는 Wi-Fi 와 셀룰러를 오가며 재시도하므로 ip 는 키에 넣지 않는다.
+     */
+    public String getKey(final HttpServletRequest request) {
+        final String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return null;
+        }
+        return KEY_PREFIX + RequestDigest.of(getScope(request), idempotencyKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 같은 키로 저장한 응답이 같은 요청에 대한 것인지 확인하기 위한 본문 다이제스트.
+     */
+    public String getRequestDigest(final HttpServletRequest request, final byte[] body) {
+        return RequestDigest.of(getScope(request), body);
+    }
+
+    public boolean replay(final String key, final String requestDigest, final HttpServletResponse response) throws IOException {
+        final RBucket<String> bucket = redissonClient.getBucket(key, StringCodec.INSTANCE);
+        final String stored = circuitBreaker.execute(bucket::getAsync, () -> null);
+        if (stored == null) {
+            return false;
+        }
+
+        final StoredResponse storedResponse;
+        try {
+            storedResponse = objectMapper.readValue(stored, StoredResponse.class);
+        } catch (JsonProcessingException e) {
+            // 형식이 다른 값은 재생하지 않고 요청을 그대로 처리한다.
+            log.warn("idempotent response not readable : {}", e.getMessage());
+            return false;
+        }
+        if (!Objects.equals(storedResponse.requestDigest(), requestDigest)) {
+            throw new ConflictException(Error.IDEMPOTENCY_KEY_REUSED_EXCEPTION);
+        }
+        response.setStatus(storedResponse.status());
+        response.setContentType(storedResponse.contentType());
+        response.setHeader(REPLAYED_HEADER, Boolean.TRUE.toString());
+        response.getOutputStream().write(storedResponse.body());
+        replayCounter.increment();
+        return true;
+    }
+
+    public void save(final String key, final String requestDigest, final ContentCachingResponseWrapper response) {
+        final StoredResponse storedResponse = new StoredResponse(
+                requestDigest,
+                response.getStatus(),
+                response.getContentType(),
+                response.getContentAsByteArray()
+        );
+        try {
+            final String value = objectMapper.writeValueAsString(storedResponse);
+            final RBucket<String> bucket = redissonClient.getBucket(key, StringCodec.INSTANCE);
+            circuitBreaker.execute(() -> bucket.setIfAbsentAsync(value, ttl), () -> false);
+        } catch (JsonProcessingException e) {
+            log.warn("idempotent response not stored : {}", e.getMessage());
+        }
+    }
+
+    private static String getScope(final HttpServletRequest request) {
+        return request.getMethod() + " " + request.getRequestURI();
+    }
+
+    record StoredResponse(String requestDigest, int status, String contentType, byte[] body) {
+    }
+}
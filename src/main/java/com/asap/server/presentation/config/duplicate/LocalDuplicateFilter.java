@@ -0,0 +1,59 @@
+package com.asap.server.presentation.config.duplicate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 같은 노드로 들어온 중복 요청을 Redis 왕복 없이 걸러내기 위한 로컬 필터.
+ * 키마다 만료 시각을 저장하고, 만료된 키는 다시 잡을 수 있다.
+ */
+public class LocalDuplicateFilter {
+    private static final int SWEEP_INTERVAL = 1024;
+
+    private final Map<String, Long> expiresAtByKey = new ConcurrentHashMap<>();
+    private final AtomicInteger acquireCount = new AtomicInteger();
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    public LocalDuplicateFilter(final Duration ttl) {
+        this(ttl, System::nanoTime);
+    }
+
+    LocalDuplicateFilter(final Duration ttl, final LongSupplier nanoClock) {
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean tryAcquire(final String key) {
+        final long now = nanoClock.getAsLong();
+        if ((acquireCount.incrementAndGet() & (SWEEP_INTERVAL - 1)) == 0) {
+            sweep(now);
+        }
+
+        final Long expiresAt = expiresAtByKey.putIfAbsent(key, now + ttlNanos);
+        if (expiresAt == null) {
+            return true;
+        }
+        return isExpired(expiresAt, now) && expiresAtByKey.replace(key, expiresAt, now + ttlNanos);
+    }
+
+    public void release(final String key) {
+        expiresAtByKey.remove(key);
+    }
+
+    public int size() {
+        return expiresAtByKey.size();
+    }
+
+    // unlock 없이 끝난 요청의 키가 쌓이지 않도록 주기적으로 만료된 키를 정리한다.
+    private void sweep(final long now) {
+        expiresAtByKey.entrySet().removeIf(entry -> isExpired(entry.getValue(), now));
+    }
+
+    private static boolean isExpired(final long expiresAt, final long now) {
+        return now - expiresAt >= 0;
+    }
+}
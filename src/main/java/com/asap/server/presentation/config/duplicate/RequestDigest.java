@@ -0,0 +1,34 @@
+package com.asap.server.presentation.config.duplicate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 요청 본문 크기와 상관없이 고정 길이(43자)의 키를 만들기 위해 SHA-256 다이제스트를 사용한다.
+ */
+public final class RequestDigest {
+    private static final String ALGORITHM = "SHA-256";
+    private static final byte SEPARATOR = '\n';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private RequestDigest() {
+    }
+
+    public static String of(final String userIp, final byte[] body) {
+        MessageDigest messageDigest = newMessageDigest();
+        messageDigest.update(String.valueOf(userIp).getBytes(StandardCharsets.UTF_8));
+        messageDigest.update(SEPARATOR);
+        messageDigest.update(body);
+        return ENCODER.encodeToString(messageDigest.digest());
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.asap.server.presentation.config.ratelimit;
+
+/**
+ * 노드 안에서 Redis 호출 전에 한도를 먼저 확인하기 위한 토큰 버킷.
+ */
+class LocalTokenBucket {
+    private final long capacity;
+    private final long nanosPerToken;
+    private long availableTokens;
+    private long lastRefillAt;
+
+    LocalTokenBucket(final long capacity, final long intervalNanos, final long now) {
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, intervalNanos / capacity);
+        this.availableTokens = capacity;
+        this.lastRefillAt = now;
+    }
+
+    /**
+     * 토큰을 하나 꺼내고 0 을 반환한다. 토큰이 없으면 다음 토큰이 채워질 때까지 남은 시간(ns)을 반환한다.
+     */
+    synchronized long tryConsume(final long now) {
+        refill(now);
+        if (availableTokens > 0) {
+            availableTokens--;
+            return 0;
+        }
+        return nanosPerToken - (now - lastRefillAt);
+    }
+
+    synchronized boolean isFull(final long now) {
+        refill(now);
+        return availableTokens == capacity;
+    }
+
+    private void refill(final long now) {
+        final long tokens = (now - lastRefillAt) / nanosPerToken;
+        if (tokens <= 0) {
+            return;
+        }
+        if (availableTokens + tokens >= capacity) {
+            availableTokens = capacity;
+            lastRefillAt = now;
+            return;
+        }
+        availableTokens += tokens;
+        lastRefillAt += tokens * nanosPerToken;
+    }
+}
@@ -0,0 +1,23 @@
+package com.asap.server.presentation.config.ratelimit;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 비용이 큰 API 를 묶어 그룹마다 별도의 토큰 버킷을 둔다.
+ * 기본값은 asap.rate-limit.{name}.permits, asap.rate-limit.{name}.interval-seconds 로 덮어쓸 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public enum RateLimitGroup {
+    CREATION("creation", List.of("/meeting"), 10, 60),
+    MEMBER_SUBMISSION("member-submission", List.of("/user/{meetingId}/time", "/user/host/{meetingId}/time"), 30, 60),
+    RETRIEVAL("retrieval", List.of("/meeting/{meetingId}/details", "/meeting/{meetingId}/timetable", "/meeting/{meetingId}/timetable/stream", "/meeting/{meetingId}/dashboard", "/meeting/{meetingId}/heatmap"), 120, 60),
+    LOGIN("login", List.of("/user/{meetingId}/host"), 20, 60);
+
+    private final String name;
+    private final List<String> pathPatterns;
+    private final long defaultPermits;
+    private final long defaultIntervalSeconds;
+}
@@ -0,0 +1,166 @@
+package com.asap.server.presentation.config.ratelimit;
+
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.RateLimitExceededException;
+import com.asap.server.presentation.config.duplicate.DuplicateLockCircuitBreaker;
+import com.asap.server.presentation.config.resolver.ip.ClientIpResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RateIntervalUnit;
+import org.redisson.api.RateLimiterConfig;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청이 매핑된 경로로 그룹을 찾고, (그룹, ip) 마다 로컬 토큰 버킷과 Redisson RRateLimiter 를 차례로 확인한다.
+ * 로컬 버킷에서 이미 초과한 요청은 Redis 를 거치지 않고 거절한다.
+ * Redis 호출은 DuplicateLockCircuitBreaker 의 제한 시간 안에서만 기다리고, 시간 초과나 차단 상태에서는 로컬 버킷의 결과로만 판단한다.
+ */
+@Slf4j
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private static final String KEY_FORMAT = "ASAP_RATE_LIMIT:%s:%s";
+    private static final String REJECTED_METRIC = "asap.rate-limit.rejected";
+    private static final String GROUP_TAG = "group";
+    private static final String LAYER_TAG = "layer";
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final RedissonClient redissonClient;
+    private final DuplicateLockCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Map<String, RateLimitGroup> groupByPattern = Arrays.stream(RateLimitGroup.values())
+            .flatMap(group -> group.getPathPatterns().stream().map(pattern -> Map.entry(pattern, group)))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    private final Map<RateLimitGroup, Rate> rates = new EnumMap<>(RateLimitGroup.class);
+    private final Map<String, LocalTokenBucket> localBuckets = new ConcurrentHashMap<>();
+    // RRateLimiter 설정을 매 요청마다 다시 쓰지 않도록 초기화한 키와 만료 시각을 기억한다.
+    private final Map<String, Long> initializedUntil = new ConcurrentHashMap<>();
+
+    public RateLimitInterceptor(
+            final RedissonClient redissonClient,
+            final DuplicateLockCircuitBreaker circuitBreaker,
+            final MeterRegistry meterRegistry,
+            final Environment environment,
+            @Value("${asap.rate-limit.enabled:true}") final boolean enabled
+    ) {
+        this.redissonClient = redissonClient;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        for (RateLimitGroup group : RateLimitGroup.values()) {
+            final String prefix = "asap.rate-limit." + group.getName();
+            rates.put(group, new Rate(
+                    environment.getProperty(prefix + ".permits", Long.class, group.getDefaultPermits()),
+                    environment.getProperty(prefix + ".interval-seconds", Long.class, group.getDefaultIntervalSeconds())
+            ));
+        }
+    }
+
+    public List<String> getPathPatterns() {
+        return List.copyOf(groupByPattern.keySet());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final RateLimitGroup group = groupByPattern.get(
+                (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        if (!enabled || group == null) {
+            return true;
+        }
+
+        final Rate rate = rates.get(group);
+        final String key = String.format(KEY_FORMAT, group.getName(), ClientIpResolver.resolve(request));
+        final long now = System.nanoTime();
+
+        final long waitNanos = localBuckets.computeIfAbsent(key, k -> new LocalTokenBucket(rate.permits(), rate.intervalNanos(), now))
+                .tryConsume(now);
+        if (waitNanos > 0) {
+            reject(group, "local", waitNanos);
+        }
+        if (!tryAcquire(key, rate, now)) {
+            reject(group, "redis", rate.intervalNanos() / rate.permits());
+        }
+
+        if (localBuckets.size() > SWEEP_THRESHOLD) {
+            sweep(now);
+        }
+        return true;
+    }
+
+    private boolean tryAcquire(final String key, final Rate rate, final long now) {
+        final RRateLimiter rateLimiter = redissonClient.getRateLimiter(key);
+        final Long until = initializedUntil.get(key);
+        final boolean initialize = until == null || now - until >= 0;
+        // Redis 장애 시에는 로컬 버킷의 결과만으로 판단한다.
+        return circuitBreaker.execute(() -> {
+            if (!initialize) {
+                return rateLimiter.tryAcquireAsync();
+            }
+            return configure(rateLimiter, rate)
+                    .thenRun(() -> initializedUntil.put(key, now + rate.intervalNanos()))
+                    .thenCompose(ignored -> rateLimiter.tryAcquireAsync());
+        }, () -> true);
+    }
+
+    /**
+     * 처음 쓰는 키면 설정을 만들고, 이미 있는 키의 설정이 바뀐 한도와 다르면 새 한도로 덮어쓴다.
+     */
+    private CompletionStage<Boolean> configure(final RRateLimiter rateLimiter, final Rate rate) {
+        return rateLimiter.trySetRateAsync(RateType.OVERALL, rate.permits(), rate.intervalSeconds(), RateIntervalUnit.SECONDS)
+                .<Void>thenCompose(created -> {
+                    if (created) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return rateLimiter.getConfigAsync().<Void>thenCompose(config -> {
+                        if (rate.matches(config)) {
+                            return CompletableFuture.completedFuture(null);
+                        }
+                        return rateLimiter.setRateAsync(RateType.OVERALL, rate.permits(), rate.intervalSeconds(), RateIntervalUnit.SECONDS);
+                    });
+                })
+                .thenCompose(ignored -> rateLimiter.expireAsync(Duration.ofSeconds(rate.intervalSeconds() * 2)));
+    }
+
+    private void reject(final RateLimitGroup group, final String layer, final long waitNanos) {
+        meterRegistry.counter(REJECTED_METRIC, GROUP_TAG, group.getName(), LAYER_TAG, layer).increment();
+        final long retryAfterSeconds = Math.max(1, (long) Math.ceil(waitNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+        throw new RateLimitExceededException(Error.RATE_LIMIT_EXCEEDED_EXCEPTION, retryAfterSeconds);
+    }
+
+    // 오래 요청이 없던 ip 의 버킷은 가득 찬 상태이므로 지워도 결과가 달라지지 않는다.
+    private void sweep(final long now) {
+        localBuckets.entrySet().removeIf(entry -> entry.getValue().isFull(now));
+        initializedUntil.entrySet().removeIf(entry -> now - entry.getValue() >= 0);
+    }
+
+    private record Rate(long permits, long intervalSeconds) {
+        private long intervalNanos() {
+            return TimeUnit.SECONDS.toNanos(intervalSeconds);
+        }
+
+        private boolean matches(final RateLimiterConfig config) {
+            return config.getRateType() == RateType.OVERALL
+                    && config.getRate() == permits
+                    && config.getRateInterval() == TimeUnit.SECONDS.toMillis(intervalSeconds);
+        }
+    }
+}
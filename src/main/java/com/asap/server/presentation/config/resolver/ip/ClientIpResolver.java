@@ -0,0 +1,33 @@
+package com.asap.server.presentation.config.resolver.ip;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+public class ClientIpResolver implements HandlerMethodArgumentResolver {
+    public static final String USER_IP_HEADER = "x-real-ip";
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(ClientIp.class) && String.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        final HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
+        return resolve(request);
+    }
+
+    public static String resolve(final HttpServletRequest request) {
+        final String userIp = request.getHeader(USER_IP_HEADER);
+        if (userIp == null || userIp.isBlank()) {
+            return request.getRemoteAddr();
+        }
+        return userIp;
+    }
+}
@@ -4,6 +4,7 @@ import com.asap.server.common.jwt.JwtService;
 import com.asap.server.common.exception.Error;
 import com.asap.server.common.exception.model.BadRequestException;
 import com.asap.server.common.exception.model.UnauthorizedException;
+import com.asap.server.service.user.UserRetrieveService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
@@ -19,6 +20,7 @@ import jakarta.validation.constraints.NotNull;
 @Component
 public class UserIdResolver implements HandlerMethodArgumentResolver {
     private final JwtService jwtService;
+    private final UserRetrieveService userRetrieveService;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
@@ -37,6 +39,9 @@ public class UserIdResolver implements HandlerMethodArgumentResolver {
             throw new UnauthorizedException(Error.EXPIRE_TOKEN_EXCEPTION);
         }
         final String decodedUserId = jwtService.getJwtContents(encodedUserId);
+        if (decodedUserId == null) {
+            return resolveSubmission(encodedUserId);
+        }
         try {
             return Long.parseLong(decodedUserId);
         } catch (NumberFormatException e) {
@@ -44,4 +49,12 @@ public class UserIdResolver implements HandlerMethodArgumentResolver {
         }
     }
 
+    private Long resolveSubmission(final String token) {
+        final String submissionId = jwtService.getSubmissionId(token);
+        if (submissionId == null) {
+            throw new BadRequestException(Error.INVALID_TOKEN_EXCEPTION);
+        }
+        return userRetrieveService.getUserIdBySubmissionId(submissionId);
+    }
+
 }
\ No newline at end of file
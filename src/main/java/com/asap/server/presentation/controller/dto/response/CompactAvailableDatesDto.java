@@ -0,0 +1,11 @@
+package com.asap.server.presentation.controller.dto.response;
+
+import java.util.List;
+
+public record CompactAvailableDatesDto(
+        String month,
+        String day,
+        String dayOfWeek,
+        List<CompactTimeSlotDto> timeSlots
+) {
+}
@@ -0,0 +1,10 @@
+package com.asap.server.presentation.controller.dto.response;
+
+import java.util.List;
+
+public record CompactTimeSlotDto(
+        String time,
+        List<Integer> userIndexes,
+        int colorLevel
+) {
+}
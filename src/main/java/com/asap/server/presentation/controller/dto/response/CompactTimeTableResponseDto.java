@@ -0,0 +1,15 @@
+package com.asap.server.presentation.controller.dto.response;
+
+import java.util.List;
+
+/**
+ * 참여자 이름을 totalUserNames 에 한 번만 싣고, 각 시간대에는 그 목록의 인덱스만 싣는 종합 일정 시간표.
+ */
+public record CompactTimeTableResponseDto(
+        int memberCount,
+        List<String> totalUserNames,
+        List<CompactAvailableDatesDto> availableDateTimes
+) {
+    public static final String FORMAT = "compact";
+    public static final String MEDIA_TYPE = "application/vnd.asap.compact+json";
+}
@@ -0,0 +1,17 @@
+package com.asap.server.presentation.controller.dto.response;
+
+import com.asap.server.service.meeting.dto.DashboardDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DashboardResponseDto(
+        BestMeetingTimeResponseDto bestMeetingTime,
+        StreamingTimeTableResponseDto timeTable
+) {
+    public static DashboardResponseDto of(final DashboardDto dashboardDto) {
+        return new DashboardResponseDto(
+                dashboardDto.bestMeetingTime() == null ? null : BestMeetingTimeResponseDto.of(dashboardDto.bestMeetingTime()),
+                dashboardDto.timeTable() == null ? null : new StreamingTimeTableResponseDto(dashboardDto.timeTable())
+        );
+    }
+}
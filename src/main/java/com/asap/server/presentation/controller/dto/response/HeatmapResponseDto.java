@@ -0,0 +1,12 @@
+package com.asap.server.presentation.controller.dto.response;
+
+import java.util.List;
+
+/**
+ * 참여자 이름 없이 시간대별 가능 인원과 colorLevel 만 담는 시간표.
+ */
+public record HeatmapResponseDto(
+        int memberCount,
+        List<HeatmapAvailableDatesDto> availableDateTimes
+) {
+}
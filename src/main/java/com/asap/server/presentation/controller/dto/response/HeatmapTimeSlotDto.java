@@ -0,0 +1,8 @@
+package com.asap.server.presentation.controller.dto.response;
+
+public record HeatmapTimeSlotDto(
+        String time,
+        int userCount,
+        int colorLevel
+) {
+}
@@ -0,0 +1,88 @@
+package com.asap.server.presentation.controller.dto.response;
+
+import com.asap.server.common.utils.DateUtil;
+import com.asap.server.service.time.vo.TimeBlockVo;
+import com.asap.server.service.time.vo.TimeTableVo;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * TimeTableResponseDto 와 같은 모양의 JSON 을 시간 블록을 날짜 순으로 훑으면서 바로 응답에 쓴다.
+ * AvailableDatesDto, TimeSlotDto 목록을 만들지 않으므로 회의 규모와 관계없이 요청당 메모리 사용량이 일정하다.
+ */
+@JsonSerialize(using = StreamingTimeTableResponseDto.Serializer.class)
+public record StreamingTimeTableResponseDto(TimeTableVo timeTable) {
+
+    public static class Serializer extends JsonSerializer<StreamingTimeTableResponseDto> {
+        @Override
+        public void serialize(
+                final StreamingTimeTableResponseDto value,
+                final JsonGenerator gen,
+                final SerializerProvider serializers
+        ) throws IOException {
+            final TimeTableVo timeTable = value.timeTable();
+
+            gen.writeStartObject();
+            gen.writeNumberField("memberCount", timeTable.memberCount());
+            gen.writeArrayFieldStart("totalUserNames");
+            for (String userName : timeTable.userNames().values()) {
+                gen.writeString(userName);
+            }
+            gen.writeEndArray();
+
+            gen.writeArrayFieldStart("availableDateTimes");
+            LocalDate currentDate = null;
+            for (TimeBlockVo timeBlock : timeTable.timeBlocks()) {
+                if (!timeBlock.availableDate().equals(currentDate)) {
+                    if (currentDate != null) {
+                        writeAvailableDateEnd(gen);
+                    }
+                    currentDate = timeBlock.availableDate();
+                    writeAvailableDateStart(gen, currentDate);
+                }
+                writeTimeSlot(gen, timeTable, timeBlock);
+            }
+            if (currentDate != null) {
+                writeAvailableDateEnd(gen);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+
+        private void writeAvailableDateStart(final JsonGenerator gen, final LocalDate date) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("month", DateUtil.getMonth(date));
+            gen.writeStringField("day", DateUtil.getDay(date));
+            gen.writeStringField("dayOfWeek", DateUtil.getDayOfWeek(date));
+            gen.writeArrayFieldStart("timeSlots");
+        }
+
+        private void writeAvailableDateEnd(final JsonGenerator gen) throws IOException {
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+
+        private void writeTimeSlot(
+                final JsonGenerator gen,
+                final TimeTableVo timeTable,
+                final TimeBlockVo timeBlock
+        ) throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("time", timeBlock.timeSlot().getTime());
+            gen.writeArrayFieldStart("userNames");
+            for (Long userId : timeBlock.userIds()) {
+                final String userName = timeTable.userNames().get(userId);
+                if (userName != null) {
+                    gen.writeString(userName);
+                }
+            }
+            gen.writeEndArray();
+            gen.writeNumberField("colorLevel", timeTable.getColorLevel(timeBlock));
+            gen.writeEndObject();
+        }
+    }
+}
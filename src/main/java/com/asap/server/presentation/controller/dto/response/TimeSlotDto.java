@@ -1,6 +1,5 @@
 package com.asap.server.presentation.controller.dto.response;
 
-import com.asap.server.service.time.dto.retrieve.TimeBlockRetrieveDto;
 import java.util.List;
 
 public record TimeSlotDto (
@@ -8,9 +7,4 @@ public record TimeSlotDto (
         List<String> userNames,
         int colorLevel
 ) {
-    public static List<TimeSlotDto> of(List<TimeBlockRetrieveDto> retrieveDtos) {
-        return retrieveDtos.stream().map(
-                dto -> new TimeSlotDto(dto.time(), dto.userNames(), dto.colorLevel())
-        ).toList();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.asap.server.presentation.controller.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * sinceVersion 이후 바뀐 시간대만 담는 시간표. 바뀐 것이 없으면 version 과 빈 availableDateTimes 만 내려준다.
+ * 참여자가 모두 빠진 시간대는 userNames 가 비어 있고 colorLevel 이 0 이다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TimeTableDeltaResponseDto(
+        long version,
+        Integer memberCount,
+        List<String> totalUserNames,
+        List<AvailableDatesDto> availableDateTimes
+) {
+    public static TimeTableDeltaResponseDto unchanged(final long version) {
+        return new TimeTableDeltaResponseDto(version, null, null, List.of());
+    }
+}
@@ -1,6 +1,5 @@
 package com.asap.server.presentation.controller.dto.response;
 
-import com.asap.server.service.time.dto.retrieve.TimeTableRetrieveDto;
 import java.util.List;
 
 public record TimeTableResponseDto(
@@ -8,10 +7,4 @@ public record TimeTableResponseDto(
         List<String> totalUserNames,
         List<AvailableDatesDto> availableDateTimes
 ) {
-    public static TimeTableResponseDto of(final TimeTableRetrieveDto retrieveDto) {
-        return new TimeTableResponseDto(
-                retrieveDto.memberCount(),
-                retrieveDto.totalUserNames(),
-                AvailableDatesDto.of(retrieveDto.availableDateTimes()));
-    }
 }
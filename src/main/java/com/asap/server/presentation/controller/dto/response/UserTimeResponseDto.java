@@ -11,4 +11,6 @@ import lombok.ToString;
 @AllArgsConstructor
 public class UserTimeResponseDto {
     private String role;
+    // 가능 시간을 수정할 때 사용한다. 비동기로 저장하는 경우 저장이 끝나기 전에 사용하면 409 를 응답한다.
+    private String accessToken;
 }
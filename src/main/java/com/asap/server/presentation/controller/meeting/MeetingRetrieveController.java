@@ -5,24 +5,39 @@ import com.asap.server.presentation.common.dto.SuccessResponse;
 import com.asap.server.presentation.config.resolver.meeting.MeetingPathVariable;
 import com.asap.server.presentation.config.resolver.user.UserId;
 import com.asap.server.presentation.controller.dto.response.BestMeetingTimeResponseDto;
+import com.asap.server.presentation.controller.dto.response.CompactTimeTableResponseDto;
+import com.asap.server.presentation.controller.dto.response.DashboardResponseDto;
 import com.asap.server.presentation.controller.dto.response.FixedMeetingResponseDto;
+import com.asap.server.presentation.controller.dto.response.HeatmapResponseDto;
 import com.asap.server.presentation.controller.dto.response.MeetingScheduleResponseDto;
 import com.asap.server.presentation.controller.dto.response.MeetingTitleResponseDto;
-import com.asap.server.presentation.controller.dto.response.TimeTableResponseDto;
+import com.asap.server.presentation.controller.dto.response.StreamingTimeTableResponseDto;
 import com.asap.server.presentation.controller.meeting.docs.MeetingRetrieveControllerDocs;
 import com.asap.server.service.MeetingService;
 import com.asap.server.service.meeting.MeetingRetrieveService;
+import com.asap.server.service.meeting.dto.DashboardField;
+import com.asap.server.service.time.TimeTableStreamBroker;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/meeting")
 @RequiredArgsConstructor
 public class MeetingRetrieveController implements MeetingRetrieveControllerDocs {
+    private static final MediaType COMPACT_MEDIA_TYPE = MediaType.parseMediaType(CompactTimeTableResponseDto.MEDIA_TYPE);
+
     private final MeetingService meetingService;
     private final MeetingRetrieveService meetingRetrieveService;
+    private final TimeTableStreamBroker timeTableStreamBroker;
 
     @GetMapping("/{meetingId}/schedule")
     @Override
@@ -48,16 +63,41 @@ public class MeetingRetrieveController implements MeetingRetrieveControllerDocs
 
     @GetMapping("/{meetingId}/timetable")
     @Override
-    public SuccessResponse<TimeTableResponseDto> getTimeTable(
+    public SuccessResponse<?> getTimeTable(
             @MeetingPathVariable final Long meetingId,
-            @UserId final Long userId
+            @UserId final Long userId,
+            @RequestParam(value = "format", required = false) final String format,
+            @RequestParam(value = "sinceVersion", required = false) final Long sinceVersion,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) final String accept
     ) {
+        if (sinceVersion != null) {
+            return SuccessResponse.success(
+                    Success.FIND_TIME_TABLE_SUCCESS,
+                    meetingRetrieveService.getTimeTableChanges(userId, meetingId, sinceVersion)
+            );
+        }
+        if (isCompactFormat(format, accept)) {
+            return SuccessResponse.success(
+                    Success.FIND_TIME_TABLE_SUCCESS,
+                    meetingRetrieveService.getCompactTimeTable(userId, meetingId)
+            );
+        }
         return SuccessResponse.success(
                 Success.FIND_TIME_TABLE_SUCCESS,
-                TimeTableResponseDto.of(meetingRetrieveService.getTimeTable(userId, meetingId))
+                new StreamingTimeTableResponseDto(meetingRetrieveService.getTimeTableVo(userId, meetingId))
         );
     }
 
+    @GetMapping("/{meetingId}/timetable/stream")
+    @Override
+    public SseEmitter streamTimeTable(
+            @MeetingPathVariable final Long meetingId,
+            @UserId final Long userId
+    ) {
+        meetingRetrieveService.validateTimeTableHost(userId, meetingId);
+        return timeTableStreamBroker.connect(meetingId);
+    }
+
     @GetMapping("/{meetingId}")
     @Override
     public SuccessResponse<MeetingTitleResponseDto> getIsFixedMeeting(
@@ -77,4 +117,40 @@ public class MeetingRetrieveController implements MeetingRetrieveControllerDocs
                 BestMeetingTimeResponseDto.of(meetingRetrieveService.getBestMeetingTime(meetingId, userId))
         );
     }
+
+    @GetMapping("/{meetingId}/dashboard")
+    @Override
+    public SuccessResponse<DashboardResponseDto> getDashboard(
+            @MeetingPathVariable final Long meetingId,
+            @UserId final Long userId,
+            @RequestParam(value = "fields", required = false) final List<String> fields
+    ) {
+        return SuccessResponse.success(
+                Success.FIND_DASHBOARD_SUCCESS,
+                DashboardResponseDto.of(meetingRetrieveService.getDashboard(userId, meetingId, DashboardField.from(fields)))
+        );
+    }
+
+    @GetMapping("/{meetingId}/heatmap")
+    @Override
+    public SuccessResponse<HeatmapResponseDto> getHeatmap(
+            @MeetingPathVariable final Long meetingId
+    ) {
+        return SuccessResponse.success(Success.FIND_HEATMAP_SUCCESS, meetingRetrieveService.getHeatmap(meetingId));
+    }
+
+    private boolean isCompactFormat(final String format, final String accept) {
+        if (CompactTimeTableResponseDto.FORMAT.equals(format)) {
+            return true;
+        }
+        if (accept == null) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(COMPACT_MEDIA_TYPE::equalsTypeAndSubtype);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
 }
@@ -34,7 +34,13 @@ public interface MeetingRegisterControllerDocs {
                             + "11. 비밀번호는 4자리 이상 숫자입니다.\n"
                             + "12. 추가 내용의 최대 입력 길이(50자)를 초과했습니다.",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
-            @ApiResponse(responseCode = "500", description = "서버 내부 오류", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            @ApiResponse(responseCode = "413", description = "요청 본문의 크기가 너무 큽니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429",
+                    description = "1. 중복된 요청입니다.\n"
+                            + "2. 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "비밀번호 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     SuccessResponse<MeetingSaveResponseDto> create(final MeetingSaveRequestDto meetingSaveRequestDto);
 
@@ -3,9 +3,13 @@ package com.asap.server.presentation.controller.meeting.docs;
 import com.asap.server.presentation.common.dto.ErrorResponse;
 import com.asap.server.presentation.common.dto.SuccessResponse;
 import com.asap.server.presentation.controller.dto.response.BestMeetingTimeResponseDto;
+import com.asap.server.presentation.controller.dto.response.CompactTimeTableResponseDto;
+import com.asap.server.presentation.controller.dto.response.DashboardResponseDto;
 import com.asap.server.presentation.controller.dto.response.FixedMeetingResponseDto;
+import com.asap.server.presentation.controller.dto.response.HeatmapResponseDto;
 import com.asap.server.presentation.controller.dto.response.MeetingScheduleResponseDto;
 import com.asap.server.presentation.controller.dto.response.MeetingTitleResponseDto;
+import com.asap.server.presentation.controller.dto.response.TimeTableDeltaResponseDto;
 import com.asap.server.presentation.controller.dto.response.TimeTableResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +20,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "회의", description = "회의 관련 API 입니다.")
 public interface MeetingRetrieveControllerDocs {
@@ -47,9 +53,14 @@ public interface MeetingRetrieveControllerDocs {
             @Parameter(schema = @Schema(implementation = String.class), in = ParameterIn.PATH) final Long meetingId
     );
 
-    @Operation(summary = "[방장 뷰] 종합 일정 시간표 제공 API")
+    @Operation(summary = "[방장 뷰] 종합 일정 시간표 제공 API",
+            description = "format=compact 또는 Accept: " + CompactTimeTableResponseDto.MEDIA_TYPE + " 로 요청하면 "
+                    + "참여자 이름은 totalUserNames 에 한 번만 내려주고, 각 시간대에는 그 인덱스를 userIndexes 로 내려줍니다.\n"
+                    + "sinceVersion 을 주면 그 버전 이후 바뀐 시간대만 version 과 함께 내려줍니다. "
+                    + "처음에는 sinceVersion=0 으로 전체를 받고, 이후에는 응답의 version 을 다음 요청에 넘깁니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "종합 일정 시간표 조회 성공입니다."),
+            @ApiResponse(responseCode = "200", description = "종합 일정 시간표 조회 성공입니다.",
+                    content = @Content(schema = @Schema(oneOf = {TimeTableResponseDto.class, CompactTimeTableResponseDto.class, TimeTableDeltaResponseDto.class}))),
             @ApiResponse(responseCode = "401", description = "해당 유저는 해당 방의 방장이 아닙니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404",
                     description =
@@ -62,7 +73,27 @@ public interface MeetingRetrieveControllerDocs {
             @ApiResponse(responseCode = "500", description = "서버 내부 오류", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @SecurityRequirement(name = "JWT Auth")
-    SuccessResponse<TimeTableResponseDto> getTimeTable(
+    SuccessResponse<?> getTimeTable(
+            @Parameter(schema = @Schema(implementation = String.class), in = ParameterIn.PATH) final Long meetingId,
+            @Parameter(hidden = true) final Long userId,
+            @Parameter(description = "compact 이면 압축 형식으로 응답합니다.", in = ParameterIn.QUERY) final String format,
+            @Parameter(description = "마지막으로 받은 시간표 버전", in = ParameterIn.QUERY) final Long sinceVersion,
+            @Parameter(hidden = true) final String accept
+    );
+
+    @Operation(summary = "[방장 뷰] 종합 일정 시간표 실시간 변경 구독 API",
+            description = "text/event-stream 으로 응답합니다. 연결되면 connected 이벤트를 보내고, "
+                    + "참여자가 가능 시간을 제출하거나 수정할 때마다 바뀐 시간대의 인원 증감을 slot-count 이벤트로 보냅니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "실시간 시간표 구독에 성공했습니다."),
+            @ApiResponse(responseCode = "401", description = "해당 유저는 해당 방의 방장이 아닙니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "해당 회의는 존재하지 않습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "이미 확정된 회의입니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "실시간 시간표 연결이 많습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "JWT Auth")
+    SseEmitter streamTimeTable(
             @Parameter(schema = @Schema(implementation = String.class), in = ParameterIn.PATH) final Long meetingId,
             @Parameter(hidden = true) final Long userId
     );
@@ -98,4 +129,36 @@ public interface MeetingRetrieveControllerDocs {
             @Parameter(schema = @Schema(implementation = String.class), in = ParameterIn.PATH) final Long meetingId,
             @Parameter(hidden = true) Long userId
     );
+
+    @Operation(summary = "[방장 뷰] 최적의 회의 시간과 종합 일정 시간표 동시 조회 API",
+            description = "fields 로 bestMeetingTime, timeTable 중 필요한 항목만 고를 수 있습니다. 생략하면 모두 내려줍니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "방장 대시보드 조회 성공입니다."),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 값이 입력되었습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "해당 유저는 해당 방의 방장이 아닙니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404",
+                    description = "1. 해당 회의는 존재하지 않습니다.\n"
+                            + "2. 회의 가능 일자가 존재하지 않습니다."
+                    , content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "이미 확정된 회의입니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "JWT Auth")
+    SuccessResponse<DashboardResponseDto> getDashboard(
+            @Parameter(schema = @Schema(implementation = String.class), in = ParameterIn.PATH) final Long meetingId,
+            @Parameter(hidden = true) final Long userId,
+            @Parameter(description = "bestMeetingTime, timeTable 중 내려받을 항목", in = ParameterIn.QUERY) final List<String> fields
+    );
+
+    @Operation(summary = "[가능 시간 입력 뷰] 시간대별 참여 현황 조회 API",
+            description = "참여자 이름 없이 시간대별 가능 인원과 colorLevel 만 내려줍니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "시간대별 참여 현황 조회 성공입니다."),
+            @ApiResponse(responseCode = "404", description = "해당 회의는 존재하지 않습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "이미 확정된 회의입니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    SuccessResponse<HeatmapResponseDto> getHeatmap(
+            @Parameter(schema = @Schema(implementation = String.class), in = ParameterIn.PATH) final Long meetingId
+    );
 }
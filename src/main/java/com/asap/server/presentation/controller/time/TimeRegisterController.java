@@ -14,6 +14,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -53,4 +54,20 @@ public class TimeRegisterController implements TimeRegisterControllerDocs {
                 userService.createUserTime(meetingId, requestDto.toRegisterDto())
         );
     }
+
+    @PutMapping("/{meetingId}/time")
+    @Override
+    public SuccessResponse<UserTimeResponseDto> updateUserTime(
+            @MeetingPathVariable final Long meetingId,
+            @RequestBody final List<@Valid @NotNull UserMeetingTimeSaveRequestDto> requestDtoList,
+            @UserId final Long userId
+    ) {
+        return SuccessResponse.success(
+                Success.UPDATE_MEETING_TIME_SUCCESS,
+                userService.updateUserTime(
+                        meetingId,
+                        userId,
+                        requestDtoList.stream().map(UserMeetingTimeSaveRequestDto::toRegisterDto).toList()
+                ));
+    }
 }
@@ -35,6 +35,7 @@ public interface TimeRegisterControllerDocs {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "해당 회의는 존재하지 않습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "409", description = "해당 회의 방장의 가능시간이 이미 존재합니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "413", description = "요청 본문의 크기가 너무 큽니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     SuccessResponse<UserMeetingTimeResponseDto> createHostTime(
@@ -51,10 +52,38 @@ public interface TimeRegisterControllerDocs {
                             + "2. 중복 입력된 시간이 있습니다.\n"
                             + "3. 입력한 시간이 회의 가능 일시에 해당하지 않습니다.",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
-            @ApiResponse(responseCode = "404", description = "해당 회의는 존재하지 않습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            @ApiResponse(responseCode = "404", description = "해당 회의는 존재하지 않습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "413", description = "요청 본문의 크기가 너무 큽니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     SuccessResponse<UserTimeResponseDto> createMemberTime(
             @Parameter(schema = @Schema(implementation = String.class), in = ParameterIn.PATH) final Long meetingId,
             final AvailableTimeRequestDto requestDto
     );
+
+    @Operation(summary = "[회의 가능 시간 입력 뷰] 가능 시간 수정 API",
+            description = "입력했던 가능 시간 전체를 새 목록으로 바꿉니다. 바뀐 구간만 다시 저장합니다.")
+    @SecurityRequirement(name = "JWT Auth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "회의 가능 시간 수정을 성공하였습니다."),
+            @ApiResponse(responseCode = "400",
+                    description = "1. 시간 형식이 잘못되었습니다. [YYYY/MM/DD HH:MM]\n"
+                            + "2. 중복 입력된 시간이 있습니다.\n"
+                            + "3. 입력한 시간이 회의 가능 일시에 해당하지 않습니다.",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401",
+                    description = "1. 토큰이 필요합니다.\n"
+                            + "2. 토큰이 유효하지 않습니다.",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404",
+                    description = "1. 해당 회의는 존재하지 않습니다.\n"
+                            + "2. 해당 유저는 존재하지 않습니다.",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "이미 확정된 회의입니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    SuccessResponse<UserTimeResponseDto> updateUserTime(
+            @Parameter(schema = @Schema(implementation = String.class), in = ParameterIn.PATH) final Long meetingId,
+            final List<UserMeetingTimeSaveRequestDto> requestDtoList,
+            @Parameter(hidden = true) final Long userId
+    );
 }
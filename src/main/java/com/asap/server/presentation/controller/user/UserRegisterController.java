@@ -2,6 +2,7 @@ package com.asap.server.presentation.controller.user;
 
 import com.asap.server.common.exception.Success;
 import com.asap.server.presentation.common.dto.SuccessResponse;
+import com.asap.server.presentation.config.resolver.ip.ClientIp;
 import com.asap.server.presentation.config.resolver.meeting.MeetingPathVariable;
 import com.asap.server.presentation.controller.dto.request.HostLoginRequestDto;
 import com.asap.server.presentation.controller.dto.response.HostLoginResponseDto;
@@ -24,12 +25,14 @@ public class UserRegisterController implements UserRegisterControllerDocs {
     @Override
     public SuccessResponse<HostLoginResponseDto> loginByHost(
             @MeetingPathVariable final Long meetingId,
-            @RequestBody @Valid final HostLoginRequestDto requestDto
+            @RequestBody @Valid final HostLoginRequestDto requestDto,
+            @ClientIp final String clientIp
     ) {
         String hostAccessToken = userLoginService.loginByHost(
                 meetingId,
                 requestDto.name(),
-                requestDto.password()
+                requestDto.password(),
+                clientIp
         );
 
         return SuccessResponse.success(
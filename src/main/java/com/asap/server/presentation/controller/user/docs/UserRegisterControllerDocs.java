@@ -25,10 +25,16 @@ public interface UserRegisterControllerDocs {
             @ApiResponse(responseCode = "401", description = "유효하지 않은 사용자 이름 또는 비밀번호입니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "403", description = "회의 가능 시간이 입력되지 않았습니다."),
             @ApiResponse(responseCode = "404", description = "해당 회의는 존재하지 않습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
-            @ApiResponse(responseCode = "409", description = "이미 확정된 회의입니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            @ApiResponse(responseCode = "409", description = "이미 확정된 회의입니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429",
+                    description = "1. 로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.\n"
+                            + "2. 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "비밀번호 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     SuccessResponse<HostLoginResponseDto> loginByHost(
             @Parameter(schema = @Schema(implementation = String.class), in = ParameterIn.PATH) final Long meetingId,
-            final HostLoginRequestDto requestDto
+            final HostLoginRequestDto requestDto,
+            @Parameter(hidden = true) final String clientIp
     );
 }
@@ -8,6 +8,7 @@ import com.asap.server.common.exception.model.ConflictException;
 import com.asap.server.common.exception.model.NotFoundException;
 import com.asap.server.common.exception.model.UnauthorizedException;
 import com.asap.server.common.jwt.JwtService;
+import com.asap.server.infra.redis.UserTimeSubmissionStream;
 import com.asap.server.persistence.domain.Meeting;
 import com.asap.server.persistence.domain.enums.Role;
 import com.asap.server.persistence.domain.enums.TimeSlot;
@@ -18,14 +19,18 @@ import com.asap.server.persistence.repository.user.UserRepository;
 import com.asap.server.presentation.controller.dto.request.UserRequestDto;
 import com.asap.server.presentation.controller.dto.response.UserMeetingTimeResponseDto;
 import com.asap.server.presentation.controller.dto.response.UserTimeResponseDto;
+import com.asap.server.service.time.TimeTableChangeLogService;
 import com.asap.server.service.time.UserMeetingScheduleService;
 import com.asap.server.service.time.dto.register.UserMeetingScheduleRegisterDto;
 import com.asap.server.service.time.dto.register.UserTimeRegisterDto;
+import com.asap.server.service.time.dto.register.UserTimeSubmissionDto;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,15 +42,28 @@ public class UserService {
     private final MeetingRepository meetingRepository;
     private final JwtService jwtService;
     private final UserMeetingScheduleService userMeetingScheduleService;
+    private final UserTimeSubmissionStream userTimeSubmissionStream;
+    private final TimeTableChangeLogService timeTableChangeLogService;
+
+    @Value("${asap.ingestion.async.enabled:false}")
+    private boolean asyncIngestionEnabled;
 
     public User createUser(final Meeting meeting,
                            final Name userName,
                            final Role role) {
+        return createUser(meeting, userName, role, null);
+    }
+
+    public User createUser(final Meeting meeting,
+                           final Name userName,
+                           final Role role,
+                           final String submissionId) {
         User user = User.builder()
                 .meeting(meeting)
                 .name(userName)
                 .role(role)
                 .isFixed(false)
+                .submissionId(submissionId)
                 .build();
         userRepository.save(user);
         return user;
@@ -57,8 +75,7 @@ public class UserService {
             final Long hostId,
             final List<UserMeetingScheduleRegisterDto> requestDtos
     ) {
-        Meeting meeting = meetingRepository.findById(meetingId)
-                .orElseThrow(() -> new NotFoundException(Error.MEETING_NOT_FOUND_EXCEPTION));
+        Meeting meeting = timeTableChangeLogService.lockMeeting(meetingId);
 
         if (!meeting.authenticateHost(hostId)) {
             throw new UnauthorizedException(INVALID_MEETING_HOST_EXCEPTION);
@@ -68,6 +85,7 @@ public class UserService {
             throw new ConflictException(Error.HOST_TIME_EXIST_EXCEPTION);
         }
 
+        userMeetingScheduleService.validateUserMeetingSchedule(meetingId, requestDtos);
         userMeetingScheduleService.createUserMeetingSchedule(meetingId, hostId, requestDtos);
 
         String accessToken = jwtService.issuedToken(meeting.getHost().getId().toString());
@@ -86,12 +104,53 @@ public class UserService {
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new NotFoundException(Error.MEETING_NOT_FOUND_EXCEPTION));
 
-        User user = createUser(meeting, new Name(registerDto.name()), Role.MEMBER);
+        Name name = new Name(registerDto.name());
+        userMeetingScheduleService.validateUserMeetingSchedule(meetingId, registerDto.availableSchedules());
+
+        if (asyncIngestionEnabled) {
+            // 검증만 마치고 큐에 넣은 뒤 바로 응답한다. 저장은 UserTimeIngestionWorker 가 배치로 처리한다.
+            // 참여자 id 가 아직 없으므로 접수 id 로 토큰을 발급하고, 저장된 뒤 요청하면 접수 id 로 참여자를 찾는다.
+            String submissionId = UUID.randomUUID().toString();
+            userTimeSubmissionStream.append(new UserTimeSubmissionDto(submissionId, meetingId, registerDto));
+            return UserTimeResponseDto.builder()
+                    .role(Role.MEMBER.getRole())
+                    .accessToken(jwtService.issuedSubmissionToken(submissionId))
+                    .build();
+        }
+
+        timeTableChangeLogService.lockMeeting(meetingId);
+        User user = createUser(meeting, name, Role.MEMBER);
 
         userMeetingScheduleService.createUserMeetingSchedule(meetingId, user.getId(), registerDto.availableSchedules());
 
         return UserTimeResponseDto.builder()
                 .role(Role.MEMBER.getRole())
+                .accessToken(jwtService.issuedToken(user.getId().toString()))
+                .build();
+    }
+
+    @Transactional
+    public UserTimeResponseDto updateUserTime(
+            final Long meetingId,
+            final Long userId,
+            final List<UserMeetingScheduleRegisterDto> requestDtos
+    ) {
+        Meeting meeting = meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new NotFoundException(Error.MEETING_NOT_FOUND_EXCEPTION));
+        if (meeting.isConfirmedMeeting()) {
+            throw new ConflictException(Error.MEETING_VALIDATION_FAILED_EXCEPTION);
+        }
+
+        timeTableChangeLogService.lockMeeting(meetingId);
+        User user = userRepository.findByIdForUpdate(userId)
+                .filter(found -> found.getMeeting().getId().equals(meetingId))
+                .orElseThrow(() -> new NotFoundException(Error.USER_NOT_FOUND_EXCEPTION));
+
+        userMeetingScheduleService.validateUserMeetingSchedule(meetingId, requestDtos);
+        userMeetingScheduleService.updateUserMeetingSchedule(meetingId, userId, requestDtos);
+
+        return UserTimeResponseDto.builder()
+                .role(user.getRole().getRole())
                 .build();
     }
 
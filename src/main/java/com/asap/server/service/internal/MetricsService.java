@@ -14,6 +14,7 @@ import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +22,7 @@ public class MetricsService {
     private final MetricsRepository metricsRepository;
     private final ApplicationEventPublisher publisher;
 
+    @Transactional
     public void sendMetrics(final String fromStr, final String toStr) {
         if (!isValidDate(fromStr) || !isValidDate(toStr)) {
             throw new BadRequestException(INVALID_DATE_FORMAT_EXCEPTION);
@@ -4,27 +4,50 @@ import com.asap.server.common.exception.Error;
 import com.asap.server.common.exception.model.ConflictException;
 import com.asap.server.common.exception.model.NotFoundException;
 import com.asap.server.common.exception.model.UnauthorizedException;
+import com.asap.server.common.metrics.RecommendationMetricsAspect;
+import com.asap.server.common.utils.DateUtil;
 import com.asap.server.persistence.domain.Meeting;
+import com.asap.server.persistence.domain.time.MeetingSlotCount;
 import com.asap.server.persistence.domain.user.User;
 import com.asap.server.persistence.repository.meeting.MeetingRepository;
+import com.asap.server.presentation.controller.dto.response.AvailableDatesDto;
+import com.asap.server.presentation.controller.dto.response.CompactAvailableDatesDto;
+import com.asap.server.presentation.controller.dto.response.CompactTimeSlotDto;
+import com.asap.server.presentation.controller.dto.response.CompactTimeTableResponseDto;
+import com.asap.server.presentation.controller.dto.response.HeatmapAvailableDatesDto;
+import com.asap.server.presentation.controller.dto.response.HeatmapResponseDto;
+import com.asap.server.presentation.controller.dto.response.HeatmapTimeSlotDto;
+import com.asap.server.presentation.controller.dto.response.TimeSlotDto;
+import com.asap.server.presentation.controller.dto.response.TimeTableDeltaResponseDto;
 import com.asap.server.service.meeting.dto.BestMeetingTimeDto;
+import com.asap.server.service.meeting.dto.DashboardDto;
+import com.asap.server.service.meeting.dto.DashboardField;
 import com.asap.server.service.meeting.dto.UserDto;
+import com.asap.server.service.time.MeetingSlotCountService;
 import com.asap.server.service.time.MeetingTimeRecommendService;
+import com.asap.server.service.time.TimeTableChangeLogService;
 import com.asap.server.service.time.UserMeetingScheduleService;
-import com.asap.server.service.time.dto.retrieve.AvailableDatesRetrieveDto;
-import com.asap.server.service.time.dto.retrieve.TimeBlockRetrieveDto;
-import com.asap.server.service.time.dto.retrieve.TimeTableRetrieveDto;
 import com.asap.server.service.time.vo.BestMeetingTimeVo;
 import com.asap.server.service.time.vo.BestMeetingTimeWithUsers;
 import com.asap.server.service.time.vo.TimeBlockVo;
+import com.asap.server.service.time.vo.TimeTableVo;
+import com.asap.server.service.time.vo.UserScheduleByTimeSlotVo.CompositeKey;
 import com.asap.server.service.user.UserRetrieveService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import static com.asap.server.common.exception.Error.MEETING_VALIDATION_FAILED_EXCEPTION;
@@ -37,21 +60,21 @@ public class MeetingRetrieveService {
     private final UserRetrieveService userRetrieveService;
     private final MeetingTimeRecommendService meetingTimeRecommendService;
     private final UserMeetingScheduleService userMeetingScheduleService;
+    private final MeterRegistry meterRegistry;
+    private final ParallelLoader parallelLoader;
+    private final MeetingSlotCountService meetingSlotCountService;
+    private final TimeTableChangeLogService timeTableChangeLogService;
 
     public BestMeetingTimeDto getBestMeetingTime(final Long meetingId, final Long userId) {
-        Meeting meeting = meetingRepository.findById(meetingId)
-                .orElseThrow(() -> new NotFoundException(Error.MEETING_NOT_FOUND_EXCEPTION));
-
-        if (!meeting.authenticateHost(userId)) {
-            throw new UnauthorizedException(Error.INVALID_MEETING_HOST_EXCEPTION);
-        }
-        if (meeting.isConfirmedMeeting()) {
-            throw new ConflictException(MEETING_VALIDATION_FAILED_EXCEPTION);
-        }
+        Meeting meeting = validateHostMeeting(userId, meetingId);
 
-        int userCount = userRetrieveService.getMeetingUserCount(meeting);
+        ParallelLoader.Batch batch = parallelLoader.batch();
+        Future<Integer> userCountFuture = batch.fork(() -> userRetrieveService.getMeetingUserCount(meeting));
+        Future<List<TimeBlockVo>> timeBlocksFuture = batch.fork(() -> userMeetingScheduleService.getTimeBlocks(meetingId));
+        Future<Map<Long, User>> userMapFuture = batch.fork(() -> userRetrieveService.getUserIdToUserMap(meetingId));
 
-        List<TimeBlockVo> timeBlocks = userMeetingScheduleService.getTimeBlocks(meetingId);
+        int userCount = batch.join(userCountFuture);
+        List<TimeBlockVo> timeBlocks = batch.join(timeBlocksFuture);
 
         List<BestMeetingTimeVo> bestMeetingTimes = meetingTimeRecommendService.getBestMeetingTime(
                 timeBlocks,
@@ -59,7 +82,44 @@ public class MeetingRetrieveService {
                 userCount
         );
 
-        Map<Long, User> userIdToUserMap = userRetrieveService.getUserIdToUserMap(meetingId);
+        Map<Long, User> userIdToUserMap = batch.join(userMapFuture);
+        return toBestMeetingTimeDto(userCount, bestMeetingTimes, userIdToUserMap);
+    }
+
+    /**
+     * 방장 화면에서 최적의 회의 시간과 종합 일정 시간표를 함께 보여줄 때 사용한다.
+     * 회의, 참여자, 시간 블록을 한 번만 읽어 요청한 필드에 모두 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public DashboardDto getDashboard(final Long userId, final Long meetingId, final Set<DashboardField> fields) {
+        Meeting meeting = validateHostMeeting(userId, meetingId);
+        ParallelLoader.Batch batch = parallelLoader.batch();
+        Future<Map<Long, User>> userMapFuture = batch.fork(() -> userRetrieveService.getUserIdToUserMap(meetingId));
+        Future<List<TimeBlockVo>> timeBlocksFuture = batch.fork(() -> userMeetingScheduleService.getTimeBlocks(meetingId));
+        Map<Long, User> userIdToUserMap = batch.join(userMapFuture);
+        List<TimeBlockVo> timeBlocks = batch.join(timeBlocksFuture);
+
+        BestMeetingTimeDto bestMeetingTime = null;
+        if (fields.contains(DashboardField.BEST_MEETING_TIME)) {
+            // 참여자 목록을 이미 읽었으므로 참여자 수를 따로 세지 않는다.
+            int userCount = userIdToUserMap.size();
+            bestMeetingTime = toBestMeetingTimeDto(
+                    userCount,
+                    meetingTimeRecommendService.getBestMeetingTime(timeBlocks, meeting.getDuration(), userCount),
+                    userIdToUserMap
+            );
+        }
+        TimeTableVo timeTable = fields.contains(DashboardField.TIME_TABLE)
+                ? toTimeTableVo(userIdToUserMap, timeBlocks)
+                : null;
+        return new DashboardDto(bestMeetingTime, timeTable);
+    }
+
+    private BestMeetingTimeDto toBestMeetingTimeDto(
+            final int userCount,
+            final List<BestMeetingTimeVo> bestMeetingTimes,
+            final Map<Long, User> userIdToUserMap
+    ) {
         List<BestMeetingTimeWithUsers> bestMeetingTimeWithUsers = bestMeetingTimes.stream()
                 .map(bestMeetingTime -> mapToBestMeetingTimeWithUsers(bestMeetingTime, userIdToUserMap))
                 .toList();
@@ -90,71 +150,179 @@ public class MeetingRetrieveService {
         );
     }
 
+    /**
+     * 응답을 만들 때 중간 DTO 목록을 쌓지 않도록 정렬된 참여자와 시간 블록만 모아 돌려준다.
+     */
     @Transactional(readOnly = true)
-    public TimeTableRetrieveDto getTimeTable(final Long userId, final Long meetingId) {
-        Meeting meeting = meetingRepository.findById(meetingId)
-                .orElseThrow(() -> new NotFoundException(Error.MEETING_NOT_FOUND_EXCEPTION));
+    public TimeTableVo getTimeTableVo(final Long userId, final Long meetingId) {
+        validateHostMeeting(userId, meetingId);
+        ParallelLoader.Batch batch = parallelLoader.batch();
+        Future<Map<Long, User>> userMapFuture = batch.fork(() -> userRetrieveService.getUserIdToUserMap(meetingId));
+        Future<List<TimeBlockVo>> timeBlocksFuture = batch.fork(() -> userMeetingScheduleService.getTimeBlocks(meetingId));
+        return toTimeTableVo(batch.join(userMapFuture), batch.join(timeBlocksFuture));
+    }
 
-        if (!meeting.authenticateHost(userId)) {
-            throw new UnauthorizedException(Error.INVALID_MEETING_HOST_EXCEPTION);
+    private TimeTableVo toTimeTableVo(final Map<Long, User> userIdToUserMap, final List<TimeBlockVo> timeBlocks) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Map<Long, String> userNames = new LinkedHashMap<>();
+        Map<Long, Integer> userIndexes = new HashMap<>();
+        userIdToUserMap.keySet().stream()
+                .sorted()
+                .forEach(id -> {
+                    userIndexes.put(id, userNames.size());
+                    userNames.put(id, userIdToUserMap.get(id).getName());
+                });
+        sample.stop(Timer.builder(RecommendationMetricsAspect.STAGE_METRIC)
+                .tag("stage", "time-table-mapping")
+                .register(meterRegistry));
+
+        return new TimeTableVo(userNames, userIndexes, timeBlocks);
+    }
+
+    /**
+     * 참여자 이름을 한 번만 내려주고 각 시간대에는 id 순으로 정렬한 참여자 목록의 인덱스만 담는다.
+     */
+    @Transactional(readOnly = true)
+    public CompactTimeTableResponseDto getCompactTimeTable(final Long userId, final Long meetingId) {
+        TimeTableVo timeTable = getTimeTableVo(userId, meetingId);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Map<LocalDate, List<CompactTimeSlotDto>> timeSlotsByDate = new LinkedHashMap<>();
+        for (TimeBlockVo timeBlockVo : timeTable.timeBlocks()) {
+            List<Integer> indexes = timeBlockVo.userIds().stream()
+                    .map(timeTable.userIndexes()::get)
+                    .filter(Objects::nonNull)
+                    .sorted()
+                    .toList();
+            timeSlotsByDate.computeIfAbsent(timeBlockVo.availableDate(), date -> new ArrayList<>())
+                    .add(new CompactTimeSlotDto(
+                            timeBlockVo.timeSlot().getTime(),
+                            indexes,
+                            timeTable.getColorLevel(timeBlockVo)
+                    ));
         }
+        List<CompactAvailableDatesDto> availableDates = timeSlotsByDate.entrySet().stream()
+                .map(entry -> new CompactAvailableDatesDto(
+                        DateUtil.getMonth(entry.getKey()),
+                        DateUtil.getDay(entry.getKey()),
+                        DateUtil.getDayOfWeek(entry.getKey()),
+                        entry.getValue()
+                ))
+                .toList();
+        sample.stop(Timer.builder(RecommendationMetricsAspect.STAGE_METRIC)
+                .tag("stage", "compact-time-table-mapping")
+                .register(meterRegistry));
+
+        return new CompactTimeTableResponseDto(timeTable.memberCount(), timeTable.totalUserNames(), availableDates);
+    }
+
+    @Transactional(readOnly = true)
+    public void validateTimeTableHost(final Long userId, final Long meetingId) {
+        validateHostMeeting(userId, meetingId);
+    }
+
+    /**
+     * 참여자 화면용 시간표. 시간대별 집계만 읽으므로 원본 일정과 참여자 목록을 읽지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public HeatmapResponseDto getHeatmap(final Long meetingId) {
+        Meeting meeting = meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new NotFoundException(Error.MEETING_NOT_FOUND_EXCEPTION));
         if (meeting.isConfirmedMeeting()) {
             throw new ConflictException(MEETING_VALIDATION_FAILED_EXCEPTION);
         }
-        Map<Long, User> userIdToUserMap = userRetrieveService.getUserIdToUserMap(meetingId);
 
-        List<String> userNames = userIdToUserMap.keySet().stream()
-                .sorted()
-                .map(id -> userIdToUserMap.get(id).getName())
+        int memberCount = userRetrieveService.getMeetingUserCount(meeting);
+        Map<LocalDate, List<HeatmapTimeSlotDto>> timeSlotsByDate = new LinkedHashMap<>();
+        for (MeetingSlotCount slotCount : meetingSlotCountService.getSlotCounts(meetingId)) {
+            timeSlotsByDate.computeIfAbsent(slotCount.getAvailableDate(), date -> new ArrayList<>())
+                    .add(new HeatmapTimeSlotDto(
+                            slotCount.getTimeSlot().getTime(),
+                            slotCount.getUserCount(),
+                            TimeTableVo.getColorLevel(memberCount, slotCount.getUserCount())
+                    ));
+        }
+        List<HeatmapAvailableDatesDto> availableDates = timeSlotsByDate.entrySet().stream()
+                .map(entry -> new HeatmapAvailableDatesDto(
+                        DateUtil.getMonth(entry.getKey()),
+                        DateUtil.getDay(entry.getKey()),
+                        DateUtil.getDayOfWeek(entry.getKey()),
+                        entry.getValue()
+                ))
                 .toList();
-
-        return TimeTableRetrieveDto.of(userNames, getAvailableDatesDto(meetingId, userNames.size(), userIdToUserMap));
-
+        return new HeatmapResponseDto(memberCount, availableDates);
     }
 
-    private List<AvailableDatesRetrieveDto> getAvailableDatesDto(final Long meetingId, final int totalUserCount, final Map<Long, User> userIdToUserMap) {
-        List<TimeBlockVo> timeBlockVos = userMeetingScheduleService.getTimeBlocks(meetingId);
-        Map<LocalDate, List<TimeBlockRetrieveDto>> timeSlotDtoMappedByDate = getTimeTableMapFromTimeBlockVo(timeBlockVos, totalUserCount, userIdToUserMap);
-        return timeSlotDtoMappedByDate.keySet().stream().map(
-                date -> AvailableDatesRetrieveDto.of(
-                        date,
-                        timeSlotDtoMappedByDate.get(date)
-                )
-        ).toList();
-    }
+    /**
+     * sinceVersion 이후 인원이나 참여자가 바뀐 시간대만 내려준다. 바뀐 것이 없으면 회의와 버전만 읽는다.
+     * sinceVersion 이 0 이거나 서버의 버전보다 크면 처음부터 다시 받도록 모든 시간대를 내려준다.
+     */
+    @Transactional(readOnly = true)
+    public TimeTableDeltaResponseDto getTimeTableChanges(final Long userId, final Long meetingId, final long sinceVersion) {
+        validateHostMeeting(userId, meetingId);
+        long version = timeTableChangeLogService.getLatestVersion(meetingId);
+        if (sinceVersion == version) {
+            return TimeTableDeltaResponseDto.unchanged(version);
+        }
+        long since = sinceVersion < 0 || sinceVersion > version ? 0 : sinceVersion;
 
-    private Map<LocalDate, List<TimeBlockRetrieveDto>> getTimeTableMapFromTimeBlockVo(final List<TimeBlockVo> timeBlockVo, final int totalUserCount, final Map<Long, User> userIdToUserMap) {
-        return timeBlockVo.stream()
-                .collect(Collectors.groupingBy(
-                        TimeBlockVo::availableDate,
-                        Collectors.mapping(t -> new TimeBlockRetrieveDto(
-                                        t.timeSlot().getTime(),
-                                        t.userIds().stream()
-                                                .filter(userIdToUserMap::containsKey)
-                                                .map(id -> userIdToUserMap.get(id).getName())
-                                                .toList(),
-                                        setColorLevel(totalUserCount, t.userIds().size())
-                                ),
-                                Collectors.toList()
-                        )
+        Map<Long, User> userIdToUserMap = userRetrieveService.getUserIdToUserMap(meetingId);
+        int memberCount = userIdToUserMap.size();
+        List<MeetingSlotCount> changedSlots = meetingSlotCountService.getChangedSlotCounts(
+                meetingId,
+                since,
+                timeTableChangeLogService.getMemberCount(meetingId, since).orElse(0),
+                memberCount
+        );
+
+        Set<LocalDate> changedDates = changedSlots.stream()
+                .map(MeetingSlotCount::getAvailableDate)
+                .collect(Collectors.toSet());
+        Map<CompositeKey, TimeBlockVo> timeBlocks = userMeetingScheduleService.getTimeBlocks(meetingId, changedDates).stream()
+                .collect(Collectors.toMap(
+                        timeBlock -> new CompositeKey(timeBlock.availableDate(), timeBlock.timeSlot()),
+                        timeBlock -> timeBlock
                 ));
+
+        Map<LocalDate, List<TimeSlotDto>> timeSlotsByDate = new LinkedHashMap<>();
+        for (MeetingSlotCount slotCount : changedSlots) {
+            TimeBlockVo timeBlock = timeBlocks.get(new CompositeKey(slotCount.getAvailableDate(), slotCount.getTimeSlot()));
+            List<String> userNames = timeBlock == null ? List.of() : timeBlock.userIds().stream()
+                    .filter(userIdToUserMap::containsKey)
+                    .map(id -> userIdToUserMap.get(id).getName())
+                    .toList();
+            timeSlotsByDate.computeIfAbsent(slotCount.getAvailableDate(), date -> new ArrayList<>())
+                    .add(new TimeSlotDto(
+                            slotCount.getTimeSlot().getTime(),
+                            userNames,
+                            userNames.isEmpty() ? 0 : TimeTableVo.getColorLevel(memberCount, userNames.size())
+                    ));
+        }
+        List<AvailableDatesDto> availableDates = timeSlotsByDate.entrySet().stream()
+                .map(entry -> new AvailableDatesDto(
+                        DateUtil.getMonth(entry.getKey()),
+                        DateUtil.getDay(entry.getKey()),
+                        DateUtil.getDayOfWeek(entry.getKey()),
+                        entry.getValue()
+                ))
+                .toList();
+        List<String> totalUserNames = userIdToUserMap.keySet().stream()
+                .sorted()
+                .map(id -> userIdToUserMap.get(id).getName())
+                .toList();
+        return new TimeTableDeltaResponseDto(version, memberCount, totalUserNames, availableDates);
     }
 
-    private int setColorLevel(final int memberCount, final int availableUserCount) {
-        double ratio = (double) availableUserCount / memberCount;
-
-        if (ratio <= 0.2) {
-            return 1;
-        } else if (ratio <= 0.4) {
-            return 2;
-        } else if (ratio <= 0.6) {
-            return 3;
-        } else if (ratio <= 0.8) {
-            return 4;
-        } else if (ratio <= 1.0) {
-            return 5;
-        } else {
-            return 0;
+    private Meeting validateHostMeeting(final Long userId, final Long meetingId) {
+        Meeting meeting = meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new NotFoundException(Error.MEETING_NOT_FOUND_EXCEPTION));
+
+        if (!meeting.authenticateHost(userId)) {
+            throw new UnauthorizedException(Error.INVALID_MEETING_HOST_EXCEPTION);
+        }
+        if (meeting.isConfirmedMeeting()) {
+            throw new ConflictException(MEETING_VALIDATION_FAILED_EXCEPTION);
         }
+        return meeting;
     }
 }
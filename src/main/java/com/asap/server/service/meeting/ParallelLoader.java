@@ -0,0 +1,117 @@
+package com.asap.server.service.meeting;
+
+import com.asap.server.common.concurrent.BoundedExecutor;
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서로 의존하지 않는 조회를 전용 스레드 풀에서 동시에 실행한다.
+ * 비활성화되어 있거나 대기열이 가득 차면 호출한 스레드에서 바로 실행하고,
+ * 요청마다 정한 마감 시각까지 결과를 받지 못하면 남은 조회를 모두 취소하고 503 을 반환한다.
+ * <p>
+ * 풀에서 실행되는 조회는 호출한 쪽의 트랜잭션(readOnly 포함)에 참여하지 않고 각자의 리포지토리 트랜잭션에서 실행된다.
+ * 따라서 같은 묶음의 조회라도 하나의 스냅샷을 보장하지 않고, 영속성 컨텍스트도 공유하지 않는다.
+ */
+@Component
+public class ParallelLoader implements DisposableBean {
+    private static final String THREAD_NAME_PREFIX = "meeting-loader-";
+    private static final String ACTIVE_METRIC = "asap.retrieve.loader.active";
+    private static final String INLINE_METRIC = "asap.retrieve.loader.inline";
+
+    private final boolean enabled;
+    private final long timeoutNanos;
+    private final BoundedExecutor executor;
+    private final Counter inlineCounter;
+
+    public ParallelLoader(
+            final TaskDecorator taskDecorator,
+            final MeterRegistry meterRegistry,
+            @Value("${asap.retrieve.parallel.enabled:false}") final boolean enabled,
+            @Value("${asap.retrieve.parallel.pool-size:8}") final int poolSize,
+            @Value("${asap.retrieve.parallel.queue-capacity:32}") final int queueCapacity,
+            @Value("${asap.retrieve.parallel.timeout-millis:3000}") final long timeoutMillis
+    ) {
+        this.enabled = enabled;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        this.executor = new BoundedExecutor(THREAD_NAME_PREFIX, poolSize, queueCapacity, taskDecorator);
+        this.inlineCounter = Counter.builder(INLINE_METRIC)
+                .register(meterRegistry);
+        Gauge.builder(ACTIVE_METRIC, executor, BoundedExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 하나에서 실행할 조회 묶음을 만든다. 묶음 전체에 하나의 마감 시각을 적용한다.
+     */
+    public Batch batch() {
+        return new Batch(System.nanoTime() + timeoutNanos);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> Future<T> submit(final Callable<T> task) {
+        if (!enabled) {
+            return runInline(task);
+        }
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            inlineCounter.increment();
+            return runInline(task);
+        }
+    }
+
+    private static <T> Future<T> runInline(final Callable<T> task) {
+        final FutureTask<T> futureTask = new FutureTask<>(task);
+        futureTask.run();
+        return futureTask;
+    }
+
+    public class Batch {
+        private final long deadline;
+        private final List<Future<?>> forks = new ArrayList<>();
+
+        private Batch(final long deadline) {
+            this.deadline = deadline;
+        }
+
+        public <T> Future<T> fork(final Callable<T> task) {
+            final Future<T> future = submit(task);
+            forks.add(future);
+            return future;
+        }
+
+        /**
+         * 하나라도 마감 시각을 넘기거나 실패하면 요청 전체가 실패하므로 아직 끝나지 않은 조회를 모두 취소한다.
+         */
+        public <T> T join(final Future<T> future) {
+            try {
+                return BoundedExecutor.await(
+                        future,
+                        deadline - System.nanoTime(),
+                        () -> new ServiceUnavailableException(Error.RETRIEVE_TIMEOUT_EXCEPTION)
+                );
+            } catch (RuntimeException e) {
+                forks.forEach(fork -> fork.cancel(true));
+                throw e;
+            }
+        }
+    }
+}
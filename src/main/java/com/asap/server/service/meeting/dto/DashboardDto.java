@@ -0,0 +1,12 @@
+package com.asap.server.service.meeting.dto;
+
+import com.asap.server.service.time.vo.TimeTableVo;
+
+/**
+ * 요청하지 않은 필드는 null 이다.
+ */
+public record DashboardDto(
+        BestMeetingTimeDto bestMeetingTime,
+        TimeTableVo timeTable
+) {
+}
@@ -0,0 +1,36 @@
+package com.asap.server.service.meeting.dto;
+
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.BadRequestException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum DashboardField {
+    BEST_MEETING_TIME("bestMeetingTime"),
+    TIME_TABLE("timeTable");
+
+    private final String name;
+
+    /**
+     * 요청한 필드가 없으면 모든 필드를 내려준다.
+     */
+    public static Set<DashboardField> from(final List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return EnumSet.allOf(DashboardField.class);
+        }
+        final Set<DashboardField> fields = EnumSet.noneOf(DashboardField.class);
+        for (String name : names) {
+            fields.add(Arrays.stream(values())
+                    .filter(field -> field.name.equals(name.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new BadRequestException(Error.ILLEGAL_ARGUMENT_EXCEPTION)));
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,223 @@
+package com.asap.server.service.outbox;
+
+import com.asap.server.persistence.domain.enums.OutboxEventType;
+import com.asap.server.persistence.domain.outbox.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스에 쌓인 이벤트를 배치로 가져와 정해진 수의 스레드로 보낸다.
+ * 실패한 이벤트는 재시도 횟수에 따라 대기 시간을 늘려 다시 보내고, max-attempts 번 실패하면 실패로 남긴다.
+ * 보낸 이벤트는 보존 기간이 지나면 지운다.
+ * 웹 요청은 아웃박스에 저장만 하므로 외부 호출이 밀려도 요청 처리에는 영향이 없다.
+ * 이벤트 저장은 모든 노드에서 하고, 발송은 asap.outbox.enabled 를 켠 노드에서만 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "asap.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxDispatcher implements SmartLifecycle {
+    private static final String THREAD_NAME_PREFIX = "outbox-dispatcher-";
+    private static final String DISPATCH_METRIC = "asap.outbox.dispatch";
+    private static final String PENDING_METRIC = "asap.outbox.pending";
+    private static final String LAG_METRIC = "asap.outbox.lag.seconds";
+    private static final String FAILED_METRIC = "asap.outbox.failed";
+    private static final Duration CLEANUP_INTERVAL = Duration.ofHours(1);
+
+    private final OutboxService outboxService;
+    private final MeterRegistry meterRegistry;
+    private final Map<OutboxEventType, OutboxEventHandler> handlers = new EnumMap<>(OutboxEventType.class);
+    private final int batchSize;
+    private final int concurrency;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private final Duration retryBackoff;
+    private final Duration retention;
+    private final int maxAttempts;
+    private final Counter failedCounter;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private ExecutorService senders;
+    private volatile boolean running;
+    private Thread worker;
+    private long lastCleanedAt;
+
+    public OutboxDispatcher(
+            final OutboxService outboxService,
+            final List<OutboxEventHandler> handlers,
+            final MeterRegistry meterRegistry,
+            @Value("${asap.outbox.batch-size:50}") final int batchSize,
+            @Value("${asap.outbox.concurrency:4}") final int concurrency,
+            @Value("${asap.outbox.poll-interval-millis:1000}") final long pollIntervalMillis,
+            @Value("${asap.outbox.lease-seconds:60}") final long leaseSeconds,
+            @Value("${asap.outbox.retry-backoff-seconds:5}") final long retryBackoffSeconds,
+            @Value("${asap.outbox.retention-hours:72}") final long retentionHours,
+            @Value("${asap.outbox.max-attempts:10}") final int maxAttempts
+    ) {
+        this.outboxService = outboxService;
+        this.meterRegistry = meterRegistry;
+        handlers.forEach(handler -> this.handlers.put(handler.getType(), handler));
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.pollInterval = Duration.ofMillis(pollIntervalMillis);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.retryBackoff = Duration.ofSeconds(retryBackoffSeconds);
+        this.retention = Duration.ofHours(retentionHours);
+        this.maxAttempts = maxAttempts;
+        this.failedCounter = Counter.builder(FAILED_METRIC)
+                .register(meterRegistry);
+        Gauge.builder(PENDING_METRIC, pending, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder(LAG_METRIC, lagSeconds, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        senders = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory(THREAD_NAME_PREFIX + "sender-"));
+        worker = new CustomizableThreadFactory(THREAD_NAME_PREFIX).newThread(this::run);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 보내는 중인 이벤트를 기다리지 않고 중단한다. 완료를 기록하지 못한 이벤트는 선점 기간이 지나면 다른 노드가 다시 보낸다.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        worker.interrupt();
+        senders.shutdownNow();
+        try {
+            worker.join(pollInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                updateLag();
+                cleanUp();
+                final List<OutboxEvent> events = outboxService.claim(batchSize, lease);
+                if (events.isEmpty()) {
+                    sleep(pollInterval);
+                    continue;
+                }
+                dispatch(events);
+            } catch (RuntimeException e) {
+                log.error("outbox dispatch failed : {}", e.getMessage(), e);
+                sleep(pollInterval);
+            }
+        }
+    }
+
+    private void dispatch(final List<OutboxEvent> events) {
+        final List<Callable<Boolean>> tasks = events.stream()
+                .<Callable<Boolean>>map(event -> () -> send(event))
+                .toList();
+
+        final List<Long> publishedIds = new ArrayList<>();
+        final List<Long> failedIds = new ArrayList<>();
+        try {
+            final List<Future<Boolean>> results = senders.invokeAll(tasks);
+            for (int i = 0; i < events.size(); i++) {
+                (isPublished(results.get(i)) ? publishedIds : failedIds).add(events.get(i).getId());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+            return;
+        }
+        // 중단하면서 끊긴 전송은 재시도 횟수를 쓰지 않고 선점 기간이 지난 뒤 다시 보낸다.
+        final int dead = outboxService.complete(publishedIds, running ? failedIds : List.of(), retryBackoff, maxAttempts);
+        if (dead > 0) {
+            failedCounter.increment(dead);
+            log.error("outbox gave up on {} events after {} attempts", dead, maxAttempts);
+        }
+    }
+
+    private boolean send(final OutboxEvent event) {
+        final OutboxEventHandler handler = handlers.get(event.getType());
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "published";
+        try {
+            if (handler == null) {
+                throw new IllegalStateException("no outbox handler for " + event.getType());
+            }
+            handler.handle(event.getPayload());
+            return true;
+        } catch (Exception e) {
+            result = "failed";
+            log.warn("outbox event {} failed (attempt {}) : {}", event.getId(), event.getAttempts() + 1, e.getMessage());
+            return false;
+        } finally {
+            sample.stop(Timer.builder(DISPATCH_METRIC)
+                    .tag("type", event.getType().name())
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    private boolean isPublished(final Future<Boolean> result) throws InterruptedException {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    private void updateLag() {
+        pending.set(outboxService.countPending());
+        lagSeconds.set(outboxService.getOldestPendingCreatedAt()
+                .map(createdAt -> Math.max(0, Duration.between(createdAt, LocalDateTime.now()).getSeconds()))
+                .orElse(0L));
+    }
+
+    private void cleanUp() {
+        final long now = System.currentTimeMillis();
+        if (now - lastCleanedAt < CLEANUP_INTERVAL.toMillis()) {
+            return;
+        }
+        lastCleanedAt = now;
+        final int deleted = outboxService.deletePublishedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("outbox cleaned up : {} events", deleted);
+        }
+    }
+
+    private void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
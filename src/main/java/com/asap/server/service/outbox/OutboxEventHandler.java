@@ -0,0 +1,13 @@
+package com.asap.server.service.outbox;
+
+import com.asap.server.persistence.domain.enums.OutboxEventType;
+import java.io.IOException;
+
+/**
+ * 한 종류의 아웃박스 이벤트를 외부로 보낸다. 예외를 던지면 OutboxDispatcher 가 나중에 다시 시도한다.
+ */
+public interface OutboxEventHandler {
+    OutboxEventType getType();
+
+    void handle(final String payload) throws IOException;
+}
@@ -0,0 +1,22 @@
+package com.asap.server.service.outbox;
+
+import com.asap.server.infra.slack.MetricsEvent;
+import com.asap.server.persistence.domain.enums.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 발행된 이벤트를 커밋 직전에 같은 트랜잭션으로 아웃박스에 저장한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+    private final OutboxService outboxService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void recordMetrics(final MetricsEvent metricsEvent) {
+        outboxService.record(OutboxEventType.METRICS, metricsEvent.metrics());
+    }
+}
@@ -0,0 +1,103 @@
+package com.asap.server.service.outbox;
+
+import com.asap.server.persistence.domain.AuditingTimeEntity;
+import com.asap.server.persistence.domain.enums.OutboxEventType;
+import com.asap.server.persistence.domain.outbox.OutboxEvent;
+import com.asap.server.persistence.repository.outbox.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+    private static final int MAX_BACKOFF_EXPONENT = 10;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 호출한 쪽의 트랜잭션에 참여해 이벤트를 저장한다. 트랜잭션이 롤백되면 이벤트도 남지 않는다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(final OutboxEventType type, final Object payload) {
+        final String serialized;
+        try {
+            serialized = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("outbox payload is not serializable", e);
+        }
+        outboxEventRepository.save(OutboxEvent.builder()
+                .type(type)
+                .payload(serialized)
+                .availableAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 보낼 이벤트를 가져오면서 lease 동안 다른 노드가 가져가지 못하게 availableAt 을 미룬다.
+     */
+    @Transactional
+    public List<OutboxEvent> claim(final int batchSize, final Duration lease) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<OutboxEvent> events = outboxEventRepository.findPublishable(now, PageRequest.of(0, batchSize));
+        events.forEach(event -> event.lease(now.plus(lease)));
+        return events;
+    }
+
+    /**
+     * 실패한 이벤트는 재시도 횟수에 따라 대기 시간을 두 배씩 늘리고, maxAttempts 번 실패하면 실패로 확정한다.
+     * 실패로 확정한 이벤트 수를 반환한다.
+     */
+    @Transactional
+    public int complete(
+            final Collection<Long> publishedIds,
+            final Collection<Long> failedIds,
+            final Duration backoff,
+            final int maxAttempts
+    ) {
+        final LocalDateTime now = LocalDateTime.now();
+        if (!publishedIds.isEmpty()) {
+            outboxEventRepository.findAllByIdIn(publishedIds)
+                    .forEach(event -> event.publish(now));
+        }
+        if (failedIds.isEmpty()) {
+            return 0;
+        }
+        int dead = 0;
+        for (OutboxEvent event : outboxEventRepository.findAllByIdIn(failedIds)) {
+            if (event.getAttempts() + 1 >= maxAttempts) {
+                event.fail(now);
+                dead++;
+                continue;
+            }
+            event.retryAt(now.plus(backoff.multipliedBy(1L << Math.min(event.getAttempts(), MAX_BACKOFF_EXPONENT))));
+        }
+        return dead;
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return outboxEventRepository.countByPublishedAtIsNullAndFailedAtIsNull();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getOldestPendingCreatedAt() {
+        return outboxEventRepository.findFirstByPublishedAtIsNullAndFailedAtIsNullOrderByIdAsc()
+                .map(AuditingTimeEntity::getCreatedAt);
+    }
+
+    @Transactional
+    public int deletePublishedBefore(final LocalDateTime before) {
+        return outboxEventRepository.deletePublishedBefore(before);
+    }
+}
@@ -0,0 +1,69 @@
+package com.asap.server.service.time;
+
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.NotFoundException;
+import com.asap.server.persistence.domain.AvailableDate;
+import com.asap.server.persistence.repository.AvailableDateRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회의 가능 날짜는 회의를 만들 때 한 번 저장된 뒤 바뀌지 않으므로 회의별로 메모리에 둔다.
+ * 최근에 조회한 회의부터 최대 max-size 개까지 보관한다.
+ */
+@Component
+public class AvailableDateCache {
+    private static final String CACHE_METRIC = "asap.available-date.cache";
+    private static final String RESULT_TAG = "result";
+
+    private final AvailableDateRepository availableDateRepository;
+    private final Map<Long, Set<LocalDate>> datesByMeetingId;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public AvailableDateCache(
+            final AvailableDateRepository availableDateRepository,
+            final MeterRegistry meterRegistry,
+            @Value("${asap.available-date.cache.max-size:1000}") final int maxSize
+    ) {
+        this.availableDateRepository = availableDateRepository;
+        this.datesByMeetingId = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, Set<LocalDate>> eldest) {
+                return size() > maxSize;
+            }
+        });
+        this.hitCounter = Counter.builder(CACHE_METRIC)
+                .tag(RESULT_TAG, "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(CACHE_METRIC)
+                .tag(RESULT_TAG, "miss")
+                .register(meterRegistry);
+    }
+
+    public Set<LocalDate> get(final long meetingId) {
+        final Set<LocalDate> cached = datesByMeetingId.get(meetingId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+
+        final Set<LocalDate> dates = availableDateRepository.findAllByMeetingId(meetingId).stream()
+                .map(AvailableDate::getDate)
+                .collect(Collectors.toUnmodifiableSet());
+        if (dates.isEmpty()) {
+            throw new NotFoundException(Error.AVAILABLE_DATE_NOT_FOUND_EXCEPTION);
+        }
+        datesByMeetingId.put(meetingId, dates);
+        return dates;
+    }
+}
@@ -0,0 +1,102 @@
+package com.asap.server.service.time;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정이 있는 회의를 id 순으로 한 번 훑으면서 저장된 일정으로 시간대별 집계를 다시 만든다.
+ * 배치마다 쉬는 시간을 두어 운영 DB 에 부하가 몰리지 않게 하고, 끝까지 훑으면 스레드를 종료한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "asap.slot-count.backfill.enabled", havingValue = "true")
+public class MeetingSlotCountBackfill implements SmartLifecycle {
+    private static final String THREAD_NAME_PREFIX = "slot-count-backfill-";
+    private static final String REBUILT_METRIC = "asap.slot-count.backfill.meetings";
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(5);
+
+    private final MeetingSlotCountService meetingSlotCountService;
+    private final int batchSize;
+    private final Duration interval;
+    private final Counter rebuiltCounter;
+    private volatile boolean running;
+    private Thread worker;
+
+    public MeetingSlotCountBackfill(
+            final MeetingSlotCountService meetingSlotCountService,
+            final MeterRegistry meterRegistry,
+            @Value("${asap.slot-count.backfill.batch-size:100}") final int batchSize,
+            @Value("${asap.slot-count.backfill.interval-millis:500}") final long intervalMillis
+    ) {
+        this.meetingSlotCountService = meetingSlotCountService;
+        this.batchSize = batchSize;
+        this.interval = Duration.ofMillis(intervalMillis);
+        this.rebuiltCounter = Counter.builder(REBUILT_METRIC)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new CustomizableThreadFactory(THREAD_NAME_PREFIX).newThread(this::run);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(interval.plus(ERROR_BACKOFF).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        long lastMeetingId = 0;
+        long rebuilt = 0;
+        while (running) {
+            try {
+                final List<Long> meetingIds = meetingSlotCountService.findMeetingIdsAfter(lastMeetingId, batchSize);
+                if (meetingIds.isEmpty()) {
+                    log.info("slot count backfill finished : {} meetings rebuilt", rebuilt);
+                    return;
+                }
+                // 회의마다 트랜잭션을 나눠 회의 행 잠금을 오래 잡지 않는다.
+                for (Long meetingId : meetingIds) {
+                    meetingSlotCountService.rebuild(meetingId);
+                    rebuiltCounter.increment();
+                    rebuilt++;
+                    lastMeetingId = meetingId;
+                }
+                sleep(interval);
+            } catch (RuntimeException e) {
+                log.error("slot count backfill failed after meeting {} : {}", lastMeetingId, e.getMessage(), e);
+                sleep(ERROR_BACKOFF);
+            }
+        }
+    }
+
+    private void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.asap.server.service.time;
+
+import com.asap.server.persistence.domain.enums.TimeSlot;
+import com.asap.server.persistence.domain.time.MeetingSlotCount;
+import com.asap.server.persistence.repository.UserMeetingScheduleRepository;
+import com.asap.server.persistence.repository.time.MeetingSlotCountRepository;
+import com.asap.server.persistence.repository.time.SlotCountDelta;
+import com.asap.server.service.time.vo.ScheduleIntervalVo;
+import com.asap.server.service.time.vo.TimeTableVo;
+import com.asap.server.service.time.vo.UserScheduleByTimeSlotVo.CompositeKey;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 시간대별 참여 인원 집계를 관리한다. 원본 일정을 다시 읽지 않고 시간표 히트맵을 만들 때 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MeetingSlotCountService {
+    private final MeetingSlotCountRepository meetingSlotCountRepository;
+    private final UserMeetingScheduleRepository userMeetingScheduleRepository;
+    private final TimeTableChangeLogService timeTableChangeLogService;
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * 지운 구간만큼 빼고 추가한 구간만큼 더한다. 서로 상쇄되는 시간대는 쓰지 않는다.
+     * 인원이 바뀐 시간대가 있으면 시간표 버전을 올려 해당 시간대에 기록한다.
+     * 일정 저장과 같은 트랜잭션에서 호출해야 집계와 원본이 어긋나지 않는다. 바뀐 시간대는 커밋 후 실시간 시간표로 전달된다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(
+            final long meetingId,
+            final Collection<ScheduleIntervalVo> removed,
+            final Collection<ScheduleIntervalVo> added
+    ) {
+        final Map<CompositeKey, SlotCountDelta> deltas = new HashMap<>();
+        removed.forEach(interval -> addInterval(deltas, interval, -1));
+        added.forEach(interval -> addInterval(deltas, interval, 1));
+        deltas.values().removeIf(delta -> delta.userCount() == 0 && delta.weight() == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // 우선순위만 바뀐 경우에는 시간표가 그대로이므로 버전을 올리지 않는다.
+        final long version = deltas.values().stream().anyMatch(delta -> delta.userCount() != 0)
+                ? timeTableChangeLogService.next(meetingId)
+                : 0;
+        meetingSlotCountRepository.applyDeltas(meetingId, version, deltas.values());
+        publisher.publishEvent(new TimeTableChangedEvent(meetingId, version, List.copyOf(deltas.values())));
+    }
+
+    /**
+     * 저장된 일정으로 회의의 집계를 처음부터 다시 만들고 만든 시간대 수를 돌려준다.
+     * 집계가 생기기 전에 제출된 일정을 채울 때 사용한다. 새 버전으로 기록하므로 변경분을 받던 방장은 시간표를 다시 조회한다.
+     */
+    @Transactional
+    public int rebuild(final long meetingId) {
+        // 같은 회의의 일정 저장과 겹치지 않도록 회의 행을 먼저 잠근다.
+        timeTableChangeLogService.lockMeeting(meetingId);
+        meetingSlotCountRepository.deleteAllByMeetingId(meetingId);
+
+        final Map<CompositeKey, SlotCountDelta> deltas = new HashMap<>();
+        userMeetingScheduleRepository.findAllByMeetingId(meetingId)
+                .forEach(schedule -> addInterval(deltas, ScheduleIntervalVo.of(schedule), 1));
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        meetingSlotCountRepository.applyDeltas(meetingId, timeTableChangeLogService.next(meetingId), deltas.values());
+        return deltas.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findMeetingIdsAfter(final long after, final int size) {
+        return userMeetingScheduleRepository.findMeetingIdsAfter(after, PageRequest.of(0, size));
+    }
+
+    /**
+     * 날짜, 시간 순으로 정렬한 집계. 참여자가 없는 시간대는 제외한다.
+     */
+    @Transactional(readOnly = true)
+    public List<MeetingSlotCount> getSlotCounts(final long meetingId) {
+        return meetingSlotCountRepository.findAllByMeetingId(meetingId).stream()
+                .filter(slotCount -> slotCount.getUserCount() > 0)
+                .sorted(Comparator.comparing(MeetingSlotCount::getAvailableDate)
+                        .thenComparing(MeetingSlotCount::getTimeSlot))
+                .toList();
+    }
+
+    /**
+     * sinceVersion 이후 인원이 바뀐 시간대와, 참여자 수가 바뀌어 colorLevel 이 달라진 시간대를 날짜, 시간 순으로 돌려준다.
+     */
+    @Transactional(readOnly = true)
+    public List<MeetingSlotCount> getChangedSlotCounts(
+            final long meetingId,
+            final long sinceVersion,
+            final int previousMemberCount,
+            final int memberCount
+    ) {
+        final List<MeetingSlotCount> candidates = previousMemberCount == memberCount
+                ? meetingSlotCountRepository.findAllByMeetingIdAndVersionGreaterThan(meetingId, sinceVersion)
+                : meetingSlotCountRepository.findAllByMeetingId(meetingId);
+        return candidates.stream()
+                .filter(slotCount -> slotCount.getVersion() > sinceVersion
+                        || isColorLevelChanged(slotCount, previousMemberCount, memberCount))
+                .sorted(Comparator.comparing(MeetingSlotCount::getAvailableDate)
+                        .thenComparing(MeetingSlotCount::getTimeSlot))
+                .toList();
+    }
+
+    private boolean isColorLevelChanged(
+            final MeetingSlotCount slotCount,
+            final int previousMemberCount,
+            final int memberCount
+    ) {
+        return slotCount.getUserCount() > 0
+                && TimeTableVo.getColorLevel(previousMemberCount, slotCount.getUserCount())
+                != TimeTableVo.getColorLevel(memberCount, slotCount.getUserCount());
+    }
+
+    private void addInterval(
+            final Map<CompositeKey, SlotCountDelta> deltas,
+            final ScheduleIntervalVo interval,
+            final int sign
+    ) {
+        for (TimeSlot timeSlot : TimeSlot.getTimeSlots(interval.startTime().ordinal(), interval.endTime().ordinal() - 1)) {
+            deltas.merge(
+                    new CompositeKey(interval.availableDate(), timeSlot),
+                    new SlotCountDelta(interval.availableDate(), timeSlot, sign, sign * interval.weight()),
+                    SlotCountDelta::add
+            );
+        }
+    }
+}
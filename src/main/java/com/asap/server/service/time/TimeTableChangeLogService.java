@@ -0,0 +1,73 @@
+package com.asap.server.service.time;
+
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.NotFoundException;
+import com.asap.server.persistence.domain.Meeting;
+import com.asap.server.persistence.domain.time.MeetingTimeTableChange;
+import com.asap.server.persistence.repository.meeting.MeetingRepository;
+import com.asap.server.persistence.repository.time.MeetingTimeTableChangeRepository;
+import com.asap.server.persistence.repository.user.UserRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalInt;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회의별 시간표 버전을 관리한다. 버전이 없는 회의는 0 이다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TimeTableChangeLogService {
+    private final MeetingTimeTableChangeRepository meetingTimeTableChangeRepository;
+    private final MeetingRepository meetingRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 시간표를 바꾸는 트랜잭션은 다른 쓰기보다 먼저 회의 행을 잠가야 한다.
+     * 참여자 insert 의 외래 키 검사가 회의 행에 공유 잠금을 걸기 때문에, 그 뒤에 배타 잠금을 요청하면
+     * 같은 회의에 동시에 제출한 트랜잭션끼리 서로의 공유 잠금을 기다리다 교착 상태에 빠진다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Meeting lockMeeting(final long meetingId) {
+        return meetingRepository.findByIdForUpdate(meetingId)
+                .orElseThrow(() -> new NotFoundException(Error.MEETING_NOT_FOUND_EXCEPTION));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Meeting> lockMeetings(final Collection<Long> meetingIds) {
+        return meetingRepository.findAllByIdInForUpdate(meetingIds);
+    }
+
+    /**
+     * 다음 버전을 남긴다. 같은 트랜잭션에서 lockMeeting 으로 회의 행을 먼저 잠가 두어야 한다.
+     * 같은 회의의 변경은 버전 순서대로 커밋되므로 버전 N 을 읽은 뒤에 N 이하의 변경이 새로 보이는 일은 없다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long next(final long meetingId) {
+        long version = getLatestVersion(meetingId) + 1;
+        meetingTimeTableChangeRepository.save(MeetingTimeTableChange.builder()
+                .meetingId(meetingId)
+                .version(version)
+                .memberCount(userRepository.countByMeetingId(meetingId))
+                .build());
+        return version;
+    }
+
+    @Transactional(readOnly = true)
+    public long getLatestVersion(final long meetingId) {
+        return meetingTimeTableChangeRepository.findLatestVersion(meetingId).orElse(0L);
+    }
+
+    /**
+     * 해당 버전 시점의 참여자 수. 버전 0 이거나 이력이 없으면 비어 있다.
+     */
+    @Transactional(readOnly = true)
+    public OptionalInt getMemberCount(final long meetingId, final long version) {
+        return meetingTimeTableChangeRepository.findByMeetingIdAndVersion(meetingId, version)
+                .map(change -> OptionalInt.of(change.getMemberCount()))
+                .orElse(OptionalInt.empty());
+    }
+}
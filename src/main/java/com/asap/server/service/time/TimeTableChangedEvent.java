@@ -0,0 +1,7 @@
+package com.asap.server.service.time;
+
+import com.asap.server.persistence.repository.time.SlotCountDelta;
+import java.util.Collection;
+
+public record TimeTableChangedEvent(long meetingId, long version, Collection<SlotCountDelta> deltas) {
+}
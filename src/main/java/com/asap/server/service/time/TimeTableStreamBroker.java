@@ -0,0 +1,225 @@
+package com.asap.server.service.time;
+
+import com.asap.server.common.concurrent.BoundedExecutor;
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.ServiceUnavailableException;
+import com.asap.server.infra.redis.TimeTableChangeTopic;
+import com.asap.server.service.time.dto.stream.TimeTableChangeDto;
+import com.asap.server.service.time.dto.stream.TimeTableSlotChangeDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 방장 화면에 시간표 변경분을 SSE 로 밀어준다.
+ * 가능 시간이 커밋되면 바뀐 시간대의 인원 증감을 Redis pub/sub 으로 발행하고,
+ * 각 노드는 자신에게 연결된 방장에게만 전달한다. 노드당 연결 수는 max-connections 로 제한한다.
+ * 전송은 Redisson 리스너 스레드가 아닌 전용 풀에서 하고, 대기열이 가득 차면 변경분을 버린다.
+ * 변경분을 놓친 방장은 version 으로 시간표를 다시 조회한다.
+ */
+@Slf4j
+@Component
+public class TimeTableStreamBroker implements SmartLifecycle {
+    private static final String THREAD_NAME_PREFIX = "timetable-stream-";
+    private static final String FANOUT_THREAD_NAME_PREFIX = "timetable-stream-fanout-";
+    private static final String CONNECTIONS_METRIC = "asap.timetable.stream.connections";
+    private static final String REJECTED_METRIC = "asap.timetable.stream.rejected";
+    private static final String FANOUT_METRIC = "asap.timetable.stream.fanout";
+    private static final String FANOUT_QUEUE_METRIC = "asap.timetable.stream.fanout.queue";
+    private static final String DROPPED_METRIC = "asap.timetable.stream.dropped";
+    private static final String CHANGE_EVENT = "slot-count";
+    private static final String CONNECTED_EVENT = "connected";
+
+    private final TimeTableChangeTopic timeTableChangeTopic;
+    private final ObjectMapper objectMapper;
+    private final int maxConnections;
+    private final long timeoutMillis;
+    private final long heartbeatMillis;
+    private final int fanoutThreads;
+    private final int fanoutQueueCapacity;
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter rejectedCounter;
+    private final Timer fanoutTimer;
+    private final Counter droppedCounter;
+    private ScheduledExecutorService heartbeat;
+    private BoundedExecutor fanout;
+    private int listenerId;
+    private volatile boolean running;
+
+    public TimeTableStreamBroker(
+            final TimeTableChangeTopic timeTableChangeTopic,
+            final ObjectMapper objectMapper,
+            final MeterRegistry meterRegistry,
+            @Value("${asap.timetable.stream.max-connections:500}") final int maxConnections,
+            @Value("${asap.timetable.stream.timeout-millis:1800000}") final long timeoutMillis,
+            @Value("${asap.timetable.stream.heartbeat-millis:30000}") final long heartbeatMillis,
+            @Value("${asap.timetable.stream.fanout-threads:1}") final int fanoutThreads,
+            @Value("${asap.timetable.stream.fanout-queue-capacity:1024}") final int fanoutQueueCapacity
+    ) {
+        this.timeTableChangeTopic = timeTableChangeTopic;
+        this.objectMapper = objectMapper;
+        this.maxConnections = maxConnections;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.fanoutThreads = fanoutThreads;
+        this.fanoutQueueCapacity = fanoutQueueCapacity;
+        this.meterRegistry = meterRegistry;
+        this.rejectedCounter = Counter.builder(REJECTED_METRIC)
+                .register(meterRegistry);
+        this.fanoutTimer = Timer.builder(FANOUT_METRIC)
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder(DROPPED_METRIC)
+                .register(meterRegistry);
+        Gauge.builder(CONNECTIONS_METRIC, connections, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 전에 방장 여부를 확인해야 한다.
+     */
+    public SseEmitter connect(final long meetingId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException(Error.TIMETABLE_STREAM_LIMIT_EXCEPTION);
+        }
+
+        final SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitters.compute(meetingId, (id, targets) -> {
+            final Set<SseEmitter> current = targets == null ? ConcurrentHashMap.newKeySet() : targets;
+            current.add(emitter);
+            return current;
+        });
+        emitter.onCompletion(() -> remove(meetingId, emitter));
+        emitter.onTimeout(() -> remove(meetingId, emitter));
+        emitter.onError(error -> remove(meetingId, emitter));
+
+        // 프록시가 응답 헤더를 바로 내려보내도록 첫 이벤트를 보낸다.
+        send(meetingId, emitter, SseEmitter.event().name(CONNECTED_EVENT).data(meetingId));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publish(final TimeTableChangedEvent event) {
+        final List<TimeTableSlotChangeDto> slots = event.deltas().stream()
+                .filter(delta -> delta.userCount() != 0)
+                .map(TimeTableSlotChangeDto::of)
+                .toList();
+        if (slots.isEmpty()) {
+            return;
+        }
+        try {
+            timeTableChangeTopic.publish(new TimeTableChangeDto(event.meetingId(), event.version(), System.currentTimeMillis(), slots));
+        } catch (RuntimeException e) {
+            // 커밋은 끝났으므로 실패해도 요청은 성공으로 두고, 방장은 다음 조회에서 최신 시간표를 받는다.
+            log.warn("time table change publish failed : {}", e.getMessage());
+        }
+    }
+
+    // 느린 연결이 Redisson 리스너 스레드를 붙잡지 않도록 전송은 fan-out 풀에 넘긴다.
+    private void dispatch(final TimeTableChangeDto change) {
+        if (!emitters.containsKey(change.meetingId())) {
+            return;
+        }
+        try {
+            fanout.submit(() -> {
+                fanOut(change);
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment();
+        }
+    }
+
+    private void fanOut(final TimeTableChangeDto change) {
+        final Set<SseEmitter> targets = emitters.get(change.meetingId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        final String payload;
+        try {
+            payload = objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            log.error("time table change serialization failed : {}", e.getMessage());
+            return;
+        }
+        for (SseEmitter emitter : targets) {
+            send(change.meetingId(), emitter, SseEmitter.event().name(CHANGE_EVENT).data(payload, MediaType.APPLICATION_JSON));
+        }
+        fanoutTimer.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - change.publishedAt())));
+    }
+
+    private void sendHeartbeat() {
+        emitters.forEach((meetingId, targets) -> targets.forEach(
+                emitter -> send(meetingId, emitter, SseEmitter.event().comment("ping"))
+        ));
+    }
+
+    private void send(final long meetingId, final SseEmitter emitter, final SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결은 서블릿 컨테이너가 정리하므로 목록에서만 뺀다.
+            remove(meetingId, emitter);
+        }
+    }
+
+    private void remove(final long meetingId, final SseEmitter emitter) {
+        emitters.computeIfPresent(meetingId, (id, targets) -> {
+            if (targets.remove(emitter)) {
+                connections.decrementAndGet();
+            }
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+
+    @Override
+    public void start() {
+        fanout = new BoundedExecutor(FANOUT_THREAD_NAME_PREFIX, fanoutThreads, fanoutQueueCapacity, runnable -> runnable);
+        Gauge.builder(FANOUT_QUEUE_METRIC, fanout, BoundedExecutor::getQueueSize)
+                .register(meterRegistry);
+        listenerId = timeTableChangeTopic.subscribe(this::dispatch);
+        heartbeat = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        timeTableChangeTopic.unsubscribe(listenerId);
+        fanout.shutdown();
+        heartbeat.shutdown();
+        emitters.values().forEach(targets -> targets.forEach(SseEmitter::complete));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,99 @@
+package com.asap.server.service.time;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정규화 이전에 저장된 가능 시간을 참여자 id 순으로 한 번 훑으면서 맞닿은 구간을 합쳐 다시 저장한다.
+ * 배치마다 쉬는 시간을 두어 운영 DB 에 부하가 몰리지 않게 하고, 끝까지 훑으면 스레드를 종료한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "asap.schedule.compaction.enabled", havingValue = "true")
+public class UserMeetingScheduleCompactor implements SmartLifecycle {
+    private static final String THREAD_NAME_PREFIX = "schedule-compaction-";
+    private static final String COMPACTED_METRIC = "asap.schedule.compaction.rows";
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(5);
+
+    private final UserMeetingScheduleService userMeetingScheduleService;
+    private final int batchSize;
+    private final Duration interval;
+    private final Counter compactedCounter;
+    private volatile boolean running;
+    private Thread worker;
+
+    public UserMeetingScheduleCompactor(
+            final UserMeetingScheduleService userMeetingScheduleService,
+            final MeterRegistry meterRegistry,
+            @Value("${asap.schedule.compaction.batch-size:100}") final int batchSize,
+            @Value("${asap.schedule.compaction.interval-millis:500}") final long intervalMillis
+    ) {
+        this.userMeetingScheduleService = userMeetingScheduleService;
+        this.batchSize = batchSize;
+        this.interval = Duration.ofMillis(intervalMillis);
+        this.compactedCounter = Counter.builder(COMPACTED_METRIC)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new CustomizableThreadFactory(THREAD_NAME_PREFIX).newThread(this::run);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(interval.plus(ERROR_BACKOFF).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        long lastUserId = 0;
+        long compacted = 0;
+        while (running) {
+            try {
+                final List<Long> userIds = userMeetingScheduleService.findUserIdsAfter(lastUserId, batchSize);
+                if (userIds.isEmpty()) {
+                    log.info("schedule compaction finished : {} rows removed", compacted);
+                    return;
+                }
+                final int removed = userMeetingScheduleService.compact(userIds);
+                compactedCounter.increment(removed);
+                compacted += removed;
+                lastUserId = userIds.get(userIds.size() - 1);
+                sleep(interval);
+            } catch (RuntimeException e) {
+                log.error("schedule compaction failed after user {} : {}", lastUserId, e.getMessage(), e);
+                sleep(ERROR_BACKOFF);
+            }
+        }
+    }
+
+    private void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -1,22 +1,27 @@
 package com.asap.server.service.time;
 
-import com.asap.server.common.exception.Error;
-import com.asap.server.common.exception.model.BadRequestException;
-import com.asap.server.common.utils.DateUtil;
 import com.asap.server.persistence.domain.enums.TimeSlot;
 import com.asap.server.persistence.domain.time.UserMeetingSchedule;
 import com.asap.server.persistence.repository.UserMeetingScheduleRepository;
+import com.asap.server.persistence.repository.user.UserRepository;
 import com.asap.server.service.time.dto.register.UserMeetingScheduleRegisterDto;
+import com.asap.server.service.time.vo.ScheduleIntervalVo;
 import com.asap.server.service.time.vo.TimeBlockVo;
 import com.asap.server.service.time.vo.UserScheduleByTimeSlotVo;
 import com.asap.server.service.time.vo.UserScheduleByTimeSlotVo.CompositeKey;
-import java.util.HashMap;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,34 +29,119 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserMeetingScheduleService {
     private final UserMeetingScheduleRepository userMeetingScheduleRepository;
+    private final UserRepository userRepository;
+    private final UserMeetingScheduleValidator userMeetingScheduleValidator;
+    private final MeetingSlotCountService meetingSlotCountService;
 
+    /**
+     * 맞닿은 구간은 합쳐서 저장한다.
+     */
     @Transactional
     public void createUserMeetingSchedule(
             final long meetingId,
             final long userId,
             final List<UserMeetingScheduleRegisterDto> availableDates
     ) {
-        isDuplicatedDate(availableDates);
-
-        availableDates.forEach(availableDate -> {
-                    UserMeetingSchedule userMeetingSchedule = UserMeetingSchedule.builder()
-                            .userId(userId)
-                            .meetingId(meetingId)
-                            .availableDate(DateUtil.transformLocalDate(availableDate.month(), availableDate.day()))
-                            .startTimeSlot(availableDate.startTime())
-                            .endTimeSlot(availableDate.endTime())
-                            .weight(availableDate.priority())
-                            .build();
-
-                    userMeetingScheduleRepository.save(userMeetingSchedule);
-                }
+        List<ScheduleIntervalVo> intervals = normalize(availableDates);
+        userMeetingScheduleRepository.saveAll(intervals.stream()
+                .map(interval -> interval.toEntity(meetingId, userId))
+                .toList());
+        meetingSlotCountService.apply(meetingId, List.of(), intervals);
+    }
+
+    /**
+     * 저장된 구간과 새 구간을 비교해 바뀐 행만 지우고 추가한다. 집계도 바뀐 만큼만 증감한다.
+     */
+    @Transactional
+    public void updateUserMeetingSchedule(
+            final long meetingId,
+            final long userId,
+            final List<UserMeetingScheduleRegisterDto> availableDates
+    ) {
+        ScheduleDiff diff = diff(
+                userMeetingScheduleRepository.findAllByMeetingIdAndUserId(meetingId, userId),
+                normalize(availableDates)
+        );
+
+        if (!diff.removed().isEmpty()) {
+            userMeetingScheduleRepository.deleteAllByIdIn(diff.removed().stream().map(UserMeetingSchedule::getId).toList());
+        }
+        if (!diff.added().isEmpty()) {
+            userMeetingScheduleRepository.saveAll(diff.added().stream()
+                    .map(interval -> interval.toEntity(meetingId, userId))
+                    .toList());
+        }
+        meetingSlotCountService.apply(
+                meetingId,
+                diff.removed().stream().map(ScheduleIntervalVo::of).toList(),
+                diff.added()
         );
     }
 
+    @Transactional(readOnly = true)
+    public List<Long> findUserIdsAfter(final long after, final int size) {
+        return userMeetingScheduleRepository.findUserIdsAfter(after, PageRequest.of(0, size));
+    }
+
+    /**
+     * 참여자별로 맞닿은 구간을 합쳐 다시 저장하고 줄어든 행 수를 돌려준다.
+     * 합친 구간은 같은 시간대를 덮으므로 시간대별 집계는 바꾸지 않는다.
+     */
+    @Transactional
+    public int compact(final List<Long> userIds) {
+        // 같은 참여자의 수정 요청과 겹치지 않도록 참여자 행을 먼저 잠근다.
+        userRepository.findAllByIdInForUpdate(userIds);
+
+        Map<Long, List<UserMeetingSchedule>> schedulesByUserId = userMeetingScheduleRepository.findAllByUserIdIn(userIds)
+                .stream()
+                .collect(Collectors.groupingBy(UserMeetingSchedule::getUserId));
+
+        List<Long> removedIds = new ArrayList<>();
+        List<UserMeetingSchedule> added = new ArrayList<>();
+        for (List<UserMeetingSchedule> stored : schedulesByUserId.values()) {
+            ScheduleDiff diff = diff(stored, ScheduleIntervalVo.normalize(stored.stream().map(ScheduleIntervalVo::of).toList()));
+            if (diff.removed().isEmpty()) {
+                continue;
+            }
+            UserMeetingSchedule sample = stored.get(0);
+            diff.removed().forEach(schedule -> removedIds.add(schedule.getId()));
+            diff.added().forEach(interval -> added.add(interval.toEntity(sample.getMeetingId(), sample.getUserId())));
+        }
+
+        if (!removedIds.isEmpty()) {
+            userMeetingScheduleRepository.deleteAllByIdIn(removedIds);
+            userMeetingScheduleRepository.saveAll(added);
+        }
+        return removedIds.size() - added.size();
+    }
+
+    /**
+     * 참여자나 일정 엔티티를 만들기 전에 호출한다.
+     */
+    public void validateUserMeetingSchedule(
+            final long meetingId,
+            final List<UserMeetingScheduleRegisterDto> availableDates
+    ) {
+        userMeetingScheduleValidator.validate(meetingId, availableDates);
+    }
+
     @Transactional(readOnly = true)
     public List<TimeBlockVo> getTimeBlocks(final Long meetingId) {
-        List<UserMeetingSchedule> userMeetingSchedules = userMeetingScheduleRepository.findAllByMeetingId(meetingId);
+        return toTimeBlocks(userMeetingScheduleRepository.findAllByMeetingId(meetingId));
+    }
 
+    /**
+     * 주어진 날짜의 일정만 읽어 시간 블록을 만든다.
+     */
+    @Transactional(readOnly = true)
+    public List<TimeBlockVo> getTimeBlocks(final Long meetingId, final Collection<LocalDate> availableDates) {
+        if (availableDates.isEmpty()) {
+            return List.of();
+        }
+        return toTimeBlocks(userMeetingScheduleRepository.findAllByMeetingIdAndAvailableDateIn(meetingId, availableDates));
+    }
+
+    private List<TimeBlockVo> toTimeBlocks(final List<UserMeetingSchedule> userMeetingSchedules) {
         return userMeetingSchedules.stream()
                 .flatMap(this::convertToUserScheduleByTimeSlot)
                 .collect(Collectors.groupingBy(UserScheduleByTimeSlotVo::composeKey))
@@ -65,20 +155,28 @@ public class UserMeetingScheduleService {
         return userMeetingScheduleRepository.countAllByUserId(hostId) == 0;
     }
 
-    private void isDuplicatedDate(final List<UserMeetingScheduleRegisterDto> registerDto) {
-        Map<String, List<TimeSlot>> meetingTimeAvailable = new HashMap<>();
-        for (UserMeetingScheduleRegisterDto requestDto : registerDto) {
-            String col = String.format("%s %s", requestDto.month(), requestDto.day());
-            List<TimeSlot> timeSlots = TimeSlot.getTimeSlots(requestDto.startTime().ordinal(),
-                    requestDto.endTime().ordinal() - 1);
-            if (meetingTimeAvailable.containsKey(col)) {
-                if (meetingTimeAvailable.get(col).stream().anyMatch(timeSlots::contains)) {
-                    throw new BadRequestException(Error.DUPLICATED_TIME_EXCEPTION);
-                }
-            } else {
-                meetingTimeAvailable.put(col, timeSlots);
+    private List<ScheduleIntervalVo> normalize(final List<UserMeetingScheduleRegisterDto> availableDates) {
+        return ScheduleIntervalVo.normalize(availableDates.stream().map(ScheduleIntervalVo::of).toList());
+    }
+
+    // 저장된 행 중 새 구간 목록에 그대로 있는 행은 두고, 나머지는 지우고 없는 구간만 추가한다.
+    private ScheduleDiff diff(final List<UserMeetingSchedule> stored, final List<ScheduleIntervalVo> intervals) {
+        Set<ScheduleIntervalVo> requested = new LinkedHashSet<>(intervals);
+        Set<ScheduleIntervalVo> kept = new HashSet<>();
+        List<UserMeetingSchedule> removed = new ArrayList<>();
+        for (UserMeetingSchedule schedule : stored) {
+            ScheduleIntervalVo interval = ScheduleIntervalVo.of(schedule);
+            if (!requested.contains(interval) || !kept.add(interval)) {
+                removed.add(schedule);
             }
         }
+        List<ScheduleIntervalVo> added = requested.stream()
+                .filter(interval -> !kept.contains(interval))
+                .toList();
+        return new ScheduleDiff(removed, added);
+    }
+
+    private record ScheduleDiff(List<UserMeetingSchedule> removed, List<ScheduleIntervalVo> added) {
     }
 
     private Stream<UserScheduleByTimeSlotVo> convertToUserScheduleByTimeSlot(
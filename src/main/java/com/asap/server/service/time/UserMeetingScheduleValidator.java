@@ -0,0 +1,63 @@
+package com.asap.server.service.time;
+
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.BadRequestException;
+import com.asap.server.common.utils.DateUtil;
+import com.asap.server.persistence.domain.enums.TimeSlot;
+import com.asap.server.service.time.dto.register.UserMeetingScheduleRegisterDto;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제출한 가능 시간을 저장하기 전에 검증한다.
+ * 날짜마다 선택한 시간대를 TimeSlot 순서의 비트로 모아 두고, 새 구간의 비트와 겹치는지로 중복을 판단한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserMeetingScheduleValidator {
+    private final AvailableDateCache availableDateCache;
+
+    public void validate(final long meetingId, final List<UserMeetingScheduleRegisterDto> schedules) {
+        final Set<LocalDate> availableDates = availableDateCache.get(meetingId);
+        final Map<LocalDate, Long> selectedSlotsByDate = new HashMap<>();
+
+        for (UserMeetingScheduleRegisterDto schedule : schedules) {
+            final long slots = toBitmask(schedule.startTime(), schedule.endTime());
+            final LocalDate date = toLocalDate(schedule);
+            if (!availableDates.contains(date)) {
+                throw new BadRequestException(Error.INVALID_TIME_RANGE);
+            }
+
+            final long selectedSlots = selectedSlotsByDate.getOrDefault(date, 0L);
+            if ((selectedSlots & slots) != 0) {
+                throw new BadRequestException(Error.DUPLICATED_TIME_EXCEPTION);
+            }
+            selectedSlotsByDate.put(date, selectedSlots | slots);
+        }
+    }
+
+    // [startTime, endTime) 구간의 시간대를 비트로 나타낸다. TimeSlot 은 37개라 long 하나에 들어간다.
+    private long toBitmask(final TimeSlot startTime, final TimeSlot endTime) {
+        if (startTime == null || endTime == null) {
+            throw new BadRequestException(Error.VALIDATION_REQUEST_MISSING_EXCEPTION);
+        }
+        if (startTime.ordinal() >= endTime.ordinal()) {
+            throw new BadRequestException(Error.INVALID_TIME_RANGE);
+        }
+        return (1L << endTime.ordinal()) - (1L << startTime.ordinal());
+    }
+
+    private LocalDate toLocalDate(final UserMeetingScheduleRegisterDto schedule) {
+        try {
+            return DateUtil.transformLocalDate(schedule.month(), schedule.day());
+        } catch (NumberFormatException | DateTimeException e) {
+            throw new BadRequestException(Error.INVALID_DATE_FORMAT_EXCEPTION);
+        }
+    }
+}
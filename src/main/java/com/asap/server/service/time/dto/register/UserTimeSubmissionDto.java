@@ -0,0 +1,11 @@
+package com.asap.server.service.time.dto.register;
+
+/**
+ * submissionId 는 제출마다 발급하며, 같은 메시지가 여러 번 전달되어도 참여자가 한 번만 저장되게 한다.
+ */
+public record UserTimeSubmissionDto(
+        String submissionId,
+        Long meetingId,
+        UserTimeRegisterDto registerDto
+) {
+}
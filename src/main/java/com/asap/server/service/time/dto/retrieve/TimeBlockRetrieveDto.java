@@ -1,10 +0,0 @@
-package com.asap.server.service.time.dto.retrieve;
-
-import java.util.List;
-
-public record TimeBlockRetrieveDto(
-        String time,
-        List<String> userNames,
-        int colorLevel
-) {
-}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.asap.server.service.time.dto.stream;
+
+import java.util.List;
+
+/**
+ * 노드 사이에 전달하고 SSE 로 그대로 내려주는 시간표 변경분. publishedAt 은 발행 시각(epoch millis)이다.
+ * 이벤트를 놓친 클라이언트는 마지막으로 받은 version 을 sinceVersion 으로 시간표를 다시 조회한다.
+ */
+public record TimeTableChangeDto(
+        long meetingId,
+        long version,
+        long publishedAt,
+        List<TimeTableSlotChangeDto> slots
+) {
+}
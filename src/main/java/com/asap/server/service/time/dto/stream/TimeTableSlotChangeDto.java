@@ -0,0 +1,20 @@
+package com.asap.server.service.time.dto.stream;
+
+import com.asap.server.common.utils.DateUtil;
+import com.asap.server.persistence.repository.time.SlotCountDelta;
+
+public record TimeTableSlotChangeDto(
+        String month,
+        String day,
+        String time,
+        int userCountDelta
+) {
+    public static TimeTableSlotChangeDto of(final SlotCountDelta delta) {
+        return new TimeTableSlotChangeDto(
+                DateUtil.getMonth(delta.availableDate()),
+                DateUtil.getDay(delta.availableDate()),
+                delta.timeSlot().getTime(),
+                delta.userCount()
+        );
+    }
+}
@@ -0,0 +1,82 @@
+package com.asap.server.service.time.vo;
+
+import com.asap.server.common.utils.DateUtil;
+import com.asap.server.persistence.domain.enums.TimeSlot;
+import com.asap.server.persistence.domain.time.UserMeetingSchedule;
+import com.asap.server.service.time.dto.register.UserMeetingScheduleRegisterDto;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한 참여자가 입력한 [startTime, endTime) 구간. 저장된 일정과 새로 입력한 일정을 같은 값으로 비교할 때 사용한다.
+ */
+public record ScheduleIntervalVo(
+        LocalDate availableDate,
+        TimeSlot startTime,
+        TimeSlot endTime,
+        int weight
+) {
+    public static ScheduleIntervalVo of(final UserMeetingScheduleRegisterDto registerDto) {
+        return new ScheduleIntervalVo(
+                DateUtil.transformLocalDate(registerDto.month(), registerDto.day()),
+                registerDto.startTime(),
+                registerDto.endTime(),
+                registerDto.priority()
+        );
+    }
+
+    /**
+     * 같은 날짜에서 끝과 시작이 맞닿고 우선순위가 같은 구간을 하나로 합친다. 날짜, 시작 시간 순으로 정렬해 돌려준다.
+     * 겹치는 구간은 시간대별 인원이 달라지므로 합치지 않는다.
+     */
+    public static List<ScheduleIntervalVo> normalize(final Collection<ScheduleIntervalVo> intervals) {
+        final List<ScheduleIntervalVo> sorted = intervals.stream()
+                .sorted(Comparator.comparing(ScheduleIntervalVo::availableDate)
+                        .thenComparing(ScheduleIntervalVo::startTime))
+                .toList();
+
+        final List<ScheduleIntervalVo> merged = new ArrayList<>(sorted.size());
+        for (ScheduleIntervalVo interval : sorted) {
+            final int last = merged.size() - 1;
+            if (last >= 0 && merged.get(last).isFollowedBy(interval)) {
+                merged.set(last, merged.get(last).extendTo(interval.endTime()));
+            } else {
+                merged.add(interval);
+            }
+        }
+        return merged;
+    }
+
+    public static ScheduleIntervalVo of(final UserMeetingSchedule userMeetingSchedule) {
+        return new ScheduleIntervalVo(
+                userMeetingSchedule.getAvailableDate(),
+                userMeetingSchedule.getStartTimeSlot(),
+                userMeetingSchedule.getEndTimeSlot(),
+                userMeetingSchedule.getWeight()
+        );
+    }
+
+    public UserMeetingSchedule toEntity(final long meetingId, final long userId) {
+        return UserMeetingSchedule.builder()
+                .userId(userId)
+                .meetingId(meetingId)
+                .availableDate(availableDate)
+                .startTimeSlot(startTime)
+                .endTimeSlot(endTime)
+                .weight(weight)
+                .build();
+    }
+
+    private boolean isFollowedBy(final ScheduleIntervalVo next) {
+        return availableDate.equals(next.availableDate)
+                && endTime == next.startTime
+                && weight == next.weight;
+    }
+
+    private ScheduleIntervalVo extendTo(final TimeSlot newEndTime) {
+        return new ScheduleIntervalVo(availableDate, startTime, newEndTime, weight);
+    }
+}
@@ -0,0 +1,44 @@
+package com.asap.server.service.time.vo;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 종합 일정 시간표를 만들 재료. userNames 는 user id 오름차순으로 정렬되어 있고, 그 순서가 참여자 인덱스가 된다.
+ * timeBlocks 는 날짜, 시간 순으로 정렬되어 있다.
+ */
+public record TimeTableVo(
+        Map<Long, String> userNames,
+        Map<Long, Integer> userIndexes,
+        List<TimeBlockVo> timeBlocks
+) {
+    public int memberCount() {
+        return userNames.size();
+    }
+
+    public List<String> totalUserNames() {
+        return List.copyOf(userNames.values());
+    }
+
+    public int getColorLevel(final TimeBlockVo timeBlock) {
+        return getColorLevel(memberCount(), timeBlock.userIds().size());
+    }
+
+    public static int getColorLevel(final int memberCount, final int availableUserCount) {
+        double ratio = (double) availableUserCount / memberCount;
+
+        if (ratio <= 0.2) {
+            return 1;
+        } else if (ratio <= 0.4) {
+            return 2;
+        } else if (ratio <= 0.6) {
+            return 3;
+        } else if (ratio <= 0.8) {
+            return 4;
+        } else if (ratio <= 1.0) {
+            return 5;
+        } else {
+            return 0;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.asap.server.common.exception.model.HostTimeForbiddenException;
 import com.asap.server.common.exception.model.NotFoundException;
 import com.asap.server.common.exception.model.UnauthorizedException;
 import com.asap.server.common.jwt.JwtService;
+import com.asap.server.infra.redis.LoginAttemptThrottle;
 import com.asap.server.persistence.domain.Meeting;
 import com.asap.server.persistence.domain.user.Name;
 import com.asap.server.persistence.repository.meeting.MeetingRepository;
@@ -24,12 +25,14 @@ public class UserLoginService {
     private final UserMeetingScheduleService userMeetingScheduleService;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
+    private final LoginAttemptThrottle loginAttemptThrottle;
 
     @Transactional
     public String loginByHost(
             final Long meetingId,
             final String name,
-            final String password
+            final String password,
+            final String clientIp
     ) {
         Meeting meeting = meetingRepository.findByIdWithHost(meetingId)
                 .orElseThrow(() -> new NotFoundException(Error.MEETING_NOT_FOUND_EXCEPTION));
@@ -40,7 +43,10 @@ public class UserLoginService {
             throw new UnauthorizedException(Error.INVALID_HOST_ID_PASSWORD_EXCEPTION);
         }
 
+        loginAttemptThrottle.check(meetingId, clientIp);
+
         if (!passwordEncoder.matches(password, meeting.getPassword())) {
+            loginAttemptThrottle.recordFailure(meetingId, clientIp);
             throw new UnauthorizedException(Error.INVALID_HOST_ID_PASSWORD_EXCEPTION);
         }
 
@@ -1,5 +1,7 @@
 package com.asap.server.service.user;
 
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.ConflictException;
 import com.asap.server.persistence.domain.Meeting;
 import com.asap.server.persistence.domain.user.User;
 import com.asap.server.persistence.repository.user.UserRepository;
@@ -20,6 +22,15 @@ public class UserRetrieveService {
         return userRepository.countByMeeting(meeting);
     }
 
+    /**
+     * 비동기로 접수한 가능 시간이 아직 저장되지 않았으면 409 를 던진다.
+     */
+    public Long getUserIdBySubmissionId(final String submissionId) {
+        return userRepository.findBySubmissionId(submissionId)
+                .map(User::getId)
+                .orElseThrow(() -> new ConflictException(Error.USER_TIME_SUBMISSION_PENDING_EXCEPTION));
+    }
+
     public Map<Long, User> getUserIdToUserMap(final Long meetingId) {
         return userRepository
                 .findAllByMeetingId(meetingId).stream()
@@ -0,0 +1,66 @@
+package com.asap.server.service.user;
+
+import com.asap.server.persistence.domain.Meeting;
+import com.asap.server.persistence.domain.enums.Role;
+import com.asap.server.persistence.domain.user.Name;
+import com.asap.server.persistence.domain.user.User;
+import com.asap.server.persistence.repository.user.UserRepository;
+import com.asap.server.service.UserService;
+import com.asap.server.service.time.TimeTableChangeLogService;
+import com.asap.server.service.time.UserMeetingScheduleService;
+import com.asap.server.service.time.dto.register.UserTimeSubmissionDto;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 큐에 쌓인 참여자 가능 시간 제출을 한 트랜잭션에서 저장한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserTimeBatchWriter {
+    private final TimeTableChangeLogService timeTableChangeLogService;
+    private final UserService userService;
+    private final UserRepository userRepository;
+    private final UserMeetingScheduleService userMeetingScheduleService;
+
+    @Transactional
+    public void writeAll(final List<UserTimeSubmissionDto> submissions) {
+        // 참여자를 저장하기 전에 배치에 포함된 회의를 모두 잠근다.
+        Map<Long, Meeting> meetings = timeTableChangeLogService.lockMeetings(submissions.stream()
+                        .map(UserTimeSubmissionDto::meetingId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Meeting::getId, meeting -> meeting));
+        for (UserTimeSubmissionDto submission : submissions) {
+            Meeting meeting = meetings.get(submission.meetingId());
+            if (meeting == null) {
+                log.warn("meeting {} not found, user time submission skipped", submission.meetingId());
+                continue;
+            }
+
+            // 커밋 후 ack 전에 죽어 다시 전달된 제출은 이미 저장되어 있다. 회의 행을 잠근 뒤라 확인과 저장 사이에 끼어드는 제출은 없다.
+            if (submission.submissionId() != null && userRepository.existsBySubmissionId(submission.submissionId())) {
+                log.info("user time submission {} already written, skipped", submission.submissionId());
+                continue;
+            }
+
+            User user = userService.createUser(
+                    meeting,
+                    new Name(submission.registerDto().name()),
+                    Role.MEMBER,
+                    submission.submissionId()
+            );
+            userMeetingScheduleService.createUserMeetingSchedule(
+                    submission.meetingId(),
+                    user.getId(),
+                    submission.registerDto().availableSchedules()
+            );
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.asap.server.service.user;
+
+import com.asap.server.common.exception.model.AsapException;
+import com.asap.server.infra.redis.UserTimeSubmissionStream;
+import com.asap.server.service.time.dto.register.UserTimeSubmissionDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.StreamMessageId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 제출 모드에서 Redis Stream 의 제출을 모아 배치로 저장하는 백그라운드 작업.
+ * 배치 저장이 실패하면 한 건씩 다시 저장한다. 잘못된 요청으로 실패한 건은 버리고,
+ * 그 외의 이유로 실패한 건은 ack 하지 않아 나중에 다시 시도한다.
+ * max-deliveries 번 넘게 전달된 메시지는 더 시도하지 않고 dead letter 스트림으로 옮긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "asap.ingestion.async.enabled", havingValue = "true")
+public class UserTimeIngestionWorker implements SmartLifecycle {
+    private static final String THREAD_NAME_PREFIX = "user-time-ingestion-";
+    private static final String BATCH_METRIC = "asap.ingestion.batch";
+    private static final String BATCH_SIZE_METRIC = "asap.ingestion.batch.size";
+    private static final String FAILED_METRIC = "asap.ingestion.failed";
+    private static final String DEAD_LETTER_METRIC = "asap.ingestion.dead-letter";
+    private static final String BACKLOG_METRIC = "asap.ingestion.backlog";
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+
+    private final UserTimeSubmissionStream userTimeSubmissionStream;
+    private final UserTimeBatchWriter userTimeBatchWriter;
+    private final String consumerName = THREAD_NAME_PREFIX + UUID.randomUUID();
+    private final int batchSize;
+    private final Duration pollTimeout;
+    private final Duration claimIdleTime;
+    private final int maxDeliveries;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter failedCounter;
+    private final Counter deadLetterCounter;
+    private volatile boolean running;
+    private Thread worker;
+    private long lastClaimedAt;
+
+    public UserTimeIngestionWorker(
+            final UserTimeSubmissionStream userTimeSubmissionStream,
+            final UserTimeBatchWriter userTimeBatchWriter,
+            final MeterRegistry meterRegistry,
+            @Value("${asap.ingestion.async.batch-size:200}") final int batchSize,
+            @Value("${asap.ingestion.async.poll-timeout-millis:1000}") final long pollTimeoutMillis,
+            @Value("${asap.ingestion.async.claim-idle-seconds:60}") final long claimIdleSeconds,
+            @Value("${asap.ingestion.async.max-deliveries:5}") final int maxDeliveries
+    ) {
+        this.userTimeSubmissionStream = userTimeSubmissionStream;
+        this.userTimeBatchWriter = userTimeBatchWriter;
+        this.batchSize = batchSize;
+        this.pollTimeout = Duration.ofMillis(pollTimeoutMillis);
+        this.claimIdleTime = Duration.ofSeconds(claimIdleSeconds);
+        this.maxDeliveries = maxDeliveries;
+        this.batchTimer = Timer.builder(BATCH_METRIC)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder(BATCH_SIZE_METRIC)
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(FAILED_METRIC)
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder(DEAD_LETTER_METRIC)
+                .register(meterRegistry);
+        Gauge.builder(BACKLOG_METRIC, userTimeSubmissionStream, UserTimeSubmissionStream::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new CustomizableThreadFactory(THREAD_NAME_PREFIX).newThread(this::run);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(pollTimeout.multipliedBy(2).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        userTimeSubmissionStream.createGroupIfAbsent();
+        while (running) {
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                log.error("user time ingestion failed : {}", e.getMessage(), e);
+                sleep(ERROR_BACKOFF);
+            }
+        }
+    }
+
+    void poll() {
+        final Map<StreamMessageId, UserTimeSubmissionDto> stale = claimStale();
+        final Map<StreamMessageId, UserTimeSubmissionDto> batch = stale.isEmpty()
+                ? userTimeSubmissionStream.read(consumerName, batchSize, pollTimeout)
+                : stale;
+        if (!batch.isEmpty()) {
+            batchTimer.record(() -> write(batch));
+        }
+    }
+
+    // 다른 노드가 처리 도중 죽었거나 저장에 실패해 남은 메시지를 가져온다.
+    private Map<StreamMessageId, UserTimeSubmissionDto> claimStale() {
+        final long now = System.currentTimeMillis();
+        if (now - lastClaimedAt < claimIdleTime.toMillis()) {
+            return Map.of();
+        }
+        lastClaimedAt = now;
+        final Map<StreamMessageId, UserTimeSubmissionDto> claimed =
+                new LinkedHashMap<>(userTimeSubmissionStream.claimStale(consumerName, batchSize, claimIdleTime));
+        userTimeSubmissionStream.deliveryCounts(consumerName, claimed.keySet()).forEach((id, deliveries) -> {
+            if (deliveries > maxDeliveries && claimed.containsKey(id)) {
+                deadLetterCounter.increment();
+                log.error("user time submission {} moved to dead letter after {} deliveries", id, deliveries);
+                userTimeSubmissionStream.deadLetter(id, claimed.remove(id));
+            }
+        });
+        return claimed;
+    }
+
+    private void write(final Map<StreamMessageId, UserTimeSubmissionDto> batch) {
+        batchSizeSummary.record(batch.size());
+        try {
+            userTimeBatchWriter.writeAll(List.copyOf(batch.values()));
+            userTimeSubmissionStream.acknowledge(batch.keySet().toArray(StreamMessageId[]::new));
+        } catch (RuntimeException e) {
+            log.warn("user time batch failed, retrying one by one : {}", e.getMessage());
+            batch.forEach(this::writeOne);
+        }
+    }
+
+    private void writeOne(final StreamMessageId id, final UserTimeSubmissionDto submission) {
+        try {
+            userTimeBatchWriter.writeAll(List.of(submission));
+            userTimeSubmissionStream.acknowledge(id);
+        } catch (AsapException e) {
+            failedCounter.increment();
+            log.error("user time submission {} dropped : {}", id, e.getMessage());
+            userTimeSubmissionStream.acknowledge(id);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.error("user time submission {} failed : {}", id, e.getMessage(), e);
+        }
+    }
+
+    private void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
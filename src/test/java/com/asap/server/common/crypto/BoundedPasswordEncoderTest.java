@@ -0,0 +1,143 @@
+package com.asap.server.common.crypto;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+import com.asap.server.common.exception.model.ServiceUnavailableException;
+import com.asap.server.common.exception.model.TooManyRequestException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        if (boundedPasswordEncoder != null) {
+            boundedPasswordEncoder.destroy();
+        }
+    }
+
+    @DisplayName("전용 스레드 풀에서 암호화한 비밀번호를 검증할 수 있다.")
+    @Test
+    void test() {
+        // given
+        boundedPasswordEncoder = new BoundedPasswordEncoder(
+                PasswordEncoderFactories.createDelegatingPasswordEncoder(),
+                1,
+                1,
+                3000,
+                runnable -> runnable,
+                meterRegistry
+        );
+
+        // when
+        String encodedPassword = boundedPasswordEncoder.encode("0000");
+
+        // then
+        assertThat(boundedPasswordEncoder.matches("0000", encodedPassword)).isTrue();
+        assertThat(boundedPasswordEncoder.matches("1111", encodedPassword)).isFalse();
+        assertThat(meterRegistry.get("asap.password.hashing").tag("operation", "matches").timer().count())
+                .isEqualTo(2L);
+    }
+
+    @DisplayName("대기열이 가득 차면 TooManyRequestException 을 반환한다.")
+    @Test
+    void test2() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        boundedPasswordEncoder = new BoundedPasswordEncoder(
+                new BlockingPasswordEncoder(release),
+                1,
+                1,
+                3000,
+                runnable -> runnable,
+                meterRegistry
+        );
+        callers.submit(() -> boundedPasswordEncoder.matches("0000", "0000"));
+        callers.submit(() -> boundedPasswordEncoder.matches("0000", "0000"));
+        awaitQueueSize(1);
+
+        // when, then
+        try {
+            assertThatThrownBy(() -> boundedPasswordEncoder.matches("0000", "0000"))
+                    .isInstanceOf(TooManyRequestException.class);
+            assertThat(meterRegistry.get("asap.password.hashing.rejected").counter().count()).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @DisplayName("제한 시간 안에 결과를 받지 못하면 ServiceUnavailableException 을 반환한다.")
+    @Test
+    void test3() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        boundedPasswordEncoder = new BoundedPasswordEncoder(
+                new BlockingPasswordEncoder(release),
+                1,
+                1,
+                50,
+                runnable -> runnable,
+                meterRegistry
+        );
+
+        // when, then
+        try {
+            assertThatThrownBy(() -> boundedPasswordEncoder.matches("0000", "0000"))
+                    .isInstanceOf(ServiceUnavailableException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private void awaitQueueSize(final int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+        while (meterRegistry.get("asap.password.hashing.queue").gauge().value() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("queue did not fill up");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static class BlockingPasswordEncoder implements PasswordEncoder {
+        private final CountDownLatch release;
+
+        private BlockingPasswordEncoder(final CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(final CharSequence rawPassword) {
+            await();
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+            await();
+            return rawPassword.toString().equals(encodedPassword);
+        }
+
+        private void await() {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
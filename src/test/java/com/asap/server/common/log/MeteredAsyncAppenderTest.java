@@ -0,0 +1,114 @@
+package com.asap.server.common.log;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MeteredAsyncAppenderTest {
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final Logger logger = loggerContext.getLogger(MeteredAsyncAppenderTest.class);
+    private final BlockingAppender blockingAppender = new BlockingAppender();
+    private MeteredAsyncAppender appender;
+
+    @AfterEach
+    void tearDown() {
+        blockingAppender.release.countDown();
+        if (appender != null) {
+            appender.stop();
+        }
+    }
+
+    @DisplayName("discardingThreshold 를 정하지 않으면 queueSize 의 20% 를 사용한다.")
+    @Test
+    void test() {
+        // given, when
+        appender = newAppender(10, -1);
+
+        // then
+        assertThat(appender.getDiscardingThreshold()).isEqualTo(2);
+    }
+
+    @DisplayName("neverBlock 에서 큐가 가득 차면 offer 하지 않고 버린 이벤트로 센다.")
+    @Test
+    void test2() throws Exception {
+        // given
+        appender = newAppender(4, 0);
+        blockWorker();
+
+        // when
+        for (int i = 0; i < 7; i++) {
+            appender.doAppend(newEvent(Level.WARN));
+        }
+
+        // then
+        assertThat(appender.getNumberOfElementsInQueue()).isEqualTo(4);
+        assertThat(appender.getDroppedCount()).isEqualTo(3L);
+    }
+
+    @DisplayName("큐 여유가 discardingThreshold 아래면 INFO 이하만 버리고 WARN 은 남긴다.")
+    @Test
+    void test3() throws Exception {
+        // given
+        appender = newAppender(10, 5);
+        blockWorker();
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            appender.doAppend(newEvent(Level.INFO));
+        }
+        appender.doAppend(newEvent(Level.WARN));
+
+        // then
+        assertThat(appender.getNumberOfElementsInQueue()).isEqualTo(7);
+        assertThat(appender.getDroppedCount()).isEqualTo(2L);
+    }
+
+    private MeteredAsyncAppender newAppender(final int queueSize, final int discardingThreshold) {
+        blockingAppender.setContext(loggerContext);
+        blockingAppender.start();
+        MeteredAsyncAppender asyncAppender = new MeteredAsyncAppender();
+        asyncAppender.setContext(loggerContext);
+        asyncAppender.setQueueSize(queueSize);
+        asyncAppender.setDiscardingThreshold(discardingThreshold);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.setMaxFlushTime(100);
+        asyncAppender.addAppender(blockingAppender);
+        asyncAppender.start();
+        return asyncAppender;
+    }
+
+    // 워커 스레드가 첫 이벤트를 처리하다 멈춰 있는 동안에는 큐가 비워지지 않는다.
+    private void blockWorker() throws InterruptedException {
+        appender.doAppend(newEvent(Level.WARN));
+        assertThat(blockingAppender.entered.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private ILoggingEvent newEvent(final Level level) {
+        return new LoggingEvent(Logger.FQCN, logger, level, "message", null, null);
+    }
+
+    private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        protected void append(final ILoggingEvent eventObject) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
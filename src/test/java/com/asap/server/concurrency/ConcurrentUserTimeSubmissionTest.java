@@ -0,0 +1,94 @@
+package com.asap.server.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.asap.server.common.utils.DateUtil;
+import com.asap.server.persistence.domain.AvailableDate;
+import com.asap.server.persistence.domain.Meeting;
+import com.asap.server.persistence.domain.Place;
+import com.asap.server.persistence.domain.enums.Duration;
+import com.asap.server.persistence.domain.enums.PlaceType;
+import com.asap.server.persistence.domain.enums.TimeSlot;
+import com.asap.server.persistence.repository.user.UserRepository;
+import com.asap.server.service.UserService;
+import com.asap.server.service.time.TimeTableChangeLogService;
+import com.asap.server.service.time.dto.register.UserMeetingScheduleRegisterDto;
+import com.asap.server.service.time.dto.register.UserTimeRegisterDto;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+public class ConcurrentUserTimeSubmissionTest {
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private TimeTableChangeLogService timeTableChangeLogService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("같은 회의에 가능 시간이 동시에 제출되어도 교착 없이 모두 저장되고 버전이 제출 수만큼 올라간다")
+    void concurrentSubmissionTest() throws Exception {
+        // given
+        int numberOfThread = 8;
+        Meeting meeting = transactionTemplate.execute(status -> {
+            Meeting saved = Meeting.builder()
+                    .title("동시 제출 테스트")
+                    .password("0000")
+                    .additionalInfo("")
+                    .duration(Duration.HALF)
+                    .place(Place.builder().placeType(PlaceType.OFFLINE).build())
+                    .build();
+            em.persist(saved);
+            em.persist(AvailableDate.builder().meeting(saved).date(DateUtil.transformLocalDate("7", "9")).build());
+            return saved;
+        });
+        long meetingId = meeting.getId();
+        List<UserMeetingScheduleRegisterDto> schedules = List.of(
+                new UserMeetingScheduleRegisterDto("7", "9", TimeSlot.SLOT_9_00, TimeSlot.SLOT_12_00, 0)
+        );
+
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThread);
+        CountDownLatch ready = new CountDownLatch(numberOfThread);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        for (int i = 0; i < numberOfThread; i++) {
+            String name = "user" + i;
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    userService.createUserTime(meetingId, new UserTimeRegisterDto(name, schedules));
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(errors).isEmpty();
+        assertThat(userRepository.countByMeetingId(meetingId)).isEqualTo(numberOfThread);
+        assertThat(timeTableChangeLogService.getLatestVersion(meetingId)).isEqualTo(numberOfThread);
+    }
+}
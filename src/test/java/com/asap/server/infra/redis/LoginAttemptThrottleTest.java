@@ -0,0 +1,85 @@
+package com.asap.server.infra.redis;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.asap.server.common.exception.model.TooManyRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+@ExtendWith(MockitoExtension.class)
+class LoginAttemptThrottleTest {
+    private static final String IP_KEY = "ASAP_LOGIN_ATTEMPT:IP:0.0.0.1";
+    private static final String MEETING_KEY = "ASAP_LOGIN_ATTEMPT:MEETING:1";
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RScoredSortedSet<String> ipFailures;
+    @Mock
+    private RScoredSortedSet<String> meetingFailures;
+    private LoginAttemptThrottle loginAttemptThrottle;
+
+    @BeforeEach
+    void setUp() {
+        loginAttemptThrottle = new LoginAttemptThrottle(redissonClient, new SimpleMeterRegistry(), true, 600, 10, 30);
+    }
+
+    @Test
+    @DisplayName("IP 의 실패 횟수가 제한을 넘으면 회의 단위 집계를 확인하지 않고 거절한다.")
+    void test() {
+        // given
+        when(redissonClient.<String>getScoredSortedSet(eq(IP_KEY), any(Codec.class))).thenReturn(ipFailures);
+        when(ipFailures.count(anyDouble(), anyBoolean(), anyDouble(), anyBoolean())).thenReturn(30);
+
+        // when, then
+        assertThatThrownBy(() -> loginAttemptThrottle.check(1L, "0.0.0.1"))
+                .isInstanceOf(TooManyRequestException.class);
+        verify(redissonClient, never()).getScoredSortedSet(eq(MEETING_KEY), any(Codec.class));
+    }
+
+    @Test
+    @DisplayName("회의의 실패 횟수가 제한 미만이면 시도를 기록하지 않고 통과시킨다.")
+    void test2() {
+        // given
+        when(redissonClient.<String>getScoredSortedSet(eq(IP_KEY), any(Codec.class))).thenReturn(ipFailures);
+        when(redissonClient.<String>getScoredSortedSet(eq(MEETING_KEY), any(Codec.class))).thenReturn(meetingFailures);
+        when(ipFailures.count(anyDouble(), anyBoolean(), anyDouble(), anyBoolean())).thenReturn(0);
+        when(meetingFailures.count(anyDouble(), anyBoolean(), anyDouble(), anyBoolean())).thenReturn(9);
+
+        // when
+        loginAttemptThrottle.check(1L, "0.0.0.1");
+
+        // then
+        verify(meetingFailures, never()).add(anyDouble(), any());
+        verify(redissonClient, never()).createBatch(any());
+    }
+
+    @Test
+    @DisplayName("회의의 실패 횟수가 제한에 도달하면 거절한다.")
+    void test3() {
+        // given
+        when(redissonClient.<String>getScoredSortedSet(eq(IP_KEY), any(Codec.class))).thenReturn(ipFailures);
+        when(redissonClient.<String>getScoredSortedSet(eq(MEETING_KEY), any(Codec.class))).thenReturn(meetingFailures);
+        when(ipFailures.count(anyDouble(), anyBoolean(), anyDouble(), anyBoolean())).thenReturn(0);
+        when(meetingFailures.count(anyDouble(), anyBoolean(), anyDouble(), anyBoolean())).thenReturn(10);
+
+        // when, then
+        assertThatThrownBy(() -> loginAttemptThrottle.check(1L, "0.0.0.1"))
+                .isInstanceOf(TooManyRequestException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package com.asap.server.infra.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.asap.server.service.time.dto.register.UserTimeRegisterDto;
+import com.asap.server.service.time.dto.register.UserTimeSubmissionDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.PendingEntry;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.api.stream.StreamAddParams;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.client.codec.Codec;
+
+@ExtendWith(MockitoExtension.class)
+class UserTimeSubmissionStreamTest {
+    private static final String STREAM_KEY = "ASAP_INGESTION:USER_TIME";
+    private static final String DEAD_LETTER_KEY = "ASAP_INGESTION:USER_TIME:DEAD";
+    private static final String GROUP_NAME = "asap-user-time-writer";
+    private static final String CONSUMER_NAME = "consumer";
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RStream<String, String> stream;
+    @Mock
+    private RStream<String, String> deadLetterStream;
+    @Captor
+    private ArgumentCaptor<StreamAddArgs<String, String>> addCaptor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private UserTimeSubmissionStream userTimeSubmissionStream;
+
+    @BeforeEach
+    void setUp() {
+        userTimeSubmissionStream = new UserTimeSubmissionStream(redissonClient, objectMapper);
+        when(redissonClient.<String, String>getStream(eq(STREAM_KEY), any(Codec.class))).thenReturn(stream);
+    }
+
+    @Test
+    @DisplayName("제출은 submissionId 를 포함한 JSON 으로 쌓는다.")
+    void test() throws Exception {
+        // given
+        UserTimeSubmissionDto submission = newSubmission();
+
+        // when
+        userTimeSubmissionStream.append(submission);
+
+        // then
+        verify(stream).add(addCaptor.capture());
+        String payload = ((StreamAddParams<String, String>) addCaptor.getValue()).getEntries().get("payload");
+        assertThat(objectMapper.readValue(payload, UserTimeSubmissionDto.class)).isEqualTo(submission);
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 메시지는 dead letter 스트림으로 옮기고 원래 스트림에서 ack 한다.")
+    void test2() {
+        // given
+        StreamMessageId id = new StreamMessageId(1L, 0L);
+        when(redissonClient.<String, String>getStream(eq(DEAD_LETTER_KEY), any(Codec.class)))
+                .thenReturn(deadLetterStream);
+        when(stream.readGroup(eq(GROUP_NAME), eq(CONSUMER_NAME), any(StreamReadGroupArgs.class)))
+                .thenReturn(Map.of(id, Map.of("payload", "not json")));
+
+        // when
+        Map<StreamMessageId, UserTimeSubmissionDto> result =
+                userTimeSubmissionStream.read(CONSUMER_NAME, 10, Duration.ofSeconds(1));
+
+        // then
+        assertThat(result).isEmpty();
+        verify(deadLetterStream).add(addCaptor.capture());
+        Map<String, String> entries = ((StreamAddParams<String, String>) addCaptor.getValue()).getEntries();
+        assertThat(entries.get("payload")).isEqualTo("not json");
+        assertThat(entries.get("original-id")).isEqualTo(id.toString());
+        verify(stream).ack(GROUP_NAME, id);
+        verify(stream).remove(id);
+    }
+
+    @Test
+    @DisplayName("가지고 있는 메시지의 전달 횟수를 pending 목록에서 조회한다.")
+    void test3() {
+        // given
+        StreamMessageId first = new StreamMessageId(1L, 0L);
+        StreamMessageId second = new StreamMessageId(2L, 0L);
+        when(stream.listPending(GROUP_NAME, CONSUMER_NAME, first, second, 2)).thenReturn(List.of(
+                new PendingEntry(first, CONSUMER_NAME, 60000L, 6L),
+                new PendingEntry(second, CONSUMER_NAME, 60000L, 2L)
+        ));
+
+        // when
+        Map<StreamMessageId, Long> counts = userTimeSubmissionStream.deliveryCounts(CONSUMER_NAME, List.of(second, first));
+
+        // then
+        assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of(first, 6L, second, 2L));
+    }
+
+    private UserTimeSubmissionDto newSubmission() {
+        return new UserTimeSubmissionDto("submission", 1L, new UserTimeRegisterDto("KWY", List.of()));
+    }
+}
@@ -0,0 +1,114 @@
+package com.asap.server.infra.slack;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class SlackAlertDispatcherTest {
+    private final Queue<String> receivedBodies = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger failuresBeforeSuccess = new AtomicInteger();
+    private HttpServer webhook;
+    private SlackAlertDispatcher slackAlertDispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        webhook = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        webhook.createContext("/webhook", exchange -> {
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            final int status = failuresBeforeSuccess.getAndDecrement() > 0 ? 500 : 200;
+            final byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        webhook.start();
+
+        final String url = "http://localhost:" + webhook.getAddress().getPort() + "/webhook";
+        slackAlertDispatcher = new SlackAlertDispatcher(new SlackUtil(url), new SimpleMeterRegistry(), 10_000, 3, 10, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        webhook.stop(0);
+    }
+
+    @Test
+    @DisplayName("같은 곳에서 난 같은 예외는 한 번의 전송으로 묶는다.")
+    void coalesceSameException() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            slackAlertDispatcher.enqueue(newException("meeting " + i), newRequest());
+        }
+
+        // when
+        slackAlertDispatcher.flush();
+
+        // then
+        assertThat(receivedBodies.size()).isEqualTo(1);
+        assertThat(receivedBodies.peek()).contains("*[Count]*\\n5");
+    }
+
+    @Test
+    @DisplayName("웹훅이 5xx 를 응답하면 다시 시도한다.")
+    void retryOnServerError() {
+        // given
+        failuresBeforeSuccess.set(2);
+        slackAlertDispatcher.enqueue(newException("meeting"), newRequest());
+
+        // when
+        slackAlertDispatcher.flush();
+
+        // then
+        assertThat(receivedBodies.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("모아 둔 예외 종류가 상한을 넘으면 새 종류의 알림은 버린다.")
+    void dropWhenPendingIsFull() {
+        // given
+        final List<Exception> exceptions = List.of(
+                new IllegalStateException("first"),
+                new IllegalArgumentException("second"),
+                new UnsupportedOperationException("third")
+        );
+        exceptions.forEach(exception -> slackAlertDispatcher.enqueue(exception, newRequest()));
+
+        // when
+        slackAlertDispatcher.flush();
+
+        // then
+        assertThat(receivedBodies.size()).isEqualTo(1);
+        assertThat(receivedBodies.peek()).doesNotContain("UnsupportedOperationException");
+    }
+
+    @Test
+    @DisplayName("보낼 알림이 없으면 웹훅을 호출하지 않는다.")
+    void skipWhenEmpty() {
+        // when
+        slackAlertDispatcher.flush();
+
+        // then
+        assertThat(receivedBodies).isEmpty();
+    }
+
+    private Exception newException(final String message) {
+        return new IllegalStateException(message);
+    }
+
+    private MockHttpServletRequest newRequest() {
+        return new MockHttpServletRequest("GET", "/meeting/1/details");
+    }
+}
@@ -0,0 +1,65 @@
+package com.asap.server.persistence.repository.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.asap.server.persistence.config.querydsl.QueryDslConfig;
+import com.asap.server.persistence.domain.enums.TimeSlot;
+import com.asap.server.persistence.domain.time.MeetingSlotCount;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(QueryDslConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MeetingSlotCountRepositoryImplTest {
+    private static final long MEETING_ID = Long.MAX_VALUE;
+    private static final LocalDate DATE = LocalDate.of(2025, 7, 9);
+
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private MeetingSlotCountRepository meetingSlotCountRepository;
+
+    @Test
+    @DisplayName("같은 시간대에 [참여자 1, 가중치 2] 를 두 번 반영하면 행은 하나이고 참여자 2, 가중치 4, 마지막 버전이 남는다.")
+    void test() {
+        // given
+        SlotCountDelta delta = new SlotCountDelta(DATE, TimeSlot.SLOT_12_00, 1, 2);
+
+        // when
+        meetingSlotCountRepository.applyDeltas(MEETING_ID, 1L, List.of(delta));
+        meetingSlotCountRepository.applyDeltas(MEETING_ID, 2L, List.of(delta));
+        em.clear();
+
+        // then
+        List<MeetingSlotCount> slotCounts = meetingSlotCountRepository.findAllByMeetingId(MEETING_ID);
+        assertThat(slotCounts).hasSize(1);
+        assertThat(slotCounts.get(0).getUserCount()).isEqualTo(2);
+        assertThat(slotCounts.get(0).getWeight()).isEqualTo(4);
+        assertThat(slotCounts.get(0).getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("인원은 그대로이고 가중치만 바뀌면 가중치만 더하고 버전은 올리지 않는다.")
+    void test2() {
+        // given
+        meetingSlotCountRepository.applyDeltas(MEETING_ID, 1L, List.of(new SlotCountDelta(DATE, TimeSlot.SLOT_12_00, 1, 2)));
+
+        // when
+        meetingSlotCountRepository.applyDeltas(MEETING_ID, 0L, List.of(new SlotCountDelta(DATE, TimeSlot.SLOT_12_00, 0, 1)));
+        em.clear();
+
+        // then
+        MeetingSlotCount slotCount = meetingSlotCountRepository.findAllByMeetingId(MEETING_ID).get(0);
+        assertThat(slotCount.getUserCount()).isEqualTo(1);
+        assertThat(slotCount.getWeight()).isEqualTo(3);
+        assertThat(slotCount.getVersion()).isEqualTo(1L);
+    }
+}
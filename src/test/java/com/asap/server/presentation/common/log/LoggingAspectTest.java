@@ -0,0 +1,139 @@
+package com.asap.server.presentation.common.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+class LoggingAspectTest {
+    private static final String TIMETABLE_PATTERN = "/meeting/{meetingId}/timetable";
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+    private final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("asap.logging.sample-rates.[" + TIMETABLE_PATTERN + "]", "0");
+
+    @BeforeEach
+    void setUp() {
+        listAppender.start();
+        logger.addAppender(listAppender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(listAppender);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("샘플링 비율이 0 인 엔드포인트는 핸들러만 실행하고 로그를 남기지 않는다.")
+    @Test
+    void test() throws Throwable {
+        // given
+        LoggingAspect loggingAspect = new LoggingAspect(new ObjectMapper(), environment, "text", 2000, 0, 1.0);
+        ProceedingJoinPoint joinPoint = joinPoint(Map.of("title", "asap"));
+        bindRequest(TIMETABLE_PATTERN);
+
+        // when
+        Object result = loggingAspect.logging(joinPoint);
+
+        // then
+        assertThat(result).isEqualTo(Map.of("title", "asap"));
+        verify(joinPoint).proceed(any());
+        assertThat(listAppender.list).isEmpty();
+    }
+
+    @DisplayName("샘플링 비율을 지정하지 않은 엔드포인트는 기본 비율로 요청과 응답을 남긴다.")
+    @Test
+    void test2() throws Throwable {
+        // given
+        LoggingAspect loggingAspect = new LoggingAspect(new ObjectMapper(), environment, "text", 2000, 0, 1.0);
+        ProceedingJoinPoint joinPoint = joinPoint(Map.of("title", "asap"));
+        bindRequest("/meeting/{meetingId}/details");
+
+        // when
+        loggingAspect.logging(joinPoint);
+
+        // then
+        assertThat(listAppender.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly(
+                "URI : /meeting/1 | Request : {}",
+                "URI : /meeting/1 | Response : {\"title\":\"asap\"}"
+        );
+    }
+
+    @DisplayName("structured 모드는 키-값 쌍으로 남기고, 제한 길이를 넘은 값은 잘라서 표시한다.")
+    @Test
+    void test3() throws Throwable {
+        // given
+        LoggingAspect loggingAspect = new LoggingAspect(new ObjectMapper(), environment, "structured", 10, 0, 1.0);
+        ProceedingJoinPoint joinPoint = joinPoint(Map.of("title", "a".repeat(10_000)));
+        bindRequest("/meeting/{meetingId}/details");
+
+        // when
+        loggingAspect.logging(joinPoint);
+
+        // then
+        ILoggingEvent response = listAppender.list.get(1);
+        Map<String, Object> keyValues = response.getKeyValuePairs().stream()
+                .collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+        assertThat(response.getFormattedMessage()).isEqualTo("response GET /meeting/1");
+        assertThat(keyValues).containsEntry("phase", "response")
+                .containsEntry("method", "GET")
+                .containsEntry("uri", "/meeting/1")
+                .containsEntry("truncated", true)
+                .containsEntry("payload", "{\"title\":\"...(truncated)");
+    }
+
+    @DisplayName("metadata-only 임계치를 넘는 값은 본문 대신 타입만 남긴다.")
+    @Test
+    void test4() throws Throwable {
+        // given
+        LoggingAspect loggingAspect = new LoggingAspect(new ObjectMapper(), environment, "structured", 2000, 100, 1.0);
+        ProceedingJoinPoint joinPoint = joinPoint(Map.of("title", "a".repeat(10_000)));
+        bindRequest("/meeting/{meetingId}/details");
+
+        // when
+        loggingAspect.logging(joinPoint);
+
+        // then
+        assertThat(listAppender.list.get(1).getKeyValuePairs())
+                .extracting(pair -> pair.key)
+                .contains("payloadType")
+                .doesNotContain("payload");
+    }
+
+    private ProceedingJoinPoint joinPoint(final Object returnValue) throws Throwable {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getParameterNames()).thenReturn(new String[0]);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        when(joinPoint.proceed(any())).thenReturn(returnValue);
+        return joinPoint;
+    }
+
+    private void bindRequest(final String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/meeting/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
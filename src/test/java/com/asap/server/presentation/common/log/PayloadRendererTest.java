@@ -0,0 +1,60 @@
+package com.asap.server.presentation.common.log;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import com.asap.server.presentation.common.log.PayloadRenderer.Payload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PayloadRendererTest {
+    private final PayloadRenderer payloadRenderer = new PayloadRenderer(new ObjectMapper());
+
+    @DisplayName("제한 길이 안의 값은 JSON 전체를 그대로 반환한다.")
+    @Test
+    void test() {
+        // given
+        Map<String, String> value = Map.of("title", "asap");
+
+        // when
+        Payload payload = payloadRenderer.render(value, 100);
+
+        // then
+        assertThat(payload.text()).isEqualTo("{\"title\":\"asap\"}");
+        assertThat(payload.truncated()).isFalse();
+    }
+
+    @DisplayName("제한 길이에 도달하면 직렬화를 멈추고 제한 길이까지만 반환한다.")
+    @Test
+    void test2() {
+        // given
+        Map<String, String> value = Map.of("title", "a".repeat(10_000));
+
+        // when
+        Payload payload = payloadRenderer.render(value, 20);
+
+        // then
+        assertThat(payload.text()).isEqualTo("{\"title\":\"aaaaaaaaaa");
+        assertThat(payload.truncated()).isTrue();
+    }
+
+    @DisplayName("JSON 으로 직렬화할 수 없는 값은 toString 결과를 제한 길이로 잘라 사용한다.")
+    @Test
+    void test3() {
+        // given
+        Object value = new Object() {
+            @Override
+            public String toString() {
+                return "b".repeat(30);
+            }
+        };
+
+        // when
+        Payload payload = payloadRenderer.render(value, 20);
+
+        // then
+        assertThat(payload.text()).isEqualTo("b".repeat(20));
+        assertThat(payload.truncated()).isTrue();
+    }
+}
@@ -0,0 +1,148 @@
+package com.asap.server.presentation.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.asap.server.persistence.domain.enums.TimeSlot;
+import com.asap.server.presentation.config.resolver.meeting.MeetingPathVariable;
+import com.asap.server.presentation.config.resolver.user.UserId;
+import com.asap.server.presentation.controller.dto.response.MeetingTimeResponseDto;
+import com.asap.server.presentation.controller.meeting.MeetingRetrieveController;
+import com.asap.server.service.MeetingService;
+import com.asap.server.service.meeting.MeetingRetrieveService;
+import com.asap.server.service.meeting.dto.BestMeetingTimeDto;
+import com.asap.server.service.time.TimeTableStreamBroker;
+import com.asap.server.service.time.vo.TimeBlockVo;
+import com.asap.server.service.time.vo.TimeTableVo;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@ExtendWith(MockitoExtension.class)
+class WebConfigTest {
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final LocalDate DATE = LocalDate.of(2025, 7, 9);
+
+    @Mock
+    private MeetingService meetingService;
+    @Mock
+    private MeetingRetrieveService meetingRetrieveService;
+    @Mock
+    private TimeTableStreamBroker timeTableStreamBroker;
+
+    private final CBORMapper cborMapper = new CBORMapper();
+    private final MappingJackson2CborHttpMessageConverter defaultCborConverter = new MappingJackson2CborHttpMessageConverter();
+    private List<HttpMessageConverter<?>> converters;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // 스프링 기본 구성처럼 JSON 컨버터 뒤에 기본 CBOR 컨버터가 있다.
+        converters = new ArrayList<>(List.of(new MappingJackson2HttpMessageConverter(), defaultCborConverter));
+        new WebConfig(null, null, null, null, null, new Jackson2ObjectMapperBuilder()).extendMessageConverters(converters);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new MeetingRetrieveController(meetingService, meetingRetrieveService, timeTableStreamBroker))
+                .setCustomArgumentResolvers(new FixedIdResolver())
+                .setMessageConverters(converters.toArray(HttpMessageConverter[]::new))
+                .build();
+    }
+
+    @DisplayName("기본 CBOR 컨버터를 추가하지 않고 같은 자리에서 교체한다.")
+    @Test
+    void test() {
+        // then
+        assertThat(converters).hasSize(2);
+        assertThat(converters.get(0)).isInstanceOf(MappingJackson2HttpMessageConverter.class);
+        assertThat(converters.get(1)).isInstanceOf(MappingJackson2CborHttpMessageConverter.class)
+                .isNotSameAs(defaultCborConverter);
+    }
+
+    @DisplayName("Accept: application/cbor 로 시간표를 조회하면 SuccessResponse 를 CBOR 로 응답한다.")
+    @Test
+    void test2() throws Exception {
+        // given
+        when(meetingRetrieveService.getTimeTableVo(1L, 1L)).thenReturn(new TimeTableVo(
+                Map.of(1L, "KWY"),
+                Map.of(1L, 0),
+                List.of(new TimeBlockVo(DATE, TimeSlot.SLOT_12_00, 1, List.of(1L)))
+        ));
+
+        // when
+        byte[] body = mockMvc.perform(get("/meeting/{meetingId}/timetable", "encoded").accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        JsonNode response = cborMapper.readTree(body);
+        assertThat(response.get("code").asInt()).isEqualTo(200);
+        assertThat(response.get("data").get("memberCount").asInt()).isEqualTo(1);
+        assertThat(response.get("data").get("totalUserNames").get(0).asText()).isEqualTo("KWY");
+        assertThat(response.get("data").get("availableDateTimes").get(0).get("timeSlots").get(0).get("time").asText())
+                .isEqualTo("12:00");
+    }
+
+    @DisplayName("Accept: application/cbor 로 최적 회의 시간을 조회하면 SuccessResponse 를 CBOR 로 응답한다.")
+    @Test
+    void test3() throws Exception {
+        // given
+        MeetingTimeResponseDto bestDateTime = new MeetingTimeResponseDto("7", "9", "수", "12:00", "13:00", List.of());
+        when(meetingRetrieveService.getBestMeetingTime(1L, 1L))
+                .thenReturn(new BestMeetingTimeDto(3, bestDateTime, List.of()));
+
+        // when
+        byte[] body = mockMvc.perform(get("/meeting/{meetingId}/details", "encoded").accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        JsonNode response = cborMapper.readTree(body);
+        assertThat(response.get("code").asInt()).isEqualTo(200);
+        assertThat(response.get("data").get("memberCount").asInt()).isEqualTo(3);
+        assertThat(response.get("data").get("bestDateTime").get("startTime").asText()).isEqualTo("12:00");
+    }
+
+    // 회의 id 복호화와 토큰 검증은 이 테스트의 관심사가 아니므로 항상 1 을 돌려준다.
+    private static class FixedIdResolver implements HandlerMethodArgumentResolver {
+        @Override
+        public boolean supportsParameter(final MethodParameter parameter) {
+            return parameter.hasParameterAnnotation(MeetingPathVariable.class)
+                    || parameter.hasParameterAnnotation(UserId.class);
+        }
+
+        @Override
+        public Object resolveArgument(
+                final MethodParameter parameter,
+                final ModelAndViewContainer mavContainer,
+                final NativeWebRequest webRequest,
+                final WebDataBinderFactory binderFactory
+        ) {
+            return 1L;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.asap.server.presentation.config.duplicate;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+import com.asap.server.common.exception.model.PayloadTooLargeException;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class CustomHttpServletRequestWrapperTest {
+
+    @DisplayName("캐시한 본문은 여러 번 읽을 수 있고, 배열 단위로 읽을 수 있다.")
+    @Test
+    void test() throws Exception {
+        // given
+        byte[] body = "{\"title\":\"회의\"}".getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/meeting");
+        request.setContent(body);
+        CustomHttpServletRequestWrapper wrapper = new CustomHttpServletRequestWrapper(request, 1024);
+
+        // when
+        ServletInputStream first = wrapper.getInputStream();
+        byte[] buffer = new byte[1024];
+        int count = first.read(buffer, 0, buffer.length);
+        byte[] second = wrapper.getInputStream().readAllBytes();
+
+        // then
+        assertThat(count).isEqualTo(body.length);
+        assertThat(first.isFinished()).isTrue();
+        assertThat(first.read(buffer, 0, buffer.length)).isEqualTo(-1);
+        assertThat(new String(second, StandardCharsets.UTF_8)).isEqualTo(new String(body, StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("본문이 최대 크기를 넘으면 PayloadTooLargeException 을 반환한다.")
+    @Test
+    void test2() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/meeting");
+        request.setContent(new byte[17]);
+        CustomHttpServletRequestWrapper wrapper = new CustomHttpServletRequestWrapper(request, 16);
+
+        // when, then
+        assertThatThrownBy(wrapper::getBody)
+                .isInstanceOf(PayloadTooLargeException.class);
+    }
+
+    @DisplayName("비동기로 읽을 때는 ReadListener 에 바로 본문을 넘기고 다 읽으면 완료를 알린다.")
+    @Test
+    void test3() throws Exception {
+        // given
+        byte[] body = "{\"title\":\"회의\"}".getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/meeting");
+        request.setContent(body);
+        ServletInputStream inputStream = new CustomHttpServletRequestWrapper(request, 1024).getInputStream();
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+
+        // when
+        inputStream.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                byte[] buffer = new byte[4];
+                while (inputStream.isReady() && !inputStream.isFinished()) {
+                    received.write(buffer, 0, inputStream.read(buffer, 0, buffer.length));
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead.set(true);
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                throw new AssertionError(t);
+            }
+        });
+
+        // then
+        assertThat(received.toString(StandardCharsets.UTF_8)).isEqualTo(new String(body, StandardCharsets.UTF_8));
+        assertThat(allDataRead.get()).isTrue();
+    }
+}
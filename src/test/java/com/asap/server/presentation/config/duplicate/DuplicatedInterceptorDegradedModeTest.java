@@ -0,0 +1,152 @@
+package com.asap.server.presentation.config.duplicate;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+
+import com.asap.server.common.exception.model.TooManyRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.CompletableFutureWrapper;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class DuplicatedInterceptorDegradedModeTest {
+    private static final long CALL_TIMEOUT_MILLIS = 50;
+    private static final long OPEN_MILLIS = 200;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LatencyInjectedRedis redis = new LatencyInjectedRedis();
+    private DuplicateLockCircuitBreaker circuitBreaker;
+    private DuplicatedInterceptor duplicatedInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new DuplicateLockCircuitBreaker(meterRegistry, CALL_TIMEOUT_MILLIS, 2, OPEN_MILLIS);
+        RedissonClient redissonClient = redis.client();
+        IdempotentResponseStore idempotentResponseStore =
+                new IdempotentResponseStore(redissonClient, circuitBreaker, new ObjectMapper(), meterRegistry, 60);
+        duplicatedInterceptor = new DuplicatedInterceptor(
+                redissonClient, circuitBreaker, idempotentResponseStore, meterRegistry, 10000);
+    }
+
+    @DisplayName("Redis 응답이 제한 시간을 넘기면 요청을 통과시키고, 연속 실패 후에는 Redis 를 호출하지 않는다.")
+    @Test
+    void test() throws Exception {
+        // given
+        redis.latencyMillis = 500;
+
+        // when
+        boolean first = duplicatedInterceptor.preHandle(request("{\"title\":\"1\"}"), new MockHttpServletResponse(), null);
+        boolean second = duplicatedInterceptor.preHandle(request("{\"title\":\"2\"}"), new MockHttpServletResponse(), null);
+        int callsBeforeOpen = redis.calls.get();
+        boolean third = duplicatedInterceptor.preHandle(request("{\"title\":\"3\"}"), new MockHttpServletResponse(), null);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(DuplicateLockCircuitBreaker.State.OPEN);
+        assertThat(redis.calls.get()).isEqualTo(callsBeforeOpen);
+        assertThat(meterRegistry.get("asap.duplicate.breaker.fallback").counter().count()).isEqualTo(3.0);
+    }
+
+    @DisplayName("서킷 브레이커가 열린 상태에서도 같은 노드의 중복 요청은 429 를 반환한다.")
+    @Test
+    void test2() throws Exception {
+        // given
+        redis.down = true;
+        duplicatedInterceptor.preHandle(request("{\"title\":\"1\"}"), new MockHttpServletResponse(), null);
+        duplicatedInterceptor.preHandle(request("{\"title\":\"2\"}"), new MockHttpServletResponse(), null);
+        duplicatedInterceptor.preHandle(request("{\"title\":\"body\"}"), new MockHttpServletResponse(), null);
+
+        // when, then
+        assertThat(circuitBreaker.getState()).isEqualTo(DuplicateLockCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> duplicatedInterceptor.preHandle(request("{\"title\":\"body\"}"), new MockHttpServletResponse(), null))
+                .isInstanceOf(TooManyRequestException.class);
+    }
+
+    @DisplayName("대기 시간이 지난 뒤 Redis 가 회복되면 서킷 브레이커가 닫히고 Redis 락을 다시 사용한다.")
+    @Test
+    void test3() throws Exception {
+        // given
+        redis.down = true;
+        duplicatedInterceptor.preHandle(request("{\"title\":\"1\"}"), new MockHttpServletResponse(), null);
+        duplicatedInterceptor.preHandle(request("{\"title\":\"2\"}"), new MockHttpServletResponse(), null);
+        redis.down = false;
+        Thread.sleep(OPEN_MILLIS + 50);
+
+        // when
+        HttpServletRequest request = request("{\"title\":\"3\"}");
+        boolean result = duplicatedInterceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(DuplicateLockCircuitBreaker.State.CLOSED);
+        assertThat(redis.store.size()).isEqualTo(1);
+
+        duplicatedInterceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+        assertThat(redis.store.size()).isEqualTo(0);
+    }
+
+    private HttpServletRequest request(final String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/meeting");
+        request.addHeader("x-real-ip", "0.0.0.1");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return new CustomHttpServletRequestWrapper(request, 1024);
+    }
+
+    /**
+     * 키마다 값을 메모리에 저장하고, 모든 응답을 지연시키거나 실패시킬 수 있는 Redis 대역.
+     */
+    private static class LatencyInjectedRedis {
+        private final Map<String, String> store = new ConcurrentHashMap<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile long latencyMillis;
+        private volatile boolean down;
+
+        private RedissonClient client() {
+            return mock(RedissonClient.class, invocation -> {
+                if ("getBucket".equals(invocation.getMethod().getName())) {
+                    return bucket(invocation.getArgument(0));
+                }
+                return RETURNS_DEFAULTS.answer(invocation);
+            });
+        }
+
+        private RBucket<String> bucket(final String key) {
+            return mock(RBucket.class, invocation -> switch (invocation.getMethod().getName()) {
+                case "setIfAbsentAsync" -> respond(() -> store.putIfAbsent(key, invocation.getArgument(0)) == null);
+                case "compareAndSetAsync" -> respond(() -> store.remove(key, invocation.getArgument(0)));
+                default -> RETURNS_DEFAULTS.answer(invocation);
+            });
+        }
+
+        private CompletableFutureWrapper<Boolean> respond(final Supplier<Boolean> command) {
+            calls.incrementAndGet();
+            if (down) {
+                return new CompletableFutureWrapper<Boolean>(
+                        CompletableFuture.<Boolean>failedFuture(new IllegalStateException("redis is down")));
+            }
+            return new CompletableFutureWrapper<Boolean>(CompletableFuture.supplyAsync(
+                    command,
+                    CompletableFuture.delayedExecutor(latencyMillis, TimeUnit.MILLISECONDS)
+            ));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.asap.server.presentation.config.duplicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.TooManyRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.CompletableFutureWrapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+class DuplicatedInterceptorTest {
+    private static final String BODY = "{\"title\":\"body\"}";
+    private static final String LOCK_KEY = "ASAP_REDIS:LOCK:" + RequestDigest.of("0.0.0.1", BODY.getBytes(StandardCharsets.UTF_8));
+
+    private final Map<String, Object> store = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DuplicatedInterceptor duplicatedInterceptor;
+    // 같은 Redis 를 쓰는 다른 노드
+    private DuplicatedInterceptor otherNodeInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        duplicatedInterceptor = newInterceptor();
+        otherNodeInterceptor = newInterceptor();
+    }
+
+    @DisplayName("같은 ip 에서 같은 본문의 요청이 처리 중이면 같은 노드와 다른 노드 모두 429 를 반환한다.")
+    @Test
+    void test() throws Exception {
+        // given
+        duplicatedInterceptor.preHandle(request(BODY), new MockHttpServletResponse(), null);
+
+        // when, then
+        assertThatThrownBy(() -> duplicatedInterceptor.preHandle(request(BODY), new MockHttpServletResponse(), null))
+                .isInstanceOf(TooManyRequestException.class)
+                .extracting(e -> ((TooManyRequestException) e).getError())
+                .isEqualTo(Error.TOO_MANY_REQUEST_EXCEPTION);
+        assertThat(Error.TOO_MANY_REQUEST_EXCEPTION.getHttpStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThatThrownBy(() -> otherNodeInterceptor.preHandle(request(BODY), new MockHttpServletResponse(), null))
+                .isInstanceOf(TooManyRequestException.class);
+        assertThat(meterRegistry.get("asap.duplicate.collision").tag("layer", "local").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("asap.duplicate.collision").tag("layer", "redis").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("본문이 다른 요청은 처리 중인 요청이 있어도 통과한다.")
+    @Test
+    void test2() throws Exception {
+        // given
+        duplicatedInterceptor.preHandle(request(BODY), new MockHttpServletResponse(), null);
+
+        // when
+        boolean result = duplicatedInterceptor.preHandle(request("{\"title\":\"other\"}"), new MockHttpServletResponse(), null);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(store).hasSize(2);
+    }
+
+    @DisplayName("요청이 끝나면 락을 풀어 같은 본문의 다음 요청을 통과시킨다.")
+    @Test
+    void test3() throws Exception {
+        // given
+        HttpServletRequest request = request(BODY);
+        duplicatedInterceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        // when
+        duplicatedInterceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        // then
+        assertThat(store).isEmpty();
+        assertThat(duplicatedInterceptor.preHandle(request(BODY), new MockHttpServletResponse(), null)).isTrue();
+    }
+
+    @DisplayName("TTL 이 지나 다른 요청이 잡은 락은 먼저 끝난 요청이 지우지 않는다.")
+    @Test
+    void test4() throws Exception {
+        // given
+        HttpServletRequest request = request(BODY);
+        duplicatedInterceptor.preHandle(request, new MockHttpServletResponse(), null);
+        store.put(LOCK_KEY, "other-token");
+
+        // when
+        duplicatedInterceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        // then
+        assertThat(store).containsEntry(LOCK_KEY, "other-token");
+    }
+
+    @DisplayName("Wi-Fi 에서 셀룰러로 바뀌어 ip 가 달라진 재시도도 같은 Idempotency-Key 면 저장한 응답을 돌려준다.")
+    @Test
+    void test5() throws Exception {
+        // given
+        HttpServletRequest first = idempotentRequest("0.0.0.1");
+        ContentCachingResponseWrapper firstResponse = new ContentCachingResponseWrapper(new MockHttpServletResponse());
+        duplicatedInterceptor.preHandle(first, firstResponse, null);
+        firstResponse.setStatus(201);
+        firstResponse.setContentType("application/json");
+        firstResponse.getOutputStream().write("{\"code\":201}".getBytes(StandardCharsets.UTF_8));
+        duplicatedInterceptor.afterCompletion(first, firstResponse, null, null);
+
+        // when
+        MockHttpServletResponse retryResponse = new MockHttpServletResponse();
+        boolean proceed = otherNodeInterceptor.preHandle(idempotentRequest("0.0.0.2"), retryResponse, null);
+
+        // then
+        assertThat(proceed).isFalse();
+        assertThat(retryResponse.getStatus()).isEqualTo(201);
+        assertThat(retryResponse.getContentAsString()).isEqualTo("{\"code\":201}");
+        assertThat(retryResponse.getHeader(IdempotentResponseStore.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    private DuplicatedInterceptor newInterceptor() {
+        RedissonClient redissonClient = mock(RedissonClient.class, invocation -> {
+            if ("getBucket".equals(invocation.getMethod().getName())) {
+                return bucket(invocation.getArgument(0));
+            }
+            return RETURNS_DEFAULTS.answer(invocation);
+        });
+        DuplicateLockCircuitBreaker circuitBreaker = new DuplicateLockCircuitBreaker(meterRegistry, 1000, 5, 1000);
+        IdempotentResponseStore idempotentResponseStore =
+                new IdempotentResponseStore(redissonClient, circuitBreaker, new ObjectMapper(), meterRegistry, 60);
+        return new DuplicatedInterceptor(redissonClient, circuitBreaker, idempotentResponseStore, meterRegistry, 10000);
+    }
+
+    private RBucket<String> bucket(final String key) {
+        return mock(RBucket.class, invocation -> switch (invocation.getMethod().getName()) {
+            case "setIfAbsentAsync" -> new CompletableFutureWrapper<>(
+                    CompletableFuture.completedFuture(store.putIfAbsent(key, invocation.getArgument(0)) == null));
+            case "getAsync" -> new CompletableFutureWrapper<>(CompletableFuture.completedFuture(store.get(key)));
+            case "compareAndSetAsync" -> new CompletableFutureWrapper<>(
+                    CompletableFuture.completedFuture(store.remove(key, invocation.getArgument(0))));
+            default -> RETURNS_DEFAULTS.answer(invocation);
+        });
+    }
+
+    private HttpServletRequest idempotentRequest(final String userIp) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/meeting");
+        request.addHeader("x-real-ip", userIp);
+        request.addHeader(IdempotentResponseStore.IDEMPOTENCY_KEY_HEADER, "key");
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        return new CustomHttpServletRequestWrapper(request, 1024);
+    }
+
+    private HttpServletRequest request(final String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/meeting");
+        request.addHeader("x-real-ip", "0.0.0.1");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return new CustomHttpServletRequestWrapper(request, 1024);
+    }
+}
@@ -0,0 +1,133 @@
+package com.asap.server.presentation.config.duplicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.ConflictException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.CompletableFutureWrapper;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+class IdempotentResponseStoreTest {
+    private static final String KEY = "ASAP_REDIS:IDEMPOTENCY:key";
+
+    private final Map<String, Object> store = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private IdempotentResponseStore idempotentResponseStore;
+
+    @BeforeEach
+    void setUp() {
+        RedissonClient redissonClient = mock(RedissonClient.class, invocation -> {
+            if ("getBucket".equals(invocation.getMethod().getName())) {
+                return bucket(invocation.getArgument(0));
+            }
+            return RETURNS_DEFAULTS.answer(invocation);
+        });
+        idempotentResponseStore = new IdempotentResponseStore(
+                redissonClient,
+                new DuplicateLockCircuitBreaker(meterRegistry, 1000, 2, 1000),
+                new ObjectMapper(),
+                meterRegistry,
+                60
+        );
+    }
+
+    @Test
+    @DisplayName("UTF-8 이 아닌 응답 본문도 바이트와 Content-Type 을 그대로 재생한다.")
+    void test() throws Exception {
+        // given
+        byte[] cbor = {(byte) 0xa1, 0x64, 0x63, 0x6f, 0x64, 0x65, 0x19, 0x00, (byte) 0xc9, (byte) 0xff, (byte) 0xfe};
+        ContentCachingResponseWrapper original = new ContentCachingResponseWrapper(new MockHttpServletResponse());
+        original.setStatus(201);
+        original.setContentType("application/cbor");
+        original.getOutputStream().write(cbor);
+        idempotentResponseStore.save(KEY, "digest", original);
+
+        // when
+        MockHttpServletResponse replayed = new MockHttpServletResponse();
+        boolean result = idempotentResponseStore.replay(KEY, "digest", replayed);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(replayed.getStatus()).isEqualTo(201);
+        assertThat(replayed.getContentType()).isEqualTo("application/cbor");
+        assertThat(replayed.getContentAsByteArray()).isEqualTo(cbor);
+        assertThat(replayed.getHeader(IdempotentResponseStore.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("저장된 응답을 읽을 수 없으면 재생하지 않고 요청을 그대로 처리한다.")
+    void test2() throws Exception {
+        // given
+        store.put(KEY, "{\"status\":200,\"contentType\":\"application/json\",\"body\":\"{not base64}\"}");
+
+        // when
+        boolean result = idempotentResponseStore.replay(KEY, "digest", new MockHttpServletResponse());
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("키는 ip 와 상관없이 메서드, 경로, Idempotency-Key 로 정한다.")
+    void test3() {
+        // given
+        MockHttpServletRequest wifi = newRequest("0.0.0.1", "key");
+        MockHttpServletRequest cellular = newRequest("0.0.0.2", "key");
+        MockHttpServletRequest otherKey = newRequest("0.0.0.1", "other");
+
+        // when
+        String key = idempotentResponseStore.getKey(wifi);
+
+        // then
+        assertThat(idempotentResponseStore.getKey(cellular)).isEqualTo(key);
+        assertThat(idempotentResponseStore.getKey(otherKey)).isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 본문으로 다시 쓰면 저장한 응답을 돌려주지 않고 409 예외가 발생한다.")
+    void test4() throws Exception {
+        // given
+        ContentCachingResponseWrapper original = new ContentCachingResponseWrapper(new MockHttpServletResponse());
+        original.setStatus(201);
+        original.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        idempotentResponseStore.save(KEY, "digest", original);
+
+        // when, then
+        assertThatThrownBy(() -> idempotentResponseStore.replay(KEY, "other-digest", new MockHttpServletResponse()))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage(Error.IDEMPOTENCY_KEY_REUSED_EXCEPTION.getMessage());
+    }
+
+    private MockHttpServletRequest newRequest(final String userIp, final String idempotencyKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/meeting");
+        request.addHeader("x-real-ip", userIp);
+        request.addHeader(IdempotentResponseStore.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        return request;
+    }
+
+    private RBucket<String> bucket(final String key) {
+        return mock(RBucket.class, invocation -> switch (invocation.getMethod().getName()) {
+            case "getAsync" -> new CompletableFutureWrapper<>(CompletableFuture.completedFuture(store.get(key)));
+            case "setIfAbsentAsync" -> new CompletableFutureWrapper<>(
+                    CompletableFuture.completedFuture(store.putIfAbsent(key, invocation.getArgument(0)) == null));
+            default -> RETURNS_DEFAULTS.answer(invocation);
+        });
+    }
+}
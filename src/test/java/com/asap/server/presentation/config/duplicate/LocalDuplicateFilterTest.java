@@ -0,0 +1,101 @@
+package com.asap.server.presentation.config.duplicate;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalDuplicateFilterTest {
+    private static final Duration TTL = Duration.ofSeconds(10);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final LocalDuplicateFilter localDuplicateFilter = new LocalDuplicateFilter(TTL, clock::get);
+
+    @DisplayName("잡은 키는 TTL 동안 다시 잡을 수 없고, TTL 이 지나면 다시 잡을 수 있다.")
+    @Test
+    void test() {
+        // given
+        localDuplicateFilter.tryAcquire("key");
+
+        // when
+        clock.set(TTL.toNanos() - 1);
+        boolean beforeExpiry = localDuplicateFilter.tryAcquire("key");
+        clock.set(TTL.toNanos());
+        boolean afterExpiry = localDuplicateFilter.tryAcquire("key");
+
+        // then
+        assertThat(beforeExpiry).isFalse();
+        assertThat(afterExpiry).isTrue();
+    }
+
+    @DisplayName("만료된 키를 동시에 잡으려 하면 한 요청만 교체에 성공한다.")
+    @Test
+    void test2() throws Exception {
+        // given
+        localDuplicateFilter.tryAcquire("key");
+        clock.set(TTL.toNanos());
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return localDuplicateFilter.tryAcquire("key");
+            }));
+        }
+
+        // when
+        start.countDown();
+        int acquired = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(5, TimeUnit.SECONDS)) {
+                acquired++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(acquired).isEqualTo(1);
+    }
+
+    @DisplayName("release 하지 않은 키도 1024번째 요청에서 만료된 키를 정리한다.")
+    @Test
+    void test3() {
+        // given
+        for (int i = 0; i < 1023; i++) {
+            localDuplicateFilter.tryAcquire("key" + i);
+        }
+        clock.set(TTL.toNanos());
+        int sizeBeforeSweep = localDuplicateFilter.size();
+
+        // when
+        localDuplicateFilter.tryAcquire("new-key");
+
+        // then
+        assertThat(sizeBeforeSweep).isEqualTo(1023);
+        assertThat(localDuplicateFilter.size()).isEqualTo(1);
+    }
+
+    @DisplayName("release 한 키는 TTL 전에도 다시 잡을 수 있다.")
+    @Test
+    void test4() {
+        // given
+        localDuplicateFilter.tryAcquire("key");
+
+        // when
+        localDuplicateFilter.release("key");
+
+        // then
+        assertThat(localDuplicateFilter.tryAcquire("key")).isTrue();
+    }
+}
@@ -0,0 +1,41 @@
+package com.asap.server.presentation.config.duplicate;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestDigestTest {
+
+    @DisplayName("같은 ip 와 본문은 본문 크기와 상관없이 같은 43자 키를 만든다.")
+    @Test
+    void test() {
+        // given
+        byte[] body = "a".repeat(100_000).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String first = RequestDigest.of("0.0.0.1", body);
+        String second = RequestDigest.of("0.0.0.1", body.clone());
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(first.length()).isEqualTo(43);
+    }
+
+    @DisplayName("ip 나 본문이 다르면 다른 키를 만든다.")
+    @Test
+    void test2() {
+        // given
+        byte[] body = "{\"title\":\"body\"}".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String digest = RequestDigest.of("0.0.0.1", body);
+        String otherIp = RequestDigest.of("0.0.0.2", body);
+        String otherBody = RequestDigest.of("0.0.0.1", "{\"title\":\"other\"}".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(digest).isNotEqualTo(otherIp);
+        assertThat(digest).isNotEqualTo(otherBody);
+    }
+}
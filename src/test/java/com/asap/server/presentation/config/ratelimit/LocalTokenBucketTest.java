@@ -0,0 +1,44 @@
+package com.asap.server.presentation.config.ratelimit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalTokenBucketTest {
+    private static final long INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    @DisplayName("토큰을 모두 사용하면 다음 토큰이 채워질 때까지 남은 시간을 반환한다.")
+    @Test
+    void test() {
+        // given
+        LocalTokenBucket bucket = new LocalTokenBucket(2, INTERVAL_NANOS, 0);
+
+        // when
+        long first = bucket.tryConsume(0);
+        long second = bucket.tryConsume(0);
+        long third = bucket.tryConsume(TimeUnit.SECONDS.toNanos(10));
+
+        // then
+        assertThat(first).isEqualTo(0L);
+        assertThat(second).isEqualTo(0L);
+        assertThat(third).isEqualTo(TimeUnit.SECONDS.toNanos(20));
+    }
+
+    @DisplayName("시간이 지나면 용량을 넘지 않는 범위에서 토큰이 다시 채워진다.")
+    @Test
+    void test2() {
+        // given
+        LocalTokenBucket bucket = new LocalTokenBucket(2, INTERVAL_NANOS, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        // when
+        long afterRefill = bucket.tryConsume(TimeUnit.SECONDS.toNanos(30));
+
+        // then
+        assertThat(afterRefill).isEqualTo(0L);
+        assertThat(bucket.isFull(TimeUnit.SECONDS.toNanos(600))).isTrue();
+    }
+}
@@ -0,0 +1,134 @@
+package com.asap.server.presentation.config.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.asap.server.common.exception.model.RateLimitExceededException;
+import com.asap.server.presentation.config.duplicate.DuplicateLockCircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RateIntervalUnit;
+import org.redisson.api.RateLimiterConfig;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+import org.redisson.misc.CompletableFutureWrapper;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitInterceptorTest {
+    private static final String KEY = "ASAP_RATE_LIMIT:creation:0.0.0.1";
+
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RateLimitInterceptor rateLimitInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("asap.rate-limit.creation.permits", "2")
+                .withProperty("asap.rate-limit.creation.interval-seconds", "60");
+        rateLimitInterceptor = new RateLimitInterceptor(
+                redissonClient,
+                new DuplicateLockCircuitBreaker(meterRegistry, 50, 1, 60000),
+                meterRegistry,
+                environment,
+                true
+        );
+        when(redissonClient.getRateLimiter(KEY)).thenReturn(rateLimiter);
+    }
+
+    @Test
+    @DisplayName("Redis 가 응답하지 않으면 제한 시간 뒤 로컬 버킷의 결과로만 판단하고, 차단 상태에서는 Redis 를 호출하지 않는다.")
+    void test() {
+        // given
+        when(rateLimiter.trySetRateAsync(RateType.OVERALL, 2L, 60L, RateIntervalUnit.SECONDS))
+                .thenReturn(new CompletableFutureWrapper<>(new CompletableFuture<>()));
+
+        // when
+        boolean first = rateLimitInterceptor.preHandle(newRequest(), new MockHttpServletResponse(), null);
+        boolean second = rateLimitInterceptor.preHandle(newRequest(), new MockHttpServletResponse(), null);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(rateLimiter, never()).tryAcquireAsync();
+        assertThatThrownBy(() -> rateLimitInterceptor.preHandle(newRequest(), new MockHttpServletResponse(), null))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(meterRegistry.get("asap.rate-limit.rejected").tag("layer", "local").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장된 설정이 바뀐 한도와 다르면 새 한도로 덮어쓴다.")
+    void test2() {
+        // given
+        RateLimiterConfig stored = mock(RateLimiterConfig.class);
+        when(stored.getRateType()).thenReturn(RateType.OVERALL);
+        when(stored.getRate()).thenReturn(10L);
+        givenExistingConfig(stored);
+        when(rateLimiter.setRateAsync(RateType.OVERALL, 2L, 60L, RateIntervalUnit.SECONDS))
+                .thenReturn(new CompletableFutureWrapper<>((Void) null));
+        when(rateLimiter.expireAsync(Duration.ofSeconds(120))).thenReturn(new CompletableFutureWrapper<>(true));
+        when(rateLimiter.tryAcquireAsync()).thenReturn(new CompletableFutureWrapper<>(true));
+
+        // when
+        boolean result = rateLimitInterceptor.preHandle(newRequest(), new MockHttpServletResponse(), null);
+
+        // then
+        assertThat(result).isTrue();
+        verify(rateLimiter).setRateAsync(RateType.OVERALL, 2L, 60L, RateIntervalUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("저장된 설정이 같으면 덮어쓰지 않고, Redis 가 거절하면 요청을 거절한다.")
+    void test3() {
+        // given
+        RateLimiterConfig stored = mock(RateLimiterConfig.class);
+        when(stored.getRateType()).thenReturn(RateType.OVERALL);
+        when(stored.getRate()).thenReturn(2L);
+        when(stored.getRateInterval()).thenReturn(Duration.ofSeconds(60).toMillis());
+        givenExistingConfig(stored);
+        when(rateLimiter.expireAsync(Duration.ofSeconds(120))).thenReturn(new CompletableFutureWrapper<>(true));
+        when(rateLimiter.tryAcquireAsync()).thenReturn(new CompletableFutureWrapper<>(false));
+
+        // when, then
+        assertThatThrownBy(() -> rateLimitInterceptor.preHandle(newRequest(), new MockHttpServletResponse(), null))
+                .isInstanceOf(RateLimitExceededException.class);
+        verify(rateLimiter, never()).setRateAsync(any(), anyLong(), anyLong(), eq(RateIntervalUnit.SECONDS));
+        assertThat(meterRegistry.get("asap.rate-limit.rejected").tag("layer", "redis").counter().count()).isEqualTo(1);
+    }
+
+    private void givenExistingConfig(final RateLimiterConfig stored) {
+        when(rateLimiter.trySetRateAsync(RateType.OVERALL, 2L, 60L, RateIntervalUnit.SECONDS))
+                .thenReturn(new CompletableFutureWrapper<>(false));
+        when(rateLimiter.getConfigAsync()).thenReturn(new CompletableFutureWrapper<>(stored));
+    }
+
+    private MockHttpServletRequest newRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/meeting");
+        request.setRemoteAddr("0.0.0.1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/meeting");
+        return request;
+    }
+}
@@ -0,0 +1,129 @@
+package com.asap.server.presentation.controller.dto.response;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import com.asap.server.common.exception.Success;
+import com.asap.server.persistence.domain.enums.TimeSlot;
+import com.asap.server.presentation.common.dto.SuccessResponse;
+import com.asap.server.service.meeting.dto.BestMeetingTimeDto;
+import com.asap.server.service.meeting.dto.UserDto;
+import com.asap.server.service.time.vo.BestMeetingTimeWithUsers;
+import com.asap.server.service.time.vo.TimeBlockVo;
+import com.asap.server.service.time.vo.TimeTableVo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * 가상의 회의로 JSON 과 CBOR 의 응답 크기와 직렬화 시간을 비교한다.
+ * ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+class ResponseFormatBenchmarkTest {
+    private static final int WARM_UP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+    @ParameterizedTest(name = "참여자 {0}명, {1}일")
+    @CsvSource({"5, 3", "30, 14", "100, 30"})
+    @DisplayName("종합 일정 시간표는 CBOR 가 JSON 보다 작다.")
+    void timeTable(final int userCount, final int dayCount) throws Exception {
+        SuccessResponse<StreamingTimeTableResponseDto> response = SuccessResponse.success(
+                Success.FIND_TIME_TABLE_SUCCESS,
+                new StreamingTimeTableResponseDto(createTimeTable(userCount, dayCount))
+        );
+
+        Result json = measure(jsonMapper, response);
+        Result cbor = measure(cborMapper, response);
+        print("timetable", userCount, dayCount, json, cbor);
+
+        assertThat(cbor.bytes()).isLessThan(json.bytes());
+    }
+
+    @ParameterizedTest(name = "참여자 {0}명")
+    @CsvSource({"5", "30", "100"})
+    @DisplayName("최적의 회의 시간은 CBOR 가 JSON 보다 작다.")
+    void bestMeetingTime(final int userCount) throws Exception {
+        List<UserDto> users = new ArrayList<>();
+        for (long id = 1; id <= userCount; id++) {
+            users.add(new UserDto(id, "user" + id));
+        }
+        LocalDate date = LocalDate.of(2024, 7, 10);
+        List<BestMeetingTimeWithUsers> bestMeetingTimes = List.of(
+                new BestMeetingTimeWithUsers(date, TimeSlot.SLOT_12_00, TimeSlot.SLOT_14_00, 3, users),
+                new BestMeetingTimeWithUsers(date, TimeSlot.SLOT_15_00, TimeSlot.SLOT_17_00, 2, users),
+                new BestMeetingTimeWithUsers(date.plusDays(1), TimeSlot.SLOT_12_00, TimeSlot.SLOT_14_00, 1, users)
+        );
+        SuccessResponse<BestMeetingTimeResponseDto> response = SuccessResponse.success(
+                Success.BEST_MEETING_SUCCESS,
+                BestMeetingTimeResponseDto.of(BestMeetingTimeDto.of(userCount, bestMeetingTimes))
+        );
+
+        Result json = measure(jsonMapper, response);
+        Result cbor = measure(cborMapper, response);
+        print("details", userCount, 0, json, cbor);
+
+        assertThat(cbor.bytes()).isLessThan(json.bytes());
+    }
+
+    private TimeTableVo createTimeTable(final int userCount, final int dayCount) {
+        Random random = new Random(userCount * 31L + dayCount);
+        Map<Long, String> userNames = new LinkedHashMap<>();
+        Map<Long, Integer> userIndexes = new HashMap<>();
+        for (long id = 1; id <= userCount; id++) {
+            userIndexes.put(id, userNames.size());
+            userNames.put(id, "참여자" + id);
+        }
+
+        List<TimeBlockVo> timeBlocks = new ArrayList<>();
+        LocalDate startDate = LocalDate.of(2024, 7, 1);
+        for (int day = 0; day < dayCount; day++) {
+            for (TimeSlot timeSlot : TimeSlot.values()) {
+                List<Long> userIds = new ArrayList<>();
+                for (long id = 1; id <= userCount; id++) {
+                    if (random.nextInt(3) == 0) {
+                        userIds.add(id);
+                    }
+                }
+                if (!userIds.isEmpty()) {
+                    timeBlocks.add(new TimeBlockVo(startDate.plusDays(day), timeSlot, 0, userIds));
+                }
+            }
+        }
+        return new TimeTableVo(userNames, userIndexes, timeBlocks);
+    }
+
+    private Result measure(final ObjectMapper objectMapper, final Object value) throws Exception {
+        int bytes = 0;
+        for (int i = 0; i < WARM_UP; i++) {
+            bytes = objectMapper.writeValueAsBytes(value).length;
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            objectMapper.writeValueAsBytes(value);
+        }
+        return new Result(bytes, (System.nanoTime() - startedAt) / ITERATIONS);
+    }
+
+    private void print(final String name, final int userCount, final int dayCount, final Result json, final Result cbor) {
+        System.out.printf("%s users=%d days=%d | json %d bytes %d ns | cbor %d bytes %d ns (%.1f%% size)%n",
+                name, userCount, dayCount,
+                json.bytes(), json.nanos(), cbor.bytes(), cbor.nanos(),
+                cbor.bytes() * 100.0 / json.bytes());
+    }
+
+    private record Result(int bytes, long nanos) {
+    }
+}
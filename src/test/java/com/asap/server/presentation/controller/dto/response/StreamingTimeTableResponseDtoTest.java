@@ -0,0 +1,80 @@
+package com.asap.server.presentation.controller.dto.response;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import com.asap.server.common.utils.DateUtil;
+import com.asap.server.persistence.domain.enums.TimeSlot;
+import com.asap.server.service.time.vo.TimeBlockVo;
+import com.asap.server.service.time.vo.TimeTableVo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StreamingTimeTableResponseDtoTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("스트리밍으로 쓴 시간표는 TimeTableResponseDto 와 같은 JSON 이다.")
+    void sameAsTimeTableResponseDto() throws Exception {
+        // given
+        LocalDate date = LocalDate.of(2024, 7, 9);
+        LocalDate nextDate = LocalDate.of(2024, 7, 10);
+        Map<Long, String> userNames = new LinkedHashMap<>();
+        userNames.put(1L, "KWY");
+        userNames.put(2L, "DSH");
+        TimeTableVo timeTable = new TimeTableVo(
+                userNames,
+                Map.of(1L, 0, 2L, 1),
+                List.of(
+                        new TimeBlockVo(date, TimeSlot.SLOT_12_00, 0, List.of(1L, 2L)),
+                        new TimeBlockVo(date, TimeSlot.SLOT_12_30, 0, List.of(2L)),
+                        new TimeBlockVo(nextDate, TimeSlot.SLOT_18_00, 0, List.of(1L))
+                )
+        );
+
+        TimeTableResponseDto expected = new TimeTableResponseDto(
+                2,
+                List.of("KWY", "DSH"),
+                List.of(
+                        new AvailableDatesDto(
+                                DateUtil.getMonth(date),
+                                DateUtil.getDay(date),
+                                DateUtil.getDayOfWeek(date),
+                                List.of(
+                                        new TimeSlotDto("12:00", List.of("KWY", "DSH"), 5),
+                                        new TimeSlotDto("12:30", List.of("DSH"), 3)
+                                )
+                        ),
+                        new AvailableDatesDto(
+                                DateUtil.getMonth(nextDate),
+                                DateUtil.getDay(nextDate),
+                                DateUtil.getDayOfWeek(nextDate),
+                                List.of(new TimeSlotDto("18:00", List.of("KWY"), 3))
+                        )
+                )
+        );
+
+        // when
+        String result = objectMapper.writeValueAsString(new StreamingTimeTableResponseDto(timeTable));
+
+        // then
+        assertThat(objectMapper.readTree(result)).isEqualTo(objectMapper.valueToTree(expected));
+    }
+
+    @Test
+    @DisplayName("입력된 시간이 없으면 빈 날짜 목록을 쓴다.")
+    void emptyTimeBlocks() throws Exception {
+        // given
+        TimeTableVo timeTable = new TimeTableVo(Map.of(1L, "KWY"), Map.of(1L, 0), List.of());
+
+        // when
+        String result = objectMapper.writeValueAsString(new StreamingTimeTableResponseDto(timeTable));
+
+        // then
+        assertThat(result).isEqualTo("{\"memberCount\":1,\"totalUserNames\":[\"KWY\"],\"availableDateTimes\":[]}");
+    }
+}
@@ -7,6 +7,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.asap.server.common.jwt.JwtService;
+import com.asap.server.common.utils.DateUtil;
+import com.asap.server.persistence.domain.AvailableDate;
 import com.asap.server.persistence.domain.Meeting;
 import com.asap.server.persistence.domain.Place;
 import com.asap.server.persistence.domain.enums.Duration;
@@ -78,6 +80,7 @@ public class CreateUserTimeE2ETest {
                     .place(place)
                     .build();
             em.persist(meeting);
+            persistAvailableDates(meeting);
             String encodedMeetingId = secureUrlUtil.encodeUrl(meeting.getId());
 
             AvailableTimeRequestDto availableTimeRequestDto = new AvailableTimeRequestDto("KWY", availableTimes);
@@ -123,6 +126,7 @@ public class CreateUserTimeE2ETest {
                     .place(place)
                     .build();
             em.persist(meeting);
+            persistAvailableDates(meeting);
             String encodedMeetingId = secureUrlUtil.encodeUrl(meeting.getId());
 
             AvailableTimeRequestDto availableTimeRequestDto = new AvailableTimeRequestDto("KWY", availableTimes);
@@ -168,6 +172,7 @@ public class CreateUserTimeE2ETest {
                     .place(place)
                     .build();
             em.persist(meeting);
+            persistAvailableDates(meeting);
 
             User user = User.builder()
                     .name(new Name("KWY"))
@@ -222,6 +227,7 @@ public class CreateUserTimeE2ETest {
                     .place(place)
                     .build();
             em.persist(meeting);
+            persistAvailableDates(meeting);
 
             User user = User.builder()
                     .name(new Name("KWY"))
@@ -270,6 +276,7 @@ public class CreateUserTimeE2ETest {
                     .place(place)
                     .build();
             em.persist(meeting);
+            persistAvailableDates(meeting);
 
             User user = User.builder()
                     .name(new Name("KWY"))
@@ -318,6 +325,7 @@ public class CreateUserTimeE2ETest {
                     .place(place)
                     .build();
             em.persist(meeting);
+            persistAvailableDates(meeting);
 
             User user = User.builder()
                     .name(new Name("KWY"))
@@ -353,4 +361,9 @@ public class CreateUserTimeE2ETest {
                     .andExpect(jsonPath("$.message").value("이미 가능 시간 입력을 마쳤습니다."));
         }
     }
+
+    private void persistAvailableDates(final Meeting meeting) {
+        em.persist(AvailableDate.builder().meeting(meeting).date(DateUtil.transformLocalDate("7", "9")).build());
+        em.persist(AvailableDate.builder().meeting(meeting).date(DateUtil.transformLocalDate("7", "10")).build());
+    }
 }
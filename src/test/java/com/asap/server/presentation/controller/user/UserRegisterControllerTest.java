@@ -3,6 +3,8 @@ package com.asap.server.presentation.controller.user;
 import static com.asap.server.common.exception.Error.HOST_MEETING_TIME_NOT_PROVIDED;
 import static com.asap.server.common.exception.Error.INVALID_HOST_ID_PASSWORD_EXCEPTION;
 import static com.asap.server.common.exception.Error.MEETING_VALIDATION_FAILED_EXCEPTION;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -41,7 +43,7 @@ class UserRegisterControllerTest {
         String encodedMeetingId = "MQ==";
         HostLoginRequestDto bodyDto = new HostLoginRequestDto("KWY", "0000");
         String body = objectMapper.writeValueAsString(bodyDto);
-        when(userLoginService.loginByHost(1L, "KWY", "0000")).thenReturn("access token");
+        when(userLoginService.loginByHost(eq(1L), eq("KWY"), eq("0000"), any())).thenReturn("access token");
 
         mockMvc.perform(
                         post("/user/" + encodedMeetingId + "/host")
@@ -60,7 +62,7 @@ class UserRegisterControllerTest {
         String encodedMeetingId = "MQ==";
         HostLoginRequestDto bodyDto = new HostLoginRequestDto("USER1", "0000");
         String body = objectMapper.writeValueAsString(bodyDto);
-        when(userLoginService.loginByHost(1L, "USER1", "0000"))
+        when(userLoginService.loginByHost(eq(1L), eq("USER1"), eq("0000"), any()))
                 .thenThrow(new UnauthorizedException(INVALID_HOST_ID_PASSWORD_EXCEPTION));
 
         mockMvc.perform(
@@ -79,7 +81,7 @@ class UserRegisterControllerTest {
         String encodedMeetingId = "MQ==";
         HostLoginRequestDto bodyDto = new HostLoginRequestDto("KWY", "0000");
         String body = objectMapper.writeValueAsString(bodyDto);
-        when(userLoginService.loginByHost(1L, "KWY", "0000"))
+        when(userLoginService.loginByHost(eq(1L), eq("KWY"), eq("0000"), any()))
                 .thenThrow(new ConflictException(MEETING_VALIDATION_FAILED_EXCEPTION));
 
         mockMvc.perform(
@@ -98,7 +100,7 @@ class UserRegisterControllerTest {
         String encodedMeetingId = "MQ==";
         HostLoginRequestDto bodyDto = new HostLoginRequestDto("KWY", "0000");
         String body = objectMapper.writeValueAsString(bodyDto);
-        when(userLoginService.loginByHost(1L, "KWY", "0000"))
+        when(userLoginService.loginByHost(eq(1L), eq("KWY"), eq("0000"), any()))
                 .thenThrow(new HostTimeForbiddenException(HOST_MEETING_TIME_NOT_PROVIDED, "access token"));
 
         mockMvc.perform(
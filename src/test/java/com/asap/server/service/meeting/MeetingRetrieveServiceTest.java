@@ -1,39 +1,62 @@
 package com.asap.server.service.meeting;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.asap.server.common.metrics.RecommendationMetricsAspect;
 import com.asap.server.common.utils.DateUtil;
 import com.asap.server.persistence.domain.Meeting;
 import com.asap.server.persistence.domain.enums.Duration;
 import com.asap.server.persistence.domain.enums.TimeSlot;
+import com.asap.server.persistence.domain.time.MeetingSlotCount;
 import com.asap.server.persistence.domain.user.Name;
 import com.asap.server.persistence.domain.user.User;
 import com.asap.server.persistence.repository.meeting.MeetingRepository;
+import com.asap.server.presentation.controller.dto.response.AvailableDatesDto;
+import com.asap.server.presentation.controller.dto.response.CompactAvailableDatesDto;
+import com.asap.server.presentation.controller.dto.response.CompactTimeSlotDto;
+import com.asap.server.presentation.controller.dto.response.CompactTimeTableResponseDto;
+import com.asap.server.presentation.controller.dto.response.HeatmapAvailableDatesDto;
+import com.asap.server.presentation.controller.dto.response.HeatmapResponseDto;
+import com.asap.server.presentation.controller.dto.response.HeatmapTimeSlotDto;
+import com.asap.server.presentation.controller.dto.response.TimeSlotDto;
+import com.asap.server.presentation.controller.dto.response.TimeTableDeltaResponseDto;
 import com.asap.server.service.meeting.dto.BestMeetingTimeDto;
+import com.asap.server.service.meeting.dto.DashboardDto;
+import com.asap.server.service.meeting.dto.DashboardField;
 import com.asap.server.service.meeting.dto.UserDto;
+import com.asap.server.service.time.MeetingSlotCountService;
 import com.asap.server.service.time.MeetingTimeRecommendService;
+import com.asap.server.service.time.TimeTableChangeLogService;
 import com.asap.server.service.time.UserMeetingScheduleService;
-import com.asap.server.service.time.dto.retrieve.AvailableDatesRetrieveDto;
-import com.asap.server.service.time.dto.retrieve.TimeBlockRetrieveDto;
-import com.asap.server.service.time.dto.retrieve.TimeTableRetrieveDto;
 import com.asap.server.service.time.vo.TimeBlockVo;
+import com.asap.server.service.time.vo.TimeTableVo;
 import com.asap.server.service.user.UserRetrieveService;
 import com.asap.server.service.time.vo.BestMeetingTimeVo;
 import com.asap.server.service.time.vo.BestMeetingTimeWithUsers;
 
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +69,14 @@ class MeetingRetrieveServiceTest {
     private MeetingTimeRecommendService meetingTimeRecommendService;
     @Mock
     private UserMeetingScheduleService userMeetingScheduleService;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Mock
+    private MeetingSlotCountService meetingSlotCountService;
+    @Mock
+    private TimeTableChangeLogService timeTableChangeLogService;
+    @Spy
+    private ParallelLoader parallelLoader = new ParallelLoader(runnable -> runnable, new SimpleMeterRegistry(), false, 1, 1, 3000);
     @InjectMocks
     private MeetingRetrieveService meetingRetrieveService;
 
@@ -301,32 +332,255 @@ class MeetingRetrieveServiceTest {
             when(userMeetingScheduleService.getTimeBlocks(1L)).thenReturn(timeBlocks);
             when(userRetrieveService.getUserIdToUserMap(1L)).thenReturn(Map.of(1L, user, 2L, user2, 3L, user3, 4L, user4, 5L, user5));
 
+            // when
+            TimeTableVo result = meetingRetrieveService.getTimeTableVo(1L, 1L);
+
+            // then
+            assertThat(result.memberCount()).isEqualTo(5);
+            assertThat(result.totalUserNames()).isEqualTo(List.of("KWY", "DSH", "SJW", "SCW", "KTH"));
+            assertThat(result.timeBlocks().stream().map(result::getColorLevel).toList()).isEqualTo(List.of(5, 4, 3, 2, 1));
+            assertThat(meterRegistry.get(RecommendationMetricsAspect.STAGE_METRIC)
+                    .tag("stage", "time-table-mapping")
+                    .timer()
+                    .count()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("압축 형식은 참여자 이름을 한 번만 담고, 시간대마다 참여자 인덱스를 반환한다.")
+        void testCompactTimeTable() {
+            // given
+            Meeting meeting = Meeting.builder()
+                    .id(1L)
+                    .host(User.builder().id(1L).build())
+                    .duration(Duration.HALF)
+                    .build();
+            User user = User.builder()
+                    .id(1L)
+                    .name(new Name("KWY"))
+                    .build();
+            User user2 = User.builder()
+                    .id(2L)
+                    .name(new Name("DSH"))
+                    .build();
+            User user3 = User.builder()
+                    .id(3L)
+                    .name(new Name("SJW"))
+                    .build();
+            LocalDate date = LocalDate.of(2024, 7, 9);
+            LocalDate nextDate = LocalDate.of(2024, 7, 10);
+            List<TimeBlockVo> timeBlocks = List.of(
+                    new TimeBlockVo(date, TimeSlot.SLOT_12_00, 0, List.of(3L, 1L, 2L)),
+                    new TimeBlockVo(date, TimeSlot.SLOT_13_00, 0, List.of(2L)),
+                    new TimeBlockVo(nextDate, TimeSlot.SLOT_12_00, 0, List.of(1L, 3L))
+            );
+
+            when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
+            when(userMeetingScheduleService.getTimeBlocks(1L)).thenReturn(timeBlocks);
+            when(userRetrieveService.getUserIdToUserMap(1L)).thenReturn(Map.of(1L, user, 2L, user2, 3L, user3));
 
-            List<TimeBlockRetrieveDto> expectedTimeSlotDto = List.of(
-                    new TimeBlockRetrieveDto("12:00", List.of("KWY", "DSH", "SJW", "SCW", "KTH"), 5),
-                    new TimeBlockRetrieveDto("13:00", List.of("KWY", "DSH", "SJW", "SCW"), 4),
-                    new TimeBlockRetrieveDto("14:00", List.of("KWY", "DSH", "SJW"), 3),
-                    new TimeBlockRetrieveDto("15:00", List.of("KWY", "DSH"), 2),
-                    new TimeBlockRetrieveDto("16:00", List.of("KWY"), 1)
+            CompactTimeTableResponseDto expected = new CompactTimeTableResponseDto(
+                    3,
+                    List.of("KWY", "DSH", "SJW"),
+                    List.of(
+                            new CompactAvailableDatesDto(
+                                    DateUtil.getMonth(date),
+                                    DateUtil.getDay(date),
+                                    DateUtil.getDayOfWeek(date),
+                                    List.of(
+                                            new CompactTimeSlotDto("12:00", List.of(0, 1, 2), 5),
+                                            new CompactTimeSlotDto("13:00", List.of(1), 2)
+                                    )
+                            ),
+                            new CompactAvailableDatesDto(
+                                    DateUtil.getMonth(nextDate),
+                                    DateUtil.getDay(nextDate),
+                                    DateUtil.getDayOfWeek(nextDate),
+                                    List.of(new CompactTimeSlotDto("12:00", List.of(0, 2), 4))
+                            )
+                    )
+            );
+
+            // when
+            CompactTimeTableResponseDto result = meetingRetrieveService.getCompactTimeTable(1L, 1L);
+
+            // then
+            assertThat(result).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("대시보드는 시간 블록과 참여자를 한 번만 읽어 최적의 회의 시간과 시간표를 함께 반환한다.")
+        void testDashboard() {
+            // given
+            Meeting meeting = Meeting.builder()
+                    .id(1L)
+                    .host(User.builder().id(1L).build())
+                    .duration(Duration.HALF)
+                    .build();
+            User user = User.builder()
+                    .id(1L)
+                    .name(new Name("KWY"))
+                    .build();
+            User user2 = User.builder()
+                    .id(2L)
+                    .name(new Name("DSH"))
+                    .build();
+            LocalDate date = LocalDate.of(2024, 7, 9);
+            List<TimeBlockVo> timeBlocks = List.of(
+                    new TimeBlockVo(date, TimeSlot.SLOT_12_00, 0, List.of(1L, 2L))
+            );
+
+            when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
+            when(userMeetingScheduleService.getTimeBlocks(1L)).thenReturn(timeBlocks);
+            when(userRetrieveService.getUserIdToUserMap(1L)).thenReturn(Map.of(1L, user, 2L, user2));
+            when(meetingTimeRecommendService.getBestMeetingTime(timeBlocks, meeting.getDuration(), 2)).thenReturn(
+                    Arrays.asList(
+                            new BestMeetingTimeVo(date, TimeSlot.SLOT_12_00, TimeSlot.SLOT_12_30, 0, List.of(1L, 2L)),
+                            null,
+                            null
+                    )
             );
 
-            List<AvailableDatesRetrieveDto> expectedAvailableDto = List.of(
-                    new AvailableDatesRetrieveDto(
+            // when
+            DashboardDto result = meetingRetrieveService.getDashboard(1L, 1L, EnumSet.allOf(DashboardField.class));
+
+            // then
+            assertThat(result.bestMeetingTime().memberCount()).isEqualTo(2);
+            assertThat(result.timeTable().totalUserNames()).isEqualTo(List.of("KWY", "DSH"));
+            assertThat(result.timeTable().timeBlocks()).isEqualTo(timeBlocks);
+            verify(userMeetingScheduleService, times(1)).getTimeBlocks(1L);
+            verify(userRetrieveService, times(1)).getUserIdToUserMap(1L);
+            verify(userRetrieveService, never()).getMeetingUserCount(meeting);
+        }
+
+        @Test
+        @DisplayName("대시보드에서 시간표만 요청하면 최적의 회의 시간을 계산하지 않는다.")
+        void testDashboardFields() {
+            // given
+            Meeting meeting = Meeting.builder()
+                    .id(1L)
+                    .host(User.builder().id(1L).build())
+                    .duration(Duration.HALF)
+                    .build();
+            when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
+            when(userMeetingScheduleService.getTimeBlocks(1L)).thenReturn(List.of());
+            when(userRetrieveService.getUserIdToUserMap(1L)).thenReturn(Map.of());
+
+            // when
+            DashboardDto result = meetingRetrieveService.getDashboard(1L, 1L, DashboardField.from(List.of("timeTable")));
+
+            // then
+            assertThat(result.bestMeetingTime()).isNull();
+            assertThat(result.timeTable().memberCount()).isEqualTo(0);
+            verifyNoInteractions(meetingTimeRecommendService);
+        }
+    }
+
+    @Nested
+    @DisplayName("시간대별 참여 현황 테스트")
+    class HeatmapTest {
+        @Test
+        @DisplayName("시간대별 집계를 날짜별로 묶고 전체 참여자 수 대비 colorLevel 을 반환한다.")
+        void testHeatmap() {
+            // given
+            Meeting meeting = Meeting.builder()
+                    .id(1L)
+                    .host(User.builder().id(1L).build())
+                    .duration(Duration.HALF)
+                    .build();
+            LocalDate date = LocalDate.of(2024, 7, 9);
+            LocalDate nextDate = LocalDate.of(2024, 7, 10);
+            when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
+            when(userRetrieveService.getMeetingUserCount(meeting)).thenReturn(5);
+            when(meetingSlotCountService.getSlotCounts(1L)).thenReturn(List.of(
+                    MeetingSlotCount.builder().meetingId(1L).availableDate(date).timeSlot(TimeSlot.SLOT_12_00).userCount(5).weight(5).build(),
+                    MeetingSlotCount.builder().meetingId(1L).availableDate(date).timeSlot(TimeSlot.SLOT_12_30).userCount(2).weight(2).build(),
+                    MeetingSlotCount.builder().meetingId(1L).availableDate(nextDate).timeSlot(TimeSlot.SLOT_9_00).userCount(1).weight(1).build()
+            ));
+
+            HeatmapResponseDto expected = new HeatmapResponseDto(5, List.of(
+                    new HeatmapAvailableDatesDto(
                             DateUtil.getMonth(date),
                             DateUtil.getDay(date),
                             DateUtil.getDayOfWeek(date),
-                            expectedTimeSlotDto
+                            List.of(new HeatmapTimeSlotDto("12:00", 5, 5), new HeatmapTimeSlotDto("12:30", 2, 2))
+                    ),
+                    new HeatmapAvailableDatesDto(
+                            DateUtil.getMonth(nextDate),
+                            DateUtil.getDay(nextDate),
+                            DateUtil.getDayOfWeek(nextDate),
+                            List.of(new HeatmapTimeSlotDto("09:00", 1, 1))
                     )
-            );
-            TimeTableRetrieveDto expected = TimeTableRetrieveDto.of(
-                    List.of("KWY", "DSH", "SJW", "SCW", "KTH"),
-                    expectedAvailableDto
-            );
+            ));
 
-            TimeTableRetrieveDto result = meetingRetrieveService.getTimeTable(1L, 1L);
+            // when
+            HeatmapResponseDto result = meetingRetrieveService.getHeatmap(1L);
 
+            // then
             assertThat(result).isEqualTo(expected);
+            verifyNoInteractions(userMeetingScheduleService);
         }
+    }
 
+    @Nested
+    @DisplayName("시간표 변경분 조회 테스트")
+    class TimeTableDeltaTest {
+        private final Meeting meeting = Meeting.builder()
+                .id(1L)
+                .host(User.builder().id(1L).build())
+                .duration(Duration.HALF)
+                .build();
+
+        @Test
+        @DisplayName("요청한 버전이 최신 버전이면 참여자와 시간대를 읽지 않는다.")
+        void testUnchanged() {
+            // given
+            when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
+            when(timeTableChangeLogService.getLatestVersion(1L)).thenReturn(3L);
+
+            // when
+            TimeTableDeltaResponseDto result = meetingRetrieveService.getTimeTableChanges(1L, 1L, 3L);
+
+            // then
+            assertThat(result).isEqualTo(TimeTableDeltaResponseDto.unchanged(3L));
+            verifyNoInteractions(userRetrieveService, userMeetingScheduleService, meetingSlotCountService);
+        }
+
+        @Test
+        @DisplayName("요청한 버전 이후 바뀐 시간대만 참여자 이름과 함께 반환하고, 모두 빠진 시간대는 빈 목록으로 반환한다.")
+        void testChanged() {
+            // given
+            User host = User.builder().id(1L).name(new Name("KWY")).build();
+            User member = User.builder().id(2L).name(new Name("DSH")).build();
+            LocalDate date = LocalDate.of(2024, 7, 9);
+            when(meetingRepository.findById(1L)).thenReturn(Optional.of(meeting));
+            when(timeTableChangeLogService.getLatestVersion(1L)).thenReturn(5L);
+            when(timeTableChangeLogService.getMemberCount(1L, 3L)).thenReturn(OptionalInt.of(2));
+            when(userRetrieveService.getUserIdToUserMap(1L)).thenReturn(Map.of(1L, host, 2L, member));
+            when(meetingSlotCountService.getChangedSlotCounts(1L, 3L, 2, 2)).thenReturn(List.of(
+                    MeetingSlotCount.builder().meetingId(1L).availableDate(date).timeSlot(TimeSlot.SLOT_12_00).userCount(2).version(4).build(),
+                    MeetingSlotCount.builder().meetingId(1L).availableDate(date).timeSlot(TimeSlot.SLOT_12_30).userCount(0).version(5).build()
+            ));
+            when(userMeetingScheduleService.getTimeBlocks(1L, Set.of(date))).thenReturn(List.of(
+                    new TimeBlockVo(date, TimeSlot.SLOT_12_00, 2, List.of(1L, 2L))
+            ));
+
+            TimeTableDeltaResponseDto expected = new TimeTableDeltaResponseDto(5L, 2, List.of("KWY", "DSH"), List.of(
+                    new AvailableDatesDto(
+                            DateUtil.getMonth(date),
+                            DateUtil.getDay(date),
+                            DateUtil.getDayOfWeek(date),
+                            List.of(
+                                    new TimeSlotDto("12:00", List.of("KWY", "DSH"), 5),
+                                    new TimeSlotDto("12:30", List.of(), 0)
+                            )
+                    )
+            ));
+
+            // when
+            TimeTableDeltaResponseDto result = meetingRetrieveService.getTimeTableChanges(1L, 1L, 3L);
+
+            // then
+            assertThat(result).isEqualTo(expected);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package com.asap.server.service.meeting;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.NotFoundException;
+import com.asap.server.common.exception.model.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ParallelLoaderTest {
+    private ParallelLoader parallelLoader;
+
+    @AfterEach
+    void tearDown() {
+        if (parallelLoader != null) {
+            parallelLoader.destroy();
+        }
+    }
+
+    @DisplayName("독립된 조회를 동시에 실행하고 결과를 모은다.")
+    @Test
+    void test() {
+        // given
+        parallelLoader = new ParallelLoader(runnable -> runnable, new SimpleMeterRegistry(), true, 2, 2, 3000);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ParallelLoader.Batch batch = parallelLoader.batch();
+
+        // when
+        Future<String> first = batch.fork(() -> awaitOther(bothStarted, "first"));
+        Future<String> second = batch.fork(() -> awaitOther(bothStarted, "second"));
+
+        // then
+        assertThat(batch.join(first)).isEqualTo("first");
+        assertThat(batch.join(second)).isEqualTo("second");
+    }
+
+    @DisplayName("마감 시각까지 결과를 받지 못하면 ServiceUnavailableException 을 반환한다.")
+    @Test
+    void test2() {
+        // given
+        parallelLoader = new ParallelLoader(runnable -> runnable, new SimpleMeterRegistry(), true, 1, 1, 50);
+        CountDownLatch release = new CountDownLatch(1);
+        ParallelLoader.Batch batch = parallelLoader.batch();
+
+        // when
+        Future<Boolean> future = batch.fork(() -> release.await(3, TimeUnit.SECONDS));
+
+        // then
+        assertThatThrownBy(() -> batch.join(future))
+                .isInstanceOf(ServiceUnavailableException.class);
+        release.countDown();
+    }
+
+    @DisplayName("작업에서 발생한 예외를 그대로 다시 던진다.")
+    @Test
+    void test3() {
+        // given
+        parallelLoader = new ParallelLoader(runnable -> runnable, new SimpleMeterRegistry(), true, 1, 1, 3000);
+        ParallelLoader.Batch batch = parallelLoader.batch();
+
+        // when
+        Future<Object> future = batch.fork(() -> {
+            throw new NotFoundException(Error.MEETING_NOT_FOUND_EXCEPTION);
+        });
+
+        // then
+        assertThatThrownBy(() -> batch.join(future))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @DisplayName("마감 시각을 넘기면 아직 끝나지 않은 다른 조회도 모두 취소한다.")
+    @Test
+    void test4() {
+        // given
+        parallelLoader = new ParallelLoader(runnable -> runnable, new SimpleMeterRegistry(), true, 2, 2, 50);
+        CountDownLatch release = new CountDownLatch(1);
+        ParallelLoader.Batch batch = parallelLoader.batch();
+        Future<Boolean> first = batch.fork(() -> release.await(3, TimeUnit.SECONDS));
+        Future<Boolean> second = batch.fork(() -> release.await(3, TimeUnit.SECONDS));
+
+        // when, then
+        assertThatThrownBy(() -> batch.join(first))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(first.isCancelled()).isTrue();
+        assertThat(second.isCancelled()).isTrue();
+        release.countDown();
+    }
+
+    private String awaitOther(final CountDownLatch bothStarted, final String result) throws InterruptedException {
+        bothStarted.countDown();
+        if (!bothStarted.await(1, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("not parallel");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,131 @@
+package com.asap.server.service.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.asap.server.persistence.domain.enums.OutboxEventType;
+import com.asap.server.persistence.domain.outbox.OutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+    private static final Duration BACKOFF = Duration.ofSeconds(5);
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private OutboxService outboxService;
+    private OutboxDispatcher outboxDispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (outboxDispatcher != null && outboxDispatcher.isRunning()) {
+            outboxDispatcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("보낸 이벤트와 실패한 이벤트를 나누어 완료 처리한다.")
+    void test() {
+        // given
+        OutboxEvent published = newEvent(1L);
+        OutboxEvent failed = newEvent(2L);
+        when(outboxService.claim(anyInt(), any())).thenReturn(List.of(published, failed)).thenReturn(List.of());
+        outboxDispatcher = newDispatcher(payload -> {
+            if (payload.equals("2")) {
+                throw new IOException("webhook failed");
+            }
+        });
+
+        // when
+        outboxDispatcher.start();
+
+        // then
+        verify(outboxService, timeout(1000)).complete(List.of(1L), List.of(2L), BACKOFF, MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("보내는 중인 이벤트가 있어도 선점 기간을 기다리지 않고 중단하며, 끊긴 전송은 실패로 세지 않는다.")
+    void test2() throws Exception {
+        // given
+        CountDownLatch sending = new CountDownLatch(1);
+        when(outboxService.claim(anyInt(), any())).thenReturn(List.of(newEvent(1L))).thenReturn(List.of());
+        outboxDispatcher = newDispatcher(payload -> {
+            sending.countDown();
+            try {
+                Thread.sleep(Duration.ofMinutes(1).toMillis());
+            } catch (InterruptedException e) {
+                throw new IOException("interrupted");
+            }
+        });
+        outboxDispatcher.start();
+        assertThat(sending.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        long startedAt = System.nanoTime();
+        outboxDispatcher.stop();
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(5));
+        verify(outboxService, never()).complete(any(), eq(List.of(1L)), any(), anyInt());
+    }
+
+    private OutboxEvent newEvent(final long id) {
+        OutboxEvent event = OutboxEvent.builder()
+                .type(OutboxEventType.METRICS)
+                .payload(String.valueOf(id))
+                .availableAt(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    @FunctionalInterface
+    private interface PayloadHandler {
+        void handle(String payload) throws IOException;
+    }
+
+    private OutboxDispatcher newDispatcher(final PayloadHandler handler) {
+        OutboxEventHandler outboxEventHandler = new OutboxEventHandler() {
+            @Override
+            public OutboxEventType getType() {
+                return OutboxEventType.METRICS;
+            }
+
+            @Override
+            public void handle(final String payload) throws IOException {
+                handler.handle(payload);
+            }
+        };
+        return new OutboxDispatcher(
+                outboxService,
+                List.of(outboxEventHandler),
+                new SimpleMeterRegistry(),
+                10,
+                2,
+                50,
+                60,
+                BACKOFF.getSeconds(),
+                72,
+                MAX_ATTEMPTS
+        );
+    }
+}
@@ -0,0 +1,107 @@
+package com.asap.server.service.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.asap.server.persistence.domain.enums.OutboxEventType;
+import com.asap.server.persistence.domain.outbox.OutboxEvent;
+import com.asap.server.persistence.repository.outbox.OutboxEventRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+    private static final Duration BACKOFF = Duration.ofSeconds(5);
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @InjectMocks
+    private OutboxService outboxService;
+
+    @Test
+    @DisplayName("가져간 이벤트는 선점 기간 동안 다른 노드가 가져가지 못하도록 availableAt 을 미룬다.")
+    void test() {
+        // given
+        OutboxEvent event = newEvent(1L, 0);
+        when(outboxEventRepository.findPublishable(any(), any())).thenReturn(List.of(event));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        List<OutboxEvent> claimed = outboxService.claim(10, Duration.ofSeconds(60));
+
+        // then
+        assertThat(claimed).containsExactly(event);
+        assertThat(event.getAvailableAt()).isAfterOrEqualTo(before.plusSeconds(60));
+    }
+
+    @Test
+    @DisplayName("보낸 이벤트는 publishedAt 을 남긴다.")
+    void test2() {
+        // given
+        OutboxEvent event = newEvent(1L, 0);
+        when(outboxEventRepository.findAllByIdIn(List.of(1L))).thenReturn(List.of(event));
+
+        // when
+        int dead = outboxService.complete(List.of(1L), List.of(), BACKOFF, 3);
+
+        // then
+        assertThat(dead).isZero();
+        assertThat(event.getPublishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("실패한 이벤트는 재시도 횟수만큼 대기 시간을 두 배씩 늘린다.")
+    void test3() {
+        // given
+        OutboxEvent event = newEvent(1L, 2);
+        when(outboxEventRepository.findAllByIdIn(List.of(1L))).thenReturn(List.of(event));
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        int dead = outboxService.complete(List.of(), List.of(1L), BACKOFF, 5);
+
+        // then
+        assertThat(dead).isZero();
+        assertThat(event.getAttempts()).isEqualTo(3);
+        assertThat(event.getFailedAt()).isNull();
+        assertThat(event.getAvailableAt()).isAfterOrEqualTo(before.plusSeconds(20));
+        assertThat(event.getAvailableAt()).isBefore(before.plusSeconds(40));
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 다 쓴 이벤트는 실패로 확정하고 더 보내지 않는다.")
+    void test4() {
+        // given
+        OutboxEvent event = newEvent(1L, 2);
+        when(outboxEventRepository.findAllByIdIn(List.of(1L))).thenReturn(List.of(event));
+
+        // when
+        int dead = outboxService.complete(List.of(), List.of(1L), BACKOFF, 3);
+
+        // then
+        assertThat(dead).isEqualTo(1);
+        assertThat(event.getAttempts()).isEqualTo(3);
+        assertThat(event.getFailedAt()).isNotNull();
+        assertThat(event.getPublishedAt()).isNull();
+    }
+
+    private OutboxEvent newEvent(final long id, final int attempts) {
+        OutboxEvent event = OutboxEvent.builder()
+                .type(OutboxEventType.METRICS)
+                .payload("{}")
+                .availableAt(LocalDateTime.now())
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        ReflectionTestUtils.setField(event, "attempts", attempts);
+        return event;
+    }
+}
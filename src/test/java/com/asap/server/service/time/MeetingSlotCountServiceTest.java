@@ -0,0 +1,191 @@
+package com.asap.server.service.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.asap.server.persistence.domain.enums.TimeSlot;
+import com.asap.server.persistence.domain.time.MeetingSlotCount;
+import com.asap.server.persistence.domain.time.UserMeetingSchedule;
+import com.asap.server.persistence.repository.UserMeetingScheduleRepository;
+import com.asap.server.persistence.repository.time.MeetingSlotCountRepository;
+import com.asap.server.persistence.repository.time.SlotCountDelta;
+import com.asap.server.service.time.vo.ScheduleIntervalVo;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class MeetingSlotCountServiceTest {
+    @Mock
+    private MeetingSlotCountRepository meetingSlotCountRepository;
+    @Mock
+    private UserMeetingScheduleRepository userMeetingScheduleRepository;
+    @Mock
+    private TimeTableChangeLogService timeTableChangeLogService;
+    @Mock
+    private ApplicationEventPublisher publisher;
+    @InjectMocks
+    private MeetingSlotCountService meetingSlotCountService;
+    @Captor
+    private ArgumentCaptor<Collection<SlotCountDelta>> deltasCaptor;
+
+    @Test
+    @DisplayName("input 추가 [7/9 12:00 - 13:00, 가중치: 2], [7/10 09:00 - 09:30, 가중치: 1], 시간대마다 참여자 1명과 가중치를 더한다.")
+    void test() {
+        // given
+        LocalDate date = LocalDate.of(2025, 7, 9);
+        LocalDate nextDate = LocalDate.of(2025, 7, 10);
+        List<ScheduleIntervalVo> added = List.of(
+                new ScheduleIntervalVo(date, TimeSlot.SLOT_12_00, TimeSlot.SLOT_13_00, 2),
+                new ScheduleIntervalVo(nextDate, TimeSlot.SLOT_9_00, TimeSlot.SLOT_9_30, 1)
+        );
+
+        when(timeTableChangeLogService.next(1L)).thenReturn(3L);
+
+        // when
+        meetingSlotCountService.apply(1L, List.of(), added);
+
+        // then
+        verify(meetingSlotCountRepository).applyDeltas(eq(1L), eq(3L), deltasCaptor.capture());
+        assertThat(deltasCaptor.getValue()).containsExactlyInAnyOrder(
+                new SlotCountDelta(date, TimeSlot.SLOT_12_00, 1, 2),
+                new SlotCountDelta(date, TimeSlot.SLOT_12_30, 1, 2),
+                new SlotCountDelta(nextDate, TimeSlot.SLOT_9_00, 1, 1)
+        );
+    }
+
+    @Test
+    @DisplayName("input 삭제 [7/9 12:00 - 13:00], 추가 [7/9 12:30 - 13:30], 겹치는 12:30 은 쓰지 않는다.")
+    void test2() {
+        // given
+        LocalDate date = LocalDate.of(2025, 7, 9);
+        List<ScheduleIntervalVo> removed = List.of(new ScheduleIntervalVo(date, TimeSlot.SLOT_12_00, TimeSlot.SLOT_13_00, 1));
+        List<ScheduleIntervalVo> added = List.of(new ScheduleIntervalVo(date, TimeSlot.SLOT_12_30, TimeSlot.SLOT_13_30, 1));
+
+        when(timeTableChangeLogService.next(1L)).thenReturn(3L);
+
+        // when
+        meetingSlotCountService.apply(1L, removed, added);
+
+        // then
+        verify(meetingSlotCountRepository).applyDeltas(eq(1L), eq(3L), deltasCaptor.capture());
+        assertThat(deltasCaptor.getValue()).containsExactlyInAnyOrder(
+                new SlotCountDelta(date, TimeSlot.SLOT_12_00, -1, -1),
+                new SlotCountDelta(date, TimeSlot.SLOT_13_00, 1, 1)
+        );
+        verify(publisher).publishEvent(any(TimeTableChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("input 삭제와 추가가 같은 [7/9 12:00 - 13:00], 집계를 쓰지 않고 변경 이벤트도 발행하지 않는다.")
+    void test3() {
+        // given
+        LocalDate date = LocalDate.of(2025, 7, 9);
+        List<ScheduleIntervalVo> intervals = List.of(new ScheduleIntervalVo(date, TimeSlot.SLOT_12_00, TimeSlot.SLOT_13_00, 1));
+
+        // when
+        meetingSlotCountService.apply(1L, intervals, intervals);
+
+        // then
+        verifyNoInteractions(meetingSlotCountRepository, timeTableChangeLogService, publisher);
+    }
+
+    @Test
+    @DisplayName("input 삭제 [7/9 12:00 - 13:00, 가중치: 1], 추가 [7/9 12:00 - 13:00, 가중치: 2], 인원이 그대로이므로 버전을 올리지 않는다.")
+    void test4() {
+        // given
+        LocalDate date = LocalDate.of(2025, 7, 9);
+        List<ScheduleIntervalVo> removed = List.of(new ScheduleIntervalVo(date, TimeSlot.SLOT_12_00, TimeSlot.SLOT_13_00, 1));
+        List<ScheduleIntervalVo> added = List.of(new ScheduleIntervalVo(date, TimeSlot.SLOT_12_00, TimeSlot.SLOT_13_00, 2));
+
+        // when
+        meetingSlotCountService.apply(1L, removed, added);
+
+        // then
+        verify(meetingSlotCountRepository).applyDeltas(eq(1L), eq(0L), deltasCaptor.capture());
+        assertThat(deltasCaptor.getValue()).containsExactlyInAnyOrder(
+                new SlotCountDelta(date, TimeSlot.SLOT_12_00, 0, 1),
+                new SlotCountDelta(date, TimeSlot.SLOT_12_30, 0, 1)
+        );
+        verifyNoInteractions(timeTableChangeLogService);
+    }
+
+    @Test
+    @DisplayName("참여자 수가 9명에서 10명으로 바뀌면 버전 이후 바뀐 시간대와 colorLevel 이 달라진 시간대만 돌려준다.")
+    void test5() {
+        // given
+        LocalDate date = LocalDate.of(2025, 7, 9);
+        MeetingSlotCount changed = MeetingSlotCount.builder().meetingId(1L).availableDate(date).timeSlot(TimeSlot.SLOT_13_00).userCount(1).version(4).build();
+        // 2/9 -> 2, 2/10 -> 1
+        MeetingSlotCount colorChanged = MeetingSlotCount.builder().meetingId(1L).availableDate(date).timeSlot(TimeSlot.SLOT_12_00).userCount(2).version(1).build();
+        // 1/9 -> 1, 1/10 -> 1
+        MeetingSlotCount colorUnchanged = MeetingSlotCount.builder().meetingId(1L).availableDate(date).timeSlot(TimeSlot.SLOT_12_30).userCount(1).version(2).build();
+        MeetingSlotCount empty = MeetingSlotCount.builder().meetingId(1L).availableDate(date).timeSlot(TimeSlot.SLOT_14_00).userCount(0).version(2).build();
+        when(meetingSlotCountRepository.findAllByMeetingId(1L)).thenReturn(List.of(empty, changed, colorUnchanged, colorChanged));
+
+        // when
+        List<MeetingSlotCount> result = meetingSlotCountService.getChangedSlotCounts(1L, 3L, 9, 10);
+
+        // then
+        assertThat(result).containsExactly(colorChanged, changed);
+    }
+
+    @Test
+    @DisplayName("일정 [7/9 12:00 - 13:00, 가중치: 2], [7/9 12:30 - 13:30, 가중치: 1] 로 다시 만들면 기존 집계를 지우고 새 버전으로 합계를 쓴다.")
+    void test6() {
+        // given
+        LocalDate date = LocalDate.of(2025, 7, 9);
+        when(userMeetingScheduleRepository.findAllByMeetingId(1L)).thenReturn(List.of(
+                schedule(1L, date, TimeSlot.SLOT_12_00, TimeSlot.SLOT_13_00, 2),
+                schedule(2L, date, TimeSlot.SLOT_12_30, TimeSlot.SLOT_13_30, 1)
+        ));
+        when(timeTableChangeLogService.next(1L)).thenReturn(5L);
+
+        // when
+        int rebuilt = meetingSlotCountService.rebuild(1L);
+
+        // then
+        InOrder inOrder = inOrder(timeTableChangeLogService, meetingSlotCountRepository);
+        inOrder.verify(timeTableChangeLogService).lockMeeting(1L);
+        inOrder.verify(meetingSlotCountRepository).deleteAllByMeetingId(1L);
+        inOrder.verify(meetingSlotCountRepository).applyDeltas(eq(1L), eq(5L), deltasCaptor.capture());
+        assertThat(rebuilt).isEqualTo(3);
+        assertThat(deltasCaptor.getValue()).containsExactlyInAnyOrder(
+                new SlotCountDelta(date, TimeSlot.SLOT_12_00, 1, 2),
+                new SlotCountDelta(date, TimeSlot.SLOT_12_30, 2, 3),
+                new SlotCountDelta(date, TimeSlot.SLOT_13_00, 1, 1)
+        );
+    }
+
+    private UserMeetingSchedule schedule(
+            final long userId,
+            final LocalDate date,
+            final TimeSlot startTimeSlot,
+            final TimeSlot endTimeSlot,
+            final int weight
+    ) {
+        return UserMeetingSchedule.builder()
+                .userId(userId)
+                .meetingId(1L)
+                .availableDate(date)
+                .startTimeSlot(startTimeSlot)
+                .endTimeSlot(endTimeSlot)
+                .weight(weight)
+                .build();
+    }
+}
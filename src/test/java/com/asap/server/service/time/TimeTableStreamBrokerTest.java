@@ -0,0 +1,138 @@
+package com.asap.server.service.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.ServiceUnavailableException;
+import com.asap.server.infra.redis.TimeTableChangeTopic;
+import com.asap.server.persistence.domain.enums.TimeSlot;
+import com.asap.server.persistence.repository.time.SlotCountDelta;
+import com.asap.server.service.time.dto.stream.TimeTableChangeDto;
+import com.asap.server.service.time.dto.stream.TimeTableSlotChangeDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TimeTableStreamBrokerTest {
+    @Mock
+    private TimeTableChangeTopic timeTableChangeTopic;
+    @Captor
+    private ArgumentCaptor<TimeTableChangeDto> changeCaptor;
+    @Captor
+    private ArgumentCaptor<Consumer<TimeTableChangeDto>> listenerCaptor;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile String fanoutThreadName;
+    private TimeTableStreamBroker timeTableStreamBroker;
+
+    @BeforeEach
+    void setUp() {
+        timeTableStreamBroker = new TimeTableStreamBroker(
+                timeTableChangeTopic,
+                new BlockingObjectMapper(),
+                meterRegistry,
+                1,
+                60000,
+                30000,
+                1,
+                1
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (timeTableStreamBroker.isRunning()) {
+            timeTableStreamBroker.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("노드의 연결 수 상한을 넘으면 503 예외가 발생한다.")
+    void test() {
+        // given
+        timeTableStreamBroker.connect(1L);
+
+        // when, then
+        assertThatThrownBy(() -> timeTableStreamBroker.connect(2L))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessage(Error.TIMETABLE_STREAM_LIMIT_EXCEPTION.getMessage());
+    }
+
+    @Test
+    @DisplayName("인원이 바뀐 시간대만 발행하고 가중치만 바뀐 시간대는 제외한다.")
+    void test2() {
+        // given
+        LocalDate date = LocalDate.of(2025, 7, 9);
+        TimeTableChangedEvent event = new TimeTableChangedEvent(1L, 3L, List.of(
+                new SlotCountDelta(date, TimeSlot.SLOT_12_00, 1, 2),
+                new SlotCountDelta(date, TimeSlot.SLOT_12_30, 0, 1)
+        ));
+
+        // when
+        timeTableStreamBroker.publish(event);
+
+        // then
+        verify(timeTableChangeTopic).publish(changeCaptor.capture());
+        assertThat(changeCaptor.getValue().meetingId()).isEqualTo(1L);
+        assertThat(changeCaptor.getValue().version()).isEqualTo(3L);
+        assertThat(changeCaptor.getValue().slots())
+                .containsExactly(new TimeTableSlotChangeDto("7", "9", "12:00", 1));
+    }
+
+    @Test
+    @DisplayName("변경분 전송은 리스너 스레드가 아닌 fan-out 풀에서 하고, 대기열이 가득 차면 버린다.")
+    void test3() throws Exception {
+        // given
+        timeTableStreamBroker.start();
+        verify(timeTableChangeTopic).subscribe(listenerCaptor.capture());
+        Consumer<TimeTableChangeDto> listener = listenerCaptor.getValue();
+        timeTableStreamBroker.connect(1L);
+        TimeTableChangeDto change = new TimeTableChangeDto(1L, 1L, System.currentTimeMillis(), List.of());
+
+        // when
+        listener.accept(change);
+        assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+        listener.accept(change);
+        listener.accept(change);
+
+        // then
+        assertThat(fanoutThreadName).startsWith("timetable-stream-fanout-");
+        assertThat(meterRegistry.get("asap.timetable.stream.dropped").counter().count()).isEqualTo(1);
+    }
+
+    // 변경분 직렬화는 fan-out 에서만 일어나므로, 여기서 실행 스레드를 기록하고 release 전까지 멈춘다.
+    private class BlockingObjectMapper extends ObjectMapper {
+        @Override
+        public String writeValueAsString(final Object value) throws JsonProcessingException {
+            if (value instanceof TimeTableChangeDto) {
+                fanoutThreadName = Thread.currentThread().getName();
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.writeValueAsString(value);
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package com.asap.server.service.time;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.asap.server.common.utils.DateUtil;
 import com.asap.server.persistence.domain.enums.TimeSlot;
 import com.asap.server.persistence.domain.time.UserMeetingSchedule;
 import com.asap.server.persistence.repository.UserMeetingScheduleRepository;
+import com.asap.server.persistence.repository.user.UserRepository;
+import com.asap.server.service.time.dto.register.UserMeetingScheduleRegisterDto;
+import com.asap.server.service.time.vo.ScheduleIntervalVo;
 import com.asap.server.service.time.vo.TimeBlockVo;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -16,11 +24,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class UserMeetingScheduleServiceTest {
     @Mock
     private UserMeetingScheduleRepository userMeetingScheduleRepository;
+    @Mock
+    private MeetingSlotCountService meetingSlotCountService;
+    @Mock
+    private UserRepository userRepository;
     @InjectMocks
     private UserMeetingScheduleService userMeetingScheduleService;
 
@@ -220,4 +233,92 @@ class UserMeetingScheduleServiceTest {
         // then
         assertThat(response).isEqualTo(expected);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("저장된 [7/9 09:00 - 11:00], [7/9 13:00 - 14:00] 을 [7/9 13:00 - 14:00], [7/10 09:00 - 10:00] 으로 수정하면 바뀐 구간만 지우고 추가한다.")
+    void testUpdate() {
+        // given
+        LocalDate date = DateUtil.transformLocalDate("7", "9");
+        LocalDate nextDate = DateUtil.transformLocalDate("7", "10");
+        UserMeetingSchedule removed = UserMeetingSchedule.builder()
+                .userId(1L)
+                .meetingId(1L)
+                .availableDate(date)
+                .startTimeSlot(TimeSlot.SLOT_9_00)
+                .endTimeSlot(TimeSlot.SLOT_11_00)
+                .weight(1)
+                .build();
+        ReflectionTestUtils.setField(removed, "id", 10L);
+        UserMeetingSchedule kept = UserMeetingSchedule.builder()
+                .userId(1L)
+                .meetingId(1L)
+                .availableDate(date)
+                .startTimeSlot(TimeSlot.SLOT_13_00)
+                .endTimeSlot(TimeSlot.SLOT_14_00)
+                .weight(1)
+                .build();
+        ReflectionTestUtils.setField(kept, "id", 11L);
+        when(userMeetingScheduleRepository.findAllByMeetingIdAndUserId(1L, 1L)).thenReturn(List.of(removed, kept));
+
+        List<UserMeetingScheduleRegisterDto> requested = List.of(
+                new UserMeetingScheduleRegisterDto("7", "9", TimeSlot.SLOT_13_00, TimeSlot.SLOT_14_00, 1),
+                new UserMeetingScheduleRegisterDto("7", "10", TimeSlot.SLOT_9_00, TimeSlot.SLOT_10_00, 2)
+        );
+        ScheduleIntervalVo addedInterval = new ScheduleIntervalVo(nextDate, TimeSlot.SLOT_9_00, TimeSlot.SLOT_10_00, 2);
+
+        // when
+        userMeetingScheduleService.updateUserMeetingSchedule(1L, 1L, requested);
+
+        // then
+        verify(userMeetingScheduleRepository).deleteAllByIdIn(List.of(10L));
+        verify(userMeetingScheduleRepository).saveAll(argThat((Iterable<UserMeetingSchedule> schedules) -> {
+            List<UserMeetingSchedule> saved = new ArrayList<>();
+            schedules.forEach(saved::add);
+            return saved.size() == 1 && ScheduleIntervalVo.of(saved.get(0)).equals(addedInterval);
+        }));
+        verify(meetingSlotCountService).apply(
+                1L,
+                List.of(new ScheduleIntervalVo(date, TimeSlot.SLOT_9_00, TimeSlot.SLOT_11_00, 1)),
+                List.of(addedInterval)
+        );
+    }
+
+    @Test
+    @DisplayName("저장된 [7/9 09:00 - 10:00], [7/9 10:00 - 11:00], [7/9 13:00 - 14:00] 을 정리하면 맞닿은 두 구간만 [7/9 09:00 - 11:00] 으로 합친다.")
+    void testCompact() {
+        // given
+        LocalDate date = DateUtil.transformLocalDate("7", "9");
+        UserMeetingSchedule first = schedule(20L, date, TimeSlot.SLOT_9_00, TimeSlot.SLOT_10_00);
+        UserMeetingSchedule second = schedule(21L, date, TimeSlot.SLOT_10_00, TimeSlot.SLOT_11_00);
+        UserMeetingSchedule separated = schedule(22L, date, TimeSlot.SLOT_13_00, TimeSlot.SLOT_14_00);
+        when(userMeetingScheduleRepository.findAllByUserIdIn(List.of(1L))).thenReturn(List.of(second, separated, first));
+        ScheduleIntervalVo merged = new ScheduleIntervalVo(date, TimeSlot.SLOT_9_00, TimeSlot.SLOT_11_00, 1);
+
+        // when
+        int removed = userMeetingScheduleService.compact(List.of(1L));
+
+        // then
+        assertThat(removed).isEqualTo(1);
+        verify(userRepository).findAllByIdInForUpdate(List.of(1L));
+        verify(userMeetingScheduleRepository).deleteAllByIdIn(List.of(21L, 20L));
+        verify(userMeetingScheduleRepository).saveAll(argThat((Iterable<UserMeetingSchedule> schedules) -> {
+            List<UserMeetingSchedule> saved = new ArrayList<>();
+            schedules.forEach(saved::add);
+            return saved.size() == 1 && ScheduleIntervalVo.of(saved.get(0)).equals(merged);
+        }));
+        verifyNoInteractions(meetingSlotCountService);
+    }
+
+    private UserMeetingSchedule schedule(final long id, final LocalDate date, final TimeSlot startTime, final TimeSlot endTime) {
+        UserMeetingSchedule schedule = UserMeetingSchedule.builder()
+                .userId(1L)
+                .meetingId(1L)
+                .availableDate(date)
+                .startTimeSlot(startTime)
+                .endTimeSlot(endTime)
+                .weight(1)
+                .build();
+        ReflectionTestUtils.setField(schedule, "id", id);
+        return schedule;
+    }
+}
@@ -0,0 +1,95 @@
+package com.asap.server.service.time;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.BadRequestException;
+import com.asap.server.common.utils.DateUtil;
+import com.asap.server.persistence.domain.enums.TimeSlot;
+import com.asap.server.service.time.dto.register.UserMeetingScheduleRegisterDto;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserMeetingScheduleValidatorTest {
+    @Mock
+    private AvailableDateCache availableDateCache;
+    @InjectMocks
+    private UserMeetingScheduleValidator userMeetingScheduleValidator;
+
+    @BeforeEach
+    void setUp() {
+        when(availableDateCache.get(1L)).thenReturn(Set.of(
+                DateUtil.transformLocalDate("7", "9"),
+                DateUtil.transformLocalDate("7", "10")
+        ));
+    }
+
+    @DisplayName("input [7/9 09:00 - 12:00], [7/9 12:00 - 14:00], [7/10 09:00 - 12:00] 은 겹치지 않으므로 통과한다.")
+    @Test
+    void test() {
+        // given
+        List<UserMeetingScheduleRegisterDto> schedules = List.of(
+                new UserMeetingScheduleRegisterDto("7", "9", TimeSlot.SLOT_9_00, TimeSlot.SLOT_12_00, 1),
+                new UserMeetingScheduleRegisterDto("7", "9", TimeSlot.SLOT_12_00, TimeSlot.SLOT_14_00, 1),
+                new UserMeetingScheduleRegisterDto("7", "10", TimeSlot.SLOT_9_00, TimeSlot.SLOT_12_00, 1)
+        );
+
+        // when, then
+        assertThatCode(() -> userMeetingScheduleValidator.validate(1L, schedules))
+                .doesNotThrowAnyException();
+    }
+
+    @DisplayName("input [7/9 09:00 - 10:00], [7/9 13:00 - 14:00], [7/9 13:30 - 15:00] 은 세 번째 구간이 겹치므로 DUPLICATED_TIME_EXCEPTION 을 반환한다.")
+    @Test
+    void test2() {
+        // given
+        List<UserMeetingScheduleRegisterDto> schedules = List.of(
+                new UserMeetingScheduleRegisterDto("7", "9", TimeSlot.SLOT_9_00, TimeSlot.SLOT_10_00, 1),
+                new UserMeetingScheduleRegisterDto("7", "9", TimeSlot.SLOT_13_00, TimeSlot.SLOT_14_00, 1),
+                new UserMeetingScheduleRegisterDto("7", "9", TimeSlot.SLOT_13_30, TimeSlot.SLOT_15_00, 1)
+        );
+
+        // when, then
+        assertThatThrownBy(() -> userMeetingScheduleValidator.validate(1L, schedules))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(Error.DUPLICATED_TIME_EXCEPTION.getMessage());
+    }
+
+    @DisplayName("회의 가능 날짜가 아닌 날짜를 입력하면 INVALID_TIME_RANGE 를 반환한다.")
+    @Test
+    void test3() {
+        // given
+        List<UserMeetingScheduleRegisterDto> schedules = List.of(
+                new UserMeetingScheduleRegisterDto("7", "11", TimeSlot.SLOT_9_00, TimeSlot.SLOT_10_00, 1)
+        );
+
+        // when, then
+        assertThatThrownBy(() -> userMeetingScheduleValidator.validate(1L, schedules))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(Error.INVALID_TIME_RANGE.getMessage());
+    }
+
+    @DisplayName("시작 시간이 종료 시간보다 늦거나 같으면 INVALID_TIME_RANGE 를 반환한다.")
+    @Test
+    void test4() {
+        // given
+        List<UserMeetingScheduleRegisterDto> schedules = List.of(
+                new UserMeetingScheduleRegisterDto("7", "9", TimeSlot.SLOT_10_00, TimeSlot.SLOT_10_00, 1)
+        );
+
+        // when, then
+        assertThatThrownBy(() -> userMeetingScheduleValidator.validate(1L, schedules))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage(Error.INVALID_TIME_RANGE.getMessage());
+    }
+}
@@ -2,13 +2,19 @@ package com.asap.server.service.user;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.asap.server.common.exception.model.BadRequestException;
 import com.asap.server.common.exception.model.ConflictException;
+import com.asap.server.common.exception.Error;
 import com.asap.server.common.exception.model.HostTimeForbiddenException;
 import com.asap.server.common.exception.model.UnauthorizedException;
+import com.asap.server.common.exception.model.TooManyRequestException;
 import com.asap.server.common.jwt.JwtService;
+import com.asap.server.infra.redis.LoginAttemptThrottle;
 import com.asap.server.persistence.domain.ConfirmedDateTime;
 import com.asap.server.persistence.domain.Meeting;
 import com.asap.server.persistence.domain.enums.Role;
@@ -31,12 +37,15 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
 class UserLoginServiceTest {
+    private static final String CLIENT_IP = "0.0.0.1";
     @Mock
     private MeetingRepository meetingRepository;
     @Mock
     private JwtService jwtService;
     @Mock
     private UserMeetingScheduleService userMeetingScheduleService;
+    @Mock
+    private LoginAttemptThrottle loginAttemptThrottle;
     private final PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
     UserLoginService userLoginService;
 
@@ -46,7 +55,8 @@ class UserLoginServiceTest {
                 meetingRepository,
                 userMeetingScheduleService,
                 jwtService,
-                passwordEncoder
+                passwordEncoder,
+                loginAttemptThrottle
         );
     }
 
@@ -76,10 +86,11 @@ class UserLoginServiceTest {
         String expected = "access token";
 
         // when
-        String response = userLoginService.loginByHost(meetingId, "KWY", "0000");
+        String response = userLoginService.loginByHost(meetingId, "KWY", "0000", CLIENT_IP);
 
         // then
         assertThat(response).isEqualTo(expected);
+        verify(loginAttemptThrottle, never()).recordFailure(meetingId, CLIENT_IP);
     }
 
     @DisplayName("특정 회의의 방장 이름과 일치하지 않는다면 UnauthorizedException 에러를 반환한다.")
@@ -106,7 +117,7 @@ class UserLoginServiceTest {
 
         // when, then
         assertThatThrownBy(() -> {
-            userLoginService.loginByHost(meetingId, name, "0000");
+            userLoginService.loginByHost(meetingId, name, "0000", CLIENT_IP);
         }).isInstanceOf(UnauthorizedException.class);
     }
 
@@ -134,8 +145,9 @@ class UserLoginServiceTest {
 
         // when, then
         assertThatThrownBy(() -> {
-            userLoginService.loginByHost(meetingId, "KWY", password);
+            userLoginService.loginByHost(meetingId, "KWY", password, CLIENT_IP);
         }).isInstanceOf(UnauthorizedException.class);
+        verify(loginAttemptThrottle).recordFailure(meetingId, CLIENT_IP);
     }
 
     @DisplayName("이미 확정된 회의라면 ConflictException 에러를 반환한다.")
@@ -162,7 +174,7 @@ class UserLoginServiceTest {
 
         // when, then
         assertThatThrownBy(() -> {
-            userLoginService.loginByHost(meetingId, "KWY", "0000");
+            userLoginService.loginByHost(meetingId, "KWY", "0000", CLIENT_IP);
         }).isInstanceOf(ConflictException.class);
     }
 
@@ -191,7 +203,7 @@ class UserLoginServiceTest {
 
         // when, then
         assertThatThrownBy(() -> {
-            userLoginService.loginByHost(meetingId, "KWY", "0000");
+            userLoginService.loginByHost(meetingId, "KWY", "0000", CLIENT_IP);
         }).isInstanceOf(HostTimeForbiddenException.class);
     }
 
@@ -219,7 +231,37 @@ class UserLoginServiceTest {
 
         // when, then
         assertThatThrownBy(() -> {
-            userLoginService.loginByHost(meetingId, name, "0000");
+            userLoginService.loginByHost(meetingId, name, "0000", CLIENT_IP);
         }).isInstanceOf(BadRequestException.class);
     }
-}
\ No newline at end of file
+
+    @DisplayName("로그인 시도 횟수를 초과했다면 비밀번호를 검증하지 않고 TooManyRequestException 을 반환한다.")
+    @Test
+    void test7() {
+        // given
+        long meetingId = 1L;
+        String encodedPassword = passwordEncoder.encode("0000");
+        final Meeting meeting = Meeting.builder()
+                .id(meetingId)
+                .password(encodedPassword)
+                .build();
+        Name hostName = new Name("KWY");
+        final User host = User.builder()
+                .id(1L)
+                .meeting(meeting)
+                .name(hostName)
+                .role(Role.HOST)
+                .isFixed(false)
+                .build();
+        meeting.setHost(host);
+        when(meetingRepository.findByIdWithHost(meetingId)).thenReturn(Optional.of(meeting));
+        doThrow(new TooManyRequestException(Error.LOGIN_ATTEMPT_EXCEEDED_EXCEPTION))
+                .when(loginAttemptThrottle).check(meetingId, CLIENT_IP);
+
+        // when, then
+        assertThatThrownBy(() -> {
+            userLoginService.loginByHost(meetingId, "KWY", "0000", CLIENT_IP);
+        }).isInstanceOf(TooManyRequestException.class);
+        verify(loginAttemptThrottle, never()).recordFailure(meetingId, CLIENT_IP);
+    }
+}
@@ -1,13 +1,17 @@
 package com.asap.server.service.user;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.ConflictException;
 import com.asap.server.persistence.domain.user.User;
 import com.asap.server.persistence.repository.user.UserRepository;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -58,4 +62,29 @@ class UserRetrieveServiceTest {
         // then
         assertThat(result).isEqualTo(expected);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("비동기로 접수한 가능 시간이 저장되었으면, 접수 id 로 참여자 id 를 찾는다.")
+    void test3() {
+        // given
+        when(userRepository.findBySubmissionId("submission")).thenReturn(Optional.of(User.builder().id(1L).build()));
+
+        // when
+        Long result = userRetrieveService.getUserIdBySubmissionId("submission");
+
+        // then
+        assertThat(result).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("비동기로 접수한 가능 시간이 아직 저장되지 않았으면, 409 를 던진다.")
+    void test4() {
+        // given
+        when(userRepository.findBySubmissionId("submission")).thenReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> userRetrieveService.getUserIdBySubmissionId("submission"))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage(Error.USER_TIME_SUBMISSION_PENDING_EXCEPTION.getMessage());
+    }
+}
@@ -0,0 +1,100 @@
+package com.asap.server.service.user;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.asap.server.persistence.domain.Meeting;
+import com.asap.server.persistence.domain.enums.Role;
+import com.asap.server.persistence.domain.user.Name;
+import com.asap.server.persistence.domain.user.User;
+import com.asap.server.persistence.repository.user.UserRepository;
+import com.asap.server.service.UserService;
+import com.asap.server.service.time.TimeTableChangeLogService;
+import com.asap.server.service.time.UserMeetingScheduleService;
+import com.asap.server.service.time.dto.register.UserTimeRegisterDto;
+import com.asap.server.service.time.dto.register.UserTimeSubmissionDto;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class UserTimeBatchWriterTest {
+    @Mock
+    private TimeTableChangeLogService timeTableChangeLogService;
+    @Mock
+    private UserService userService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserMeetingScheduleService userMeetingScheduleService;
+    @InjectMocks
+    private UserTimeBatchWriter userTimeBatchWriter;
+
+    @Test
+    @DisplayName("참여자를 저장하기 전에 배치에 포함된 회의를 한 번에 잠근다.")
+    void test() {
+        // given
+        Meeting meeting = newMeeting(1L);
+        User user = User.builder().build();
+        ReflectionTestUtils.setField(user, "id", 10L);
+        UserTimeSubmissionDto submission = newSubmission("submission", 1L);
+        when(timeTableChangeLogService.lockMeetings(Set.of(1L))).thenReturn(List.of(meeting));
+        when(userRepository.existsBySubmissionId("submission")).thenReturn(false);
+        when(userService.createUser(eq(meeting), any(Name.class), eq(Role.MEMBER), eq("submission"))).thenReturn(user);
+
+        // when
+        userTimeBatchWriter.writeAll(List.of(submission));
+
+        // then
+        verify(userMeetingScheduleService).createUserMeetingSchedule(1L, 10L, List.of());
+    }
+
+    @Test
+    @DisplayName("이미 저장된 제출이 다시 전달되면 참여자를 새로 만들지 않는다.")
+    void test2() {
+        // given
+        Meeting meeting = newMeeting(1L);
+        when(timeTableChangeLogService.lockMeetings(Set.of(1L))).thenReturn(List.of(meeting));
+        when(userRepository.existsBySubmissionId("submission")).thenReturn(true);
+
+        // when
+        userTimeBatchWriter.writeAll(List.of(newSubmission("submission", 1L)));
+
+        // then
+        verify(userService, never()).createUser(any(), any(), any(), any());
+        verify(userMeetingScheduleService, never()).createUserMeetingSchedule(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("회의가 삭제된 제출은 건너뛴다.")
+    void test3() {
+        // given
+        when(timeTableChangeLogService.lockMeetings(Set.of(2L))).thenReturn(List.of());
+
+        // when
+        userTimeBatchWriter.writeAll(List.of(newSubmission("submission", 2L)));
+
+        // then
+        verify(userService, never()).createUser(any(), any(), any(), eq("submission"));
+    }
+
+    private Meeting newMeeting(final long id) {
+        Meeting meeting = Meeting.builder().build();
+        ReflectionTestUtils.setField(meeting, "id", id);
+        return meeting;
+    }
+
+    private UserTimeSubmissionDto newSubmission(final String submissionId, final long meetingId) {
+        return new UserTimeSubmissionDto(submissionId, meetingId, new UserTimeRegisterDto("KWY", List.of()));
+    }
+}
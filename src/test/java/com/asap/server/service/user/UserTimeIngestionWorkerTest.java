@@ -0,0 +1,127 @@
+package com.asap.server.service.user;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.asap.server.common.exception.Error;
+import com.asap.server.common.exception.model.BadRequestException;
+import com.asap.server.infra.redis.UserTimeSubmissionStream;
+import com.asap.server.service.time.dto.register.UserTimeRegisterDto;
+import com.asap.server.service.time.dto.register.UserTimeSubmissionDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.StreamMessageId;
+
+@ExtendWith(MockitoExtension.class)
+class UserTimeIngestionWorkerTest {
+    private static final StreamMessageId FIRST_ID = new StreamMessageId(1L, 0L);
+    private static final StreamMessageId SECOND_ID = new StreamMessageId(2L, 0L);
+
+    @Mock
+    private UserTimeSubmissionStream userTimeSubmissionStream;
+    @Mock
+    private UserTimeBatchWriter userTimeBatchWriter;
+    private UserTimeIngestionWorker userTimeIngestionWorker;
+
+    @BeforeEach
+    void setUp() {
+        userTimeIngestionWorker = new UserTimeIngestionWorker(
+                userTimeSubmissionStream,
+                userTimeBatchWriter,
+                new SimpleMeterRegistry(),
+                10,
+                100,
+                60,
+                3
+        );
+    }
+
+    @Test
+    @DisplayName("배치 저장이 성공하면 배치의 메시지를 모두 ack 한다.")
+    void test() {
+        // given
+        UserTimeSubmissionDto first = newSubmission("first");
+        UserTimeSubmissionDto second = newSubmission("second");
+        when(userTimeSubmissionStream.read(anyString(), anyInt(), any(Duration.class)))
+                .thenReturn(messages(first, second));
+
+        // when
+        userTimeIngestionWorker.poll();
+
+        // then
+        verify(userTimeBatchWriter).writeAll(List.of(first, second));
+        verify(userTimeSubmissionStream).acknowledge(FIRST_ID, SECOND_ID);
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 한 건씩 다시 저장하고, 잘못된 요청은 버리고 일시적인 실패는 ack 하지 않는다.")
+    void test2() {
+        // given
+        UserTimeSubmissionDto invalid = newSubmission("invalid");
+        UserTimeSubmissionDto failing = newSubmission("failing");
+        when(userTimeSubmissionStream.read(anyString(), anyInt(), any(Duration.class)))
+                .thenReturn(messages(invalid, failing));
+        doThrow(new IllegalStateException("batch failed"))
+                .when(userTimeBatchWriter).writeAll(List.of(invalid, failing));
+        doThrow(new BadRequestException(Error.INVALID_TIME_RANGE))
+                .when(userTimeBatchWriter).writeAll(List.of(invalid));
+        doThrow(new IllegalStateException("connection lost"))
+                .when(userTimeBatchWriter).writeAll(List.of(failing));
+
+        // when
+        userTimeIngestionWorker.poll();
+
+        // then
+        verify(userTimeSubmissionStream).acknowledge(FIRST_ID);
+        verify(userTimeSubmissionStream, never()).acknowledge(SECOND_ID);
+    }
+
+    @Test
+    @DisplayName("전달 횟수가 상한을 넘은 메시지는 저장하지 않고 dead letter 로 옮긴다.")
+    void test3() {
+        // given
+        UserTimeSubmissionDto poisoned = newSubmission("poisoned");
+        UserTimeSubmissionDto retried = newSubmission("retried");
+        when(userTimeSubmissionStream.claimStale(anyString(), anyInt(), any(Duration.class)))
+                .thenReturn(messages(poisoned, retried));
+        when(userTimeSubmissionStream.deliveryCounts(anyString(), any()))
+                .thenReturn(Map.of(FIRST_ID, 4L, SECOND_ID, 2L));
+
+        // when
+        userTimeIngestionWorker.poll();
+
+        // then
+        verify(userTimeSubmissionStream).deadLetter(eq(FIRST_ID), eq(poisoned));
+        verify(userTimeBatchWriter).writeAll(List.of(retried));
+        verify(userTimeSubmissionStream).acknowledge(SECOND_ID);
+    }
+
+    private Map<StreamMessageId, UserTimeSubmissionDto> messages(
+            final UserTimeSubmissionDto first,
+            final UserTimeSubmissionDto second
+    ) {
+        Map<StreamMessageId, UserTimeSubmissionDto> messages = new LinkedHashMap<>();
+        messages.put(FIRST_ID, first);
+        messages.put(SECOND_ID, second);
+        return messages;
+    }
+
+    private UserTimeSubmissionDto newSubmission(final String submissionId) {
+        return new UserTimeSubmissionDto(submissionId, 1L, new UserTimeRegisterDto("KWY", List.of()));
+    }
+}